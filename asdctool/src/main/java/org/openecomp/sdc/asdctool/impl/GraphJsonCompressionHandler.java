@@ -0,0 +1,117 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.asdctool.impl;
+
+import fj.data.Either;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.janusgraph.core.JanusGraph;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
+import org.openecomp.sdc.be.dao.jsongraph.utils.JsonPropertyCodec;
+import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Rewrites the json property of all the graph vertices, either compressed or as plain json.
+ */
+@org.springframework.stereotype.Component("graphJsonCompressionHandler")
+public class GraphJsonCompressionHandler {
+
+    private static final Logger log = Logger.getLogger(GraphJsonCompressionHandler.class);
+    private static final int COMMIT_BATCH_SIZE = 500;
+
+    private JanusGraphDao janusGraphDao;
+
+    public GraphJsonCompressionHandler(JanusGraphDao janusGraphDao) {
+        this.janusGraphDao = janusGraphDao;
+    }
+
+    public boolean handle(String mode, int minSizeBytes) {
+        switch (mode) {
+            case "compress":
+                return rewriteJsonProperties(true, minSizeBytes);
+            case "decompress":
+                return rewriteJsonProperties(false, minSizeBytes);
+            default:
+                log.debug("#handle - The invalid mode parameter has been received: {}", mode);
+                return false;
+        }
+    }
+
+    private boolean rewriteJsonProperties(boolean compress, int minSizeBytes) {
+        Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphDao.getGraph();
+        if (graph.isRight()) {
+            log.debug("#rewriteJsonProperties - Failed to get the graph, status {}", graph.right().value());
+            return false;
+        }
+        JanusGraph janusGraph = graph.left().value();
+        List<Object> vertexIds = getVertexIdsWithJson(janusGraph);
+        log.info("#rewriteJsonProperties - Found {} vertices with a json property", vertexIds.size());
+        int rewritten = 0;
+        try {
+            for (int i = 0; i < vertexIds.size(); i++) {
+                Iterator<Vertex> vertices = janusGraph.vertices(vertexIds.get(i));
+                if (vertices.hasNext() && rewriteJsonProperty(vertices.next(), compress, minSizeBytes)) {
+                    rewritten++;
+                }
+                if ((i + 1) % COMMIT_BATCH_SIZE == 0) {
+                    janusGraphDao.commit();
+                    log.info("#rewriteJsonProperties - Processed {} of {} vertices", i + 1, vertexIds.size());
+                }
+            }
+            janusGraphDao.commit();
+        } catch (Exception e) {
+            janusGraphDao.rollback();
+            log.debug("#rewriteJsonProperties - Failed to rewrite the json properties. The exception occurred: ", e);
+            return false;
+        }
+        log.info("#rewriteJsonProperties - Rewrote the json property of {} vertices", rewritten);
+        return true;
+    }
+
+    private List<Object> getVertexIdsWithJson(JanusGraph janusGraph) {
+        List<Object> vertexIds = new ArrayList<>();
+        janusGraph.query().has(GraphPropertyEnum.JSON.getProperty()).vertices().forEach(vertex -> vertexIds.add(vertex.id()));
+        janusGraphDao.commit();
+        return vertexIds;
+    }
+
+    private boolean rewriteJsonProperty(Vertex vertex, boolean compress, int minSizeBytes) throws IOException {
+        VertexProperty<String> property = vertex.property(GraphPropertyEnum.JSON.getProperty());
+        if (!property.isPresent()) {
+            return false;
+        }
+        String stored = property.value();
+        String json = JsonPropertyCodec.decode(stored);
+        String rewritten = compress ? JsonPropertyCodec.encode(json, minSizeBytes) : json;
+        if (rewritten.equals(stored)) {
+            return false;
+        }
+        vertex.property(GraphPropertyEnum.JSON.getProperty(), rewritten);
+        return true;
+    }
+}
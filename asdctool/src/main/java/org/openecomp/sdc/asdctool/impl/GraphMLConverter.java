@@ -23,16 +23,23 @@ package org.openecomp.sdc.asdctool.impl;
 import com.google.gson.Gson;
 import org.apache.commons.configuration.BaseConfiguration;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.io.IoCore;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONMapper;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONReader;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONWriter;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
 import org.janusgraph.core.JanusGraph;
 import org.janusgraph.core.JanusGraphFactory;
 import org.janusgraph.core.JanusGraphQuery;
+import org.janusgraph.core.JanusGraphTransaction;
 import org.janusgraph.core.JanusGraphVertex;
+import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
 import org.openecomp.sdc.be.dao.neo4j.GraphPropertiesDictionary;
 import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
 import org.openecomp.sdc.common.log.wrappers.Logger;
@@ -43,12 +50,30 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.FileWriter;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.openecomp.sdc.asdctool.Utils.getProperties;
 
@@ -66,6 +91,28 @@ public class GraphMLConverter {
 
     private static final String NODE_LABEL = "nodeLabel";
 
+    private static final String OTHER_PARTITION = "_other";
+
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private static final String DOT_TMP = ".tmp";
+
+    private static final String DOT_IDS = ".ids";
+
+    private static final String DOT_EDGES = ".edges";
+
+    private static final String EXPORT_STEP = "export:";
+
+    private static final String VERTICES_STEP = "vertices:";
+
+    private static final String EDGES_STEP = "edges:";
+
+    private static final String ID_SEPARATOR = "=";
+
+    private static final int PARTITION_BATCH_SIZE = 1000;
+
+    private static final int DEFAULT_PARTITION_THREADS = 4;
+
     private static Logger log = Logger.getLogger(GraphMLConverter.class.getName());
 
     private Gson gson = new Gson();
@@ -79,21 +126,32 @@ public class GraphMLConverter {
             String inputFile = args[2];
             graph = openGraph(janusGraphFileLocation);
 
-            List<ImmutablePair<String, String>> propertiesCriteriaToDelete = new ArrayList<>();
-            ImmutablePair<String, String> immutablePair1 = new ImmutablePair<>("healthcheckis", "GOOD");
-            ImmutablePair<String, String> immutablePair2 = new ImmutablePair<>(NODE_LABEL, "user");
-            ImmutablePair<String, String> immutablePair3 = new ImmutablePair<>(NODE_LABEL, "resourceCategory");
-            ImmutablePair<String, String> immutablePair4 = new ImmutablePair<>(NODE_LABEL, "serviceCategory");
+            return importJsonGraph(graph, inputFile, getPropertiesCriteriaToDelete());
+
+        } catch (Exception e) {
+            log.info("import graph failed ", e);
+            return false;
+        } finally {
+            if (graph != null) {
+                graph.close();
+            }
+        }
+
+    }
+
+    public boolean importPartitionedGraph(String[] args) {
 
-            propertiesCriteriaToDelete.add(immutablePair1);
-            propertiesCriteriaToDelete.add(immutablePair2);
-            propertiesCriteriaToDelete.add(immutablePair3);
-            propertiesCriteriaToDelete.add(immutablePair4);
+        JanusGraph graph = null;
+        try {
+            String janusGraphFileLocation = args[1];
+            String partitionsDirectory = args[2];
+            int threads = getPartitionThreads(args);
+            graph = openGraph(janusGraphFileLocation);
 
-            return importJsonGraph(graph, inputFile, propertiesCriteriaToDelete);
+            return importPartitionedJsonGraph(graph, partitionsDirectory, threads, getPropertiesCriteriaToDelete());
 
         } catch (Exception e) {
-            log.info("import graph failed ", e);
+            log.info("import partitioned graph failed ", e);
             return false;
         } finally {
             if (graph != null) {
@@ -103,6 +161,20 @@ public class GraphMLConverter {
 
     }
 
+    List<ImmutablePair<String, String>> getPropertiesCriteriaToDelete() {
+        List<ImmutablePair<String, String>> propertiesCriteriaToDelete = new ArrayList<>();
+        ImmutablePair<String, String> immutablePair1 = new ImmutablePair<>("healthcheckis", "GOOD");
+        ImmutablePair<String, String> immutablePair2 = new ImmutablePair<>(NODE_LABEL, "user");
+        ImmutablePair<String, String> immutablePair3 = new ImmutablePair<>(NODE_LABEL, "resourceCategory");
+        ImmutablePair<String, String> immutablePair4 = new ImmutablePair<>(NODE_LABEL, "serviceCategory");
+
+        propertiesCriteriaToDelete.add(immutablePair1);
+        propertiesCriteriaToDelete.add(immutablePair2);
+        propertiesCriteriaToDelete.add(immutablePair3);
+        propertiesCriteriaToDelete.add(immutablePair4);
+        return propertiesCriteriaToDelete;
+    }
+
     public boolean exportGraph(String[] args) {
 
         JanusGraph graph = null;
@@ -130,6 +202,31 @@ public class GraphMLConverter {
         return true;
     }
 
+    public boolean exportPartitionedGraph(String[] args) {
+
+        JanusGraph graph = null;
+        try {
+            String janusGraphFileLocation = args[1];
+            String partitionsDirectory = args[2];
+            int threads = getPartitionThreads(args);
+            graph = openGraph(janusGraphFileLocation);
+
+            return exportPartitionedJsonGraph(graph, partitionsDirectory, threads);
+
+        } catch (Exception e) {
+            log.info("export partitioned graph failed ", e);
+            return false;
+        } finally {
+            if (graph != null) {
+                graph.close();
+            }
+        }
+    }
+
+    private int getPartitionThreads(String[] args) {
+        return args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_PARTITION_THREADS;
+    }
+
     public String exportGraphMl(String[] args) {
 
         JanusGraph graph = null;
@@ -229,6 +326,304 @@ public class GraphMLConverter {
 
     }
 
+    /**
+     * Exports the graph to a file per partition of its vertices, each vertex written with its out edges. The vertices
+     * are partitioned by their node label, the vertices with no known label are written to a last partition, and the
+     * partitions are exported in parallel. The exported partitions are recorded in a checkpoint file, so running the
+     * export again on the same directory resumes it from the partitions which were not exported.
+     *
+     * @return true if all the partitions were exported
+     */
+    public boolean exportPartitionedJsonGraph(JanusGraph graph, String partitionsDirectory, int threads) {
+        try {
+            Path directory = Files.createDirectories(Paths.get(partitionsDirectory));
+            GraphPartitionCheckpoint checkpoint = new GraphPartitionCheckpoint(directory.resolve(CHECKPOINT_FILE));
+            GraphSONWriter writer = GraphSONWriter.build().mapper(newGraphSONMapper(graph)).create();
+            Set<String> labels = getPartitionLabels();
+            List<String> partitions = new ArrayList<>(labels);
+            partitions.add(OTHER_PARTITION);
+            partitions.removeIf(partition -> checkpoint.isCompleted(EXPORT_STEP + partition));
+            log.info("Going to export {} partitions of the graph to {}", partitions.size(), directory);
+
+            return runPartitions(partitions, threads,
+                partition -> exportPartition(graph, partition, labels, directory, writer, checkpoint));
+        } catch (IOException e) {
+            log.info("export partitioned Json Graph failed ", e);
+            return false;
+        }
+    }
+
+    private Set<String> getPartitionLabels() {
+        Set<String> labels = new LinkedHashSet<>();
+        for (NodeTypeEnum nodeTypeEnum : NodeTypeEnum.values()) {
+            labels.add(nodeTypeEnum.getName());
+        }
+        for (VertexTypeEnum vertexTypeEnum : VertexTypeEnum.values()) {
+            labels.add(vertexTypeEnum.getName());
+        }
+        return labels;
+    }
+
+    private void exportPartition(JanusGraph graph, String partition, Set<String> labels, Path directory,
+                                 GraphSONWriter writer, GraphPartitionCheckpoint checkpoint) throws IOException {
+        Path tempFile = directory.resolve(partition + DOT_JSON + DOT_TMP);
+        JanusGraphTransaction tx = graph.newTransaction();
+        try (final OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+            writer.writeVertices(out, getPartitionVertices(tx, partition, labels), Direction.OUT);
+        } finally {
+            tx.rollback();
+        }
+        Files.move(tempFile, directory.resolve(partition + DOT_JSON), StandardCopyOption.REPLACE_EXISTING);
+        checkpoint.complete(EXPORT_STEP + partition);
+        log.info("Exported partition {}", partition);
+    }
+
+    private Iterator<Vertex> getPartitionVertices(JanusGraphTransaction tx, String partition, Set<String> labels) {
+        String labelProperty = GraphPropertiesDictionary.LABEL.getProperty();
+        if (OTHER_PARTITION.equals(partition)) {
+            return tx.traversal().V().or(__.hasNot(labelProperty), __.has(labelProperty, P.without(labels)));
+        }
+        return tx.traversal().V().has(labelProperty, partition);
+    }
+
+    /**
+     * Imports a graph exported by {@link #exportPartitionedJsonGraph}. The vertices of all the partitions are imported
+     * first and then their edges, the partitions of each step in parallel and committed in batches. The imported
+     * partitions, and the vertices imported so far in the partitions which were not completed, are recorded in the
+     * partitions directory, so running the import again on the same graph resumes it where it stopped.
+     *
+     * @return true if all the partitions were imported
+     */
+    public boolean importPartitionedJsonGraph(JanusGraph graph, String partitionsDirectory, int threads,
+                                              List<ImmutablePair<String, String>> propertiesCriteriaToDelete) {
+        Path directory = Paths.get(partitionsDirectory);
+        if (!Files.isDirectory(directory)) {
+            log.info("Directory {} cannot be found.", partitionsDirectory);
+            return false;
+        }
+        try {
+            GraphPartitionCheckpoint checkpoint = new GraphPartitionCheckpoint(directory.resolve(CHECKPOINT_FILE));
+            // the checkpoint file is shared with the export, only the steps of the import tell it was started already
+            boolean resumed = checkpoint.hasCompletedStep(VERTICES_STEP) || checkpoint.hasCompletedStep(EDGES_STEP);
+            if (!resumed && propertiesCriteriaToDelete != null) {
+                removeVertices(graph, propertiesCriteriaToDelete);
+            }
+            List<String> partitions;
+            try (Stream<Path> files = Files.list(directory)) {
+                partitions = files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.endsWith(DOT_JSON))
+                    .map(fileName -> fileName.substring(0, fileName.length() - DOT_JSON.length()))
+                    .collect(Collectors.toList());
+            }
+            GraphSONReader reader = GraphSONReader.build().mapper(newGraphSONMapper(graph)).create();
+            Map<String, Long> importedVertexIds = new ConcurrentHashMap<>();
+            log.info("Going to import {} partitions of the graph from {}", partitions.size(), directory);
+
+            return runPartitions(partitions, threads,
+                    partition -> importPartitionVertices(graph, partition, directory, reader, importedVertexIds,
+                        checkpoint))
+                && runPartitions(partitions, threads,
+                    partition -> importPartitionEdges(graph, partition, directory, reader, importedVertexIds,
+                        checkpoint));
+        } catch (IOException e) {
+            log.info("Failed to import partitioned graph ", e);
+            return false;
+        }
+    }
+
+    private void removeVertices(JanusGraph graph, List<ImmutablePair<String, String>> propertiesCriteriaToDelete) {
+        for (Entry<String, String> entry : propertiesCriteriaToDelete) {
+            String key = entry.getKey();
+            String value = entry.getValue();
+            for (JanusGraphVertex janusGraphVertex : graph.query().has(key, value).vertices()) {
+                janusGraphVertex.remove();
+                log.info("Remove vertex of type {} and value {}", key, value);
+            }
+        }
+        graph.tx().commit();
+    }
+
+    private void importPartitionVertices(JanusGraph graph, String partition, Path directory, GraphSONReader reader,
+                                         Map<String, Long> importedVertexIds, GraphPartitionCheckpoint checkpoint)
+        throws IOException {
+        Path idsFile = directory.resolve(partition + DOT_IDS);
+        boolean completed = checkpoint.isCompleted(VERTICES_STEP + partition);
+        loadImportedVertexIds(graph, idsFile, importedVertexIds, !completed);
+        if (completed) {
+            return;
+        }
+        JanusGraphTransaction tx = graph.newTransaction();
+        try (final InputStream is = new BufferedInputStream(Files.newInputStream(directory.resolve(partition + DOT_JSON)))) {
+            Iterator<Vertex> vertices = reader.readVertices(is, Attachable::get, Attachable::get, Direction.OUT);
+            Map<String, JanusGraphVertex> batch = new HashMap<>();
+            while (vertices.hasNext()) {
+                Vertex vertex = vertices.next();
+                String vertexId = vertex.id().toString();
+                if (importedVertexIds.containsKey(vertexId)) {
+                    continue;
+                }
+                JanusGraphVertex newVertex =
+                    Vertex.DEFAULT_LABEL.equals(vertex.label()) ? tx.addVertex() : tx.addVertex(vertex.label());
+                vertex.properties().forEachRemaining(property -> newVertex.property(property.key(), property.value()));
+                batch.put(vertexId, newVertex);
+                if (batch.size() >= PARTITION_BATCH_SIZE) {
+                    commitVertices(tx, batch, idsFile, importedVertexIds);
+                    tx = graph.newTransaction();
+                }
+            }
+            commitVertices(tx, batch, idsFile, importedVertexIds);
+        } finally {
+            if (tx.isOpen()) {
+                tx.rollback();
+            }
+        }
+        checkpoint.complete(VERTICES_STEP + partition);
+        log.info("Imported the vertices of partition {}", partition);
+    }
+
+    /**
+     * Reads the vertices recorded in the ids file of a partition. The ids of a batch are recorded before the batch is
+     * committed, so unless the partition was completed, the recorded vertices which are not in the graph are dropped
+     * and imported again.
+     */
+    private void loadImportedVertexIds(JanusGraph graph, Path idsFile, Map<String, Long> importedVertexIds,
+                                       boolean verify) throws IOException {
+        Map<String, Long> recordedVertexIds = new HashMap<>();
+        for (String line : GraphPartitionCheckpoint.readLines(idsFile)) {
+            String[] ids = line.split(ID_SEPARATOR);
+            recordedVertexIds.put(ids[0], Long.valueOf(ids[1]));
+        }
+        if (!verify) {
+            importedVertexIds.putAll(recordedVertexIds);
+            return;
+        }
+        JanusGraphTransaction tx = graph.newTransaction();
+        try {
+            recordedVertexIds.forEach((vertexId, importedVertexId) -> {
+                if (tx.getVertex(importedVertexId) != null) {
+                    importedVertexIds.put(vertexId, importedVertexId);
+                } else {
+                    log.info("Vertex {} was recorded but not committed, it is imported again", vertexId);
+                }
+            });
+        } finally {
+            tx.rollback();
+        }
+    }
+
+    private void commitVertices(JanusGraphTransaction tx, Map<String, JanusGraphVertex> batch, Path idsFile,
+                                Map<String, Long> importedVertexIds) throws IOException {
+        // the ids are assigned when the vertices are added, so they are recorded before the commit, and a batch which
+        // was committed is never imported twice
+        List<String> ids = new ArrayList<>();
+        for (Entry<String, JanusGraphVertex> entry : batch.entrySet()) {
+            ids.add(entry.getKey() + ID_SEPARATOR + entry.getValue().longId());
+        }
+        GraphPartitionCheckpoint.appendLines(idsFile, ids);
+        tx.commit();
+        batch.forEach((vertexId, newVertex) -> importedVertexIds.put(vertexId, newVertex.longId()));
+        batch.clear();
+    }
+
+    private void importPartitionEdges(JanusGraph graph, String partition, Path directory, GraphSONReader reader,
+                                      Map<String, Long> importedVertexIds, GraphPartitionCheckpoint checkpoint)
+        throws IOException {
+        if (checkpoint.isCompleted(EDGES_STEP + partition)) {
+            return;
+        }
+        Path edgesFile = directory.resolve(partition + DOT_EDGES);
+        Set<String> recordedVertices = new HashSet<>(GraphPartitionCheckpoint.readLines(edgesFile));
+        JanusGraphTransaction tx = graph.newTransaction();
+        try (final InputStream is = new BufferedInputStream(Files.newInputStream(directory.resolve(partition + DOT_JSON)))) {
+            Iterator<Vertex> vertices = reader.readVertices(is, Attachable::get, Attachable::get, Direction.OUT);
+            List<String> batch = new ArrayList<>();
+            while (vertices.hasNext()) {
+                Vertex vertex = vertices.next();
+                String vertexId = vertex.id().toString();
+                if (recordedVertices.contains(vertexId) && hasImportedEdges(tx, importedVertexIds, vertexId)) {
+                    continue;
+                }
+                Iterator<Edge> edges = vertex.edges(Direction.OUT);
+                if (edges.hasNext()) {
+                    JanusGraphVertex outVertex = tx.getVertex(getImportedVertexId(importedVertexIds, vertexId));
+                    while (edges.hasNext()) {
+                        Edge edge = edges.next();
+                        JanusGraphVertex inVertex = tx.getVertex(
+                            getImportedVertexId(importedVertexIds, edge.inVertex().id().toString()));
+                        Edge newEdge = outVertex.addEdge(edge.label(), inVertex);
+                        edge.properties().forEachRemaining(property -> newEdge.property(property.key(), property.value()));
+                    }
+                    batch.add(vertexId);
+                }
+                if (batch.size() >= PARTITION_BATCH_SIZE) {
+                    GraphPartitionCheckpoint.appendLines(edgesFile, batch);
+                    tx.commit();
+                    batch.clear();
+                    tx = graph.newTransaction();
+                }
+            }
+            GraphPartitionCheckpoint.appendLines(edgesFile, batch);
+            tx.commit();
+        } finally {
+            if (tx.isOpen()) {
+                tx.rollback();
+            }
+        }
+        checkpoint.complete(EDGES_STEP + partition);
+        log.info("Imported the edges of partition {}", partition);
+    }
+
+    /**
+     * The vertices of a batch are recorded in the edges file before the batch is committed. The out edges of an
+     * imported vertex are all added by its own partition in the same batch, so the edges of a recorded vertex were
+     * committed if it has any out edge.
+     */
+    private boolean hasImportedEdges(JanusGraphTransaction tx, Map<String, Long> importedVertexIds, String vertexId) {
+        return tx.getVertex(getImportedVertexId(importedVertexIds, vertexId)).edges(Direction.OUT).hasNext();
+    }
+
+    private long getImportedVertexId(Map<String, Long> importedVertexIds, String vertexId) {
+        Long importedVertexId = importedVertexIds.get(vertexId);
+        if (importedVertexId == null) {
+            throw new IllegalStateException("Vertex " + vertexId + " was not imported");
+        }
+        return importedVertexId;
+    }
+
+    private boolean runPartitions(Collection<String> partitions, int threads, PartitionTask task) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (String partition : partitions) {
+                futures.add(executor.submit(() -> {
+                    task.run(partition);
+                    return null;
+                }));
+            }
+            boolean result = true;
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.info("Failed to process a partition of the graph ", e.getCause());
+                    result = false;
+                }
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface PartitionTask {
+
+        void run(String partition) throws IOException;
+    }
+
     private static GraphSONMapper newGraphSONMapper(final Graph graph) {
         final GraphSONMapper.Builder builder = graph.io(IoCore.graphson()).mapper();
         return builder.create();
@@ -0,0 +1,73 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.asdctool.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The steps of a partitioned graph export or import which were completed, kept in a file of the partitions directory
+ * so that an export or import which failed can be resumed from the partitions which were not completed.
+ */
+class GraphPartitionCheckpoint {
+
+    private final Path checkpointFile;
+    private final Set<String> completedSteps = ConcurrentHashMap.newKeySet();
+
+    GraphPartitionCheckpoint(Path checkpointFile) throws IOException {
+        this.checkpointFile = checkpointFile;
+        completedSteps.addAll(readLines(checkpointFile));
+    }
+
+    /**
+     * Tells whether a step starting with the given prefix was completed.
+     */
+    boolean hasCompletedStep(String stepPrefix) {
+        return completedSteps.stream().anyMatch(step -> step.startsWith(stepPrefix));
+    }
+
+    boolean isCompleted(String step) {
+        return completedSteps.contains(step);
+    }
+
+    synchronized void complete(String step) throws IOException {
+        appendLines(checkpointFile, Collections.singletonList(step));
+        completedSteps.add(step);
+    }
+
+    static List<String> readLines(Path file) throws IOException {
+        return Files.exists(file) ? Files.readAllLines(file, UTF_8) : Collections.emptyList();
+    }
+
+    static void appendLines(Path file, Collection<String> lines) throws IOException {
+        Files.write(file, lines, UTF_8, CREATE, APPEND);
+    }
+}
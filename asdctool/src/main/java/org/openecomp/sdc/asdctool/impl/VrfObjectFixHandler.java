@@ -33,6 +33,7 @@ import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgePropertyEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
 import org.openecomp.sdc.be.dao.jsongraph.utils.JsonParserUtils;
+import org.openecomp.sdc.be.dao.jsongraph.utils.JsonPropertyCodec;
 import org.openecomp.sdc.be.datatypes.elements.ComponentInstanceDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.CompositionDataDefinition;
 import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
@@ -162,7 +163,7 @@ public class VrfObjectFixHandler {
             Map jsonObj = getJsonMap(container);
             fixComponentToscaName(corruptedInstances, jsonObj);
             String jsonMetadataStr = JsonParserUtils.toJson(jsonObj);
-            container.property(GraphPropertyEnum.JSON.getProperty(), jsonMetadataStr);
+            container.property(GraphPropertyEnum.JSON.getProperty(), JsonPropertyCodec.encode(jsonMetadataStr));
         } catch (IOException e) {
             throw new StorageException("Failed to fix the corrupted instances of the container", e, JanusGraphOperationStatus.GENERAL_ERROR);
         }
@@ -183,12 +184,20 @@ public class VrfObjectFixHandler {
     }
 
     private Map getJsonMap(Vertex container) {
-        String json = (String)container.property(GraphPropertyEnum.JSON.getProperty()).value();
+        String json = decodeJson((String)container.property(GraphPropertyEnum.JSON.getProperty()).value());
         Map<GraphPropertyEnum, Object> properties = janusGraphDao.getVertexProperties(container);
         VertexTypeEnum label = VertexTypeEnum.getByName((String) (properties.get(GraphPropertyEnum.LABEL)));
         return JsonParserUtils.toMap(json, label != null ? label.getClassOfJson() : null);
     }
 
+    private String decodeJson(String json) {
+        try {
+            return JsonPropertyCodec.decode(json);
+        } catch (IOException e) {
+            throw new StorageException("Failed to decode the json of the container", e, JanusGraphOperationStatus.GENERAL_ERROR);
+        }
+    }
+
     private void writeOutput(Map<GraphVertex, Map<Vertex, List<ComponentInstanceDataDefinition>>> corruptedData) {
         if(outputHandler.getOutputPath() != null){
             if(MapUtils.isNotEmpty(corruptedData)){
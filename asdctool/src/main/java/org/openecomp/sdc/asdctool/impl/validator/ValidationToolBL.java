@@ -28,6 +28,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Component
 public class ValidationToolBL {
@@ -42,10 +45,30 @@ public class ValidationToolBL {
     }
 
     public boolean validateAll(Report report, ReportFile.TXTFile textFile) {
+        return validateAll(report, textFile, 1);
+    }
+
+    /**
+     * Runs the validators one after the other, the components of each validator being validated by the given number
+     * of worker threads. A single worker runs the validations on the calling thread.
+     */
+    public boolean validateAll(Report report, ReportFile.TXTFile textFile, int workers) {
+        if (workers <= 1) {
+            return validateAll(report, textFile, Runnable::run);
+        }
+        ExecutorService workersPool = Executors.newFixedThreadPool(workers);
+        try {
+            return validateAll(report, textFile, workersPool);
+        } finally {
+            workersPool.shutdownNow();
+        }
+    }
+
+    private boolean validateAll(Report report, ReportFile.TXTFile textFile, Executor workers) {
         boolean allValid = true;
         for (ValidatorExecutor validatorExec: validators) {
             log.debug("ValidatorExecuter "+validatorExec.getName()+" started");
-            if (!validatorExec.executeValidations(report, textFile)) {
+            if (!validatorExec.executeValidations(report, textFile, workers)) {
                 allValid = false;
                 log.debug("ValidatorExecuter "+validatorExec.getName()+" finished with warnings");
             }
@@ -49,6 +49,11 @@ import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ToscaOperationFacade
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
 import org.openecomp.sdc.common.log.wrappers.Logger;
 
+/**
+ * Reports the components sharing a tosca artifact with another version of the same component. The artifacts are only
+ * compared by their ES id, Cassandra is not read, so the existence of the artifacts is checked by the artifact
+ * validation tasks, see {@link org.openecomp.sdc.asdctool.impl.validator.tasks.artifacts.ArtifactValidationUtils}.
+ */
 public abstract class ArtifactValidatorExecutor {
 
     private static final Logger log = Logger.getLogger(ArtifactValidatorExecutor.class);
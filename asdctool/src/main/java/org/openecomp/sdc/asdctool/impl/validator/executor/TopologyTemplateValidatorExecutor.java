@@ -37,10 +37,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.ArrayList;
 import java.util.EnumMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 public class TopologyTemplateValidatorExecutor implements ValidatorExecutor {
 
@@ -81,35 +84,66 @@ public class TopologyTemplateValidatorExecutor implements ValidatorExecutor {
 
     @Override
     public boolean executeValidations(Report report, TXTFile reportFile) {
+        return executeValidations(report, reportFile, Runnable::run);
+    }
+
+    @Override
+    public boolean executeValidations(Report report, TXTFile reportFile, Executor workers) {
         List<GraphVertex> vertices = getVerticesToValidate();
         reportFile.reportStartValidatorRun(name, vertices.size());
-        Set<String> failedTasks = new HashSet<>();
-        Set<String> successTasks = new HashSet<>();
-        boolean successAllVertices = true;
-        int vertexNum = 0;
+        Set<String> failedTasks = ConcurrentHashMap.newKeySet();
+        Set<String> successTasks = ConcurrentHashMap.newKeySet();
         int verticesSize = vertices.size();
 
-        for (GraphVertex vertex : vertices) {
-            vertexNum++;
-            boolean successAllTasks = true;
+        List<CompletableFuture<Boolean>> vertexResults = new ArrayList<>();
+        for (int vertexNum = 1; vertexNum <= verticesSize; vertexNum++) {
+            GraphVertex vertex = vertices.get(vertexNum - 1);
+            boolean lastVertex = vertexNum == verticesSize;
+            vertexResults.add(CompletableFuture.supplyAsync(
+                    () -> validateVertex(report, reportFile, vertex, lastVertex, failedTasks, successTasks), workers));
+        }
+        boolean successAllVertices = true;
+        for (CompletableFuture<Boolean> vertexResult : vertexResults) {
+            successAllVertices &= join(vertexResult);
+        }
+        reportFile.reportValidatorTypeSummary(name, failedTasks, successTasks);
+        return successAllVertices;
+    }
+
+    private boolean validateVertex(Report report, TXTFile reportFile, GraphVertex vertex, boolean lastVertex,
+                                   Set<String> failedTasks, Set<String> successTasks) {
+        boolean successAllTasks = true;
+        try {
             for (TopologyTemplateValidationTask task : tasks) {
                 reportFile.reportStartTaskRun(vertex, task.getTaskName());
                 VertexResult result = task.validate(report, vertex, reportFile);
                 if (!result.getStatus()) {
                     failedTasks.add(task.getTaskName());
-                    successAllVertices = false;
                     successAllTasks = false;
-                } else if (successAllTasks && vertexNum == verticesSize) {
+                } else if (successAllTasks && lastVertex) {
                     successTasks.add(task.getTaskName());
                 }
                 reportFile.printValidationTaskStatus(vertex, task.getTaskName(), result.getStatus());
                 report.addSuccess(vertex.getUniqueId(), task.getTaskName(), result);
             }
-            String componentScanStatus = successAllTasks ? "success" : "failed";
-            log.info("Topology Template {} Validation finished with {}", vertex.getUniqueId(), componentScanStatus);
+        } finally {
+            // the validations only read the graph, the transaction of the thread is released after each vertex
+            janusGraphDao.rollback();
+        }
+        String componentScanStatus = successAllTasks ? "success" : "failed";
+        log.info("Topology Template {} Validation finished with {}", vertex.getUniqueId(), componentScanStatus);
+        return successAllTasks;
+    }
+
+    private static boolean join(CompletableFuture<Boolean> vertexResult) {
+        try {
+            return vertexResult.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
         }
-        reportFile.reportValidatorTypeSummary(name, failedTasks, successTasks);
-        return successAllVertices;
     }
 
     private List<GraphVertex> getVerticesToValidate() {
@@ -23,8 +23,18 @@ package org.openecomp.sdc.asdctool.impl.validator.executor;
 import org.openecomp.sdc.asdctool.impl.validator.report.Report;
 import org.openecomp.sdc.asdctool.impl.validator.report.ReportFile.TXTFile;
 
+import java.util.concurrent.Executor;
+
 public interface ValidatorExecutor {
 
     boolean executeValidations(Report report, TXTFile textFile);
+
+    /**
+     * Executes the validations, validating the components on the given workers when the validator supports it.
+     */
+    default boolean executeValidations(Report report, TXTFile textFile, Executor workers) {
+        return executeValidations(report, textFile);
+    }
+
     String getName();
 }
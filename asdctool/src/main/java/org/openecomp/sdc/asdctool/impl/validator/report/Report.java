@@ -34,15 +34,25 @@ public final class Report {
 
     private final Map<String, Set<String>> failedVerticesPerTask = new HashMap<>();
     private final Map<String, Map<String, VertexResult>> resultsPerVertex = new HashMap<>();
+    private final SuccessConsumer resultsConsumer;
 
     public static Report make() {
-        return new Report();
+        return new Report(null);
     }
 
-    private Report() {
+    /**
+     * Makes a report which passes the results of the tasks to the given consumer as they are added, instead of
+     * keeping them until the end of the run
+     */
+    public static Report make(SuccessConsumer resultsConsumer) {
+        return new Report(resultsConsumer);
     }
 
-    public void addFailure(String taskName, String vertexId) {
+    private Report(SuccessConsumer resultsConsumer) {
+        this.resultsConsumer = resultsConsumer;
+    }
+
+    public synchronized void addFailure(String taskName, String vertexId) {
         Set<String> failedVertices =
             get(failedVerticesPerTask, HashSet::new).apply(taskName);
 
@@ -50,7 +60,11 @@ public final class Report {
             add(failedVertices).apply(vertexId));
     }
 
-    public void addSuccess(String vertexId, String taskName, VertexResult result) {
+    public synchronized void addSuccess(String vertexId, String taskName, VertexResult result) {
+        if (resultsConsumer != null) {
+            resultsConsumer.traverse(vertexId, taskName, result);
+            return;
+        }
         Map<String, VertexResult> vertexTasksResults =
             get(resultsPerVertex, HashMap::new).apply(vertexId);
 
@@ -58,7 +72,7 @@ public final class Report {
             put(vertexTasksResults).apply(taskName, result));
     }
 
-    public void forEachFailure(FailureConsumer c) {
+    public synchronized void forEachFailure(FailureConsumer c) {
         failedVerticesPerTask.forEach(c::traverse);
     }
 
@@ -68,7 +82,7 @@ public final class Report {
         void traverse(String taskName, Set<String> failedVertices);
     }
 
-    public void forEachSuccess(SuccessConsumer p) {
+    public synchronized void forEachSuccess(SuccessConsumer p) {
         resultsPerVertex.forEach((vertex, tasksResults) ->
             tasksResults.forEach((task, result) ->
                 p.traverse(vertex, task, result)));
@@ -22,6 +22,7 @@ package org.openecomp.sdc.asdctool.impl.validator.report;
 
 import java.util.Set;
 import org.apache.commons.text.StrBuilder;
+import org.openecomp.sdc.asdctool.impl.validator.utils.VertexResult;
 import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
 
 /**
@@ -124,10 +125,12 @@ public class ReportFile {
         }
 
         public void printAllResults(Report report) {
-            report.forEachSuccess((vertex, task, result) -> {
-                String resultLine = vertex + "," + task + "," + result.getStatus() + "," + result.getResult();
-                writer.writeln(resultLine);
-            });
+            report.forEachSuccess(this::printResult);
+        }
+
+        public void printResult(String vertex, String task, VertexResult result) {
+            String resultLine = vertex + "," + task + "," + result.getStatus() + "," + result.getResult();
+            writer.writeln(resultLine);
         }
     }
 }
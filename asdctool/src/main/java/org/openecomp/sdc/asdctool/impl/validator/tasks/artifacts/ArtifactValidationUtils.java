@@ -24,9 +24,13 @@ package org.openecomp.sdc.asdctool.impl.validator.tasks.artifacts;
 import fj.data.Either;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.openecomp.sdc.asdctool.impl.validator.report.Report;
 import org.openecomp.sdc.asdctool.impl.validator.report.ReportFile;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
@@ -46,6 +50,8 @@ public class ArtifactValidationUtils {
 
     private static final Logger logger = Logger.getLogger(ArtifactValidationUtils.class);
 
+    private static final int ARTIFACTS_BATCH_SIZE = 100;
+
     private final ArtifactCassandraDao artifactCassandraDao;
 
     private final TopologyTemplateOperation topologyTemplateOperation;
@@ -65,8 +71,9 @@ public class ArtifactValidationUtils {
         ReportFile.TXTFile reportFile
     ) {
         ArtifactsVertexResult result = new ArtifactsVertexResult(true);
+        Set<String> artifactsInCassandra = getArtifactsInCassandra(artifacts);
         for (ArtifactDataDefinition artifact : artifacts) {
-            boolean isArtifactExist = isArtifactInCassandra(artifact.getEsId());
+            boolean isArtifactExist = artifactsInCassandra.contains(artifact.getEsId());
             String status = isArtifactExist ? "Artifact " + artifact.getEsId() + " is in Cassandra" :
                 "Artifact " + artifact.getEsId() + " doesn't exist in Cassandra";
             reportFile.writeReportLineToFile(status);
@@ -79,6 +86,26 @@ public class ArtifactValidationUtils {
         return result;
     }
 
+    private Set<String> getArtifactsInCassandra(List<ArtifactDataDefinition> artifacts) {
+        List<String> esIds = artifacts.stream()
+            .map(ArtifactDataDefinition::getEsId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+        Set<String> artifactsInCassandra = new HashSet<>();
+        for (int from = 0; from < esIds.size(); from += ARTIFACTS_BATCH_SIZE) {
+            List<String> batch = esIds.subList(from, Math.min(from + ARTIFACTS_BATCH_SIZE, esIds.size()));
+            Either<Set<String>, CassandraOperationStatus> existingArtifactsEither =
+                artifactCassandraDao.getExistingArtifactIds(batch);
+            if (existingArtifactsEither.isRight()) {
+                logger.debug("Failed to retrieve artifacts with ids: {} from Cassandra", batch);
+            } else {
+                artifactsInCassandra.addAll(existingArtifactsEither.left().value());
+            }
+        }
+        return artifactsInCassandra;
+    }
+
     public boolean isArtifactInCassandra(String uniqueId) {
         Either<Long, CassandraOperationStatus> countOfArtifactsEither =
             artifactCassandraDao.getCountOfArtifactById(uniqueId);
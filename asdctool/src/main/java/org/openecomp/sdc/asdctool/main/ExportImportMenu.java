@@ -59,6 +59,18 @@ public class ExportImportMenu {
 					System.exit(2);
 				}
 			}
+		},EXPORT_PARTITIONED("Usage: export-partitioned <janusgraph.properties> <output directory> [threads]", "export-partitioned"){
+			@Override
+			void handle(String[] args) {
+				if (verifyParamsLength(args, 3)) {
+					usage();
+					System.exit(1);
+				}
+
+				if (!GRAPH_ML_CONVERTER.exportPartitionedGraph(args)) {
+					System.exit(2);
+				}
+			}
 		},EXPORT_AS_GRAPH("Usage: export-as-graph-ml <janusgraph.properties> <output directory>", "export-as-graph-ml"){
 			@Override
 			void handle(String[] args) {
@@ -118,6 +130,17 @@ public class ExportImportMenu {
 					System.exit(2);
 				}
 			}
+		},IMPORT_PARTITIONED("Usage: import-partitioned <janusgraph.properties> <partitions directory> [threads]", "import-partitioned"){
+			@Override
+			void handle(String[] args) {
+				if (verifyParamsLength(args, 3)) {
+					usage();
+					System.exit(1);
+				}
+				if (!GRAPH_ML_CONVERTER.importPartitionedGraph(args)) {
+					System.exit(2);
+				}
+			}
 		},VALIDATE_JSON("Usage: validate-json <export graph path>", "validate-json"){
 			@Override
 			void handle(String[] args) throws IOException {
@@ -0,0 +1,77 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.asdctool.main;
+
+import org.openecomp.sdc.asdctool.configuration.GraphJsonCompressionConfiguration;
+import org.openecomp.sdc.asdctool.impl.GraphJsonCompressionHandler;
+import org.openecomp.sdc.be.config.Configuration.JanusGraphJsonCompressionConfig;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.common.api.ConfigurationSource;
+import org.openecomp.sdc.common.impl.ExternalConfiguration;
+import org.openecomp.sdc.common.impl.FSConfigurationSource;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Arrays;
+
+public class GraphJsonCompressionMenu {
+
+    private static final Logger log = Logger.getLogger(GraphJsonCompressionMenu.class);
+
+    private GraphJsonCompressionMenu(){}
+
+    public static void main(String[] args) {
+        if (isNotValidArguments(args)) {
+            log.debug("#main - The invalid array of the arguments have been received: {}", Arrays.toString(args));
+            log.debug("#main - Usage: <configuration dir> <'compress'/'decompress'>");
+            System.exit(1);
+        }
+        ConfigurationManager configurationManager = initConfig(args[0]);
+        GraphJsonCompressionHandler graphJsonCompressionHandler = getGraphJsonCompressionHandler();
+        if (graphJsonCompressionHandler.handle(args[1], getMinSizeBytes(configurationManager))) {
+            log.info("#main - The {} operation of the graph json properties has been finished successfully", args[1]);
+        } else {
+            log.info("#main - The {} operation of the graph json properties has been failed", args[1]);
+            System.exit(2);
+        }
+        System.exit(0);
+    }
+
+    private static GraphJsonCompressionHandler getGraphJsonCompressionHandler() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(GraphJsonCompressionConfiguration.class);
+        return context.getBean(GraphJsonCompressionHandler.class);
+    }
+
+    private static int getMinSizeBytes(ConfigurationManager configurationManager) {
+        JanusGraphJsonCompressionConfig compressionConfig = configurationManager.getConfiguration().getJanusGraphJsonCompression();
+        return compressionConfig != null ? compressionConfig.getMinSizeBytes() : new JanusGraphJsonCompressionConfig().getMinSizeBytes();
+    }
+
+    private static boolean isNotValidArguments(String[] args) {
+        return args == null || args.length < 2;
+    }
+
+    private static ConfigurationManager initConfig(String configDir) {
+        ConfigurationSource configurationSource = new FSConfigurationSource(ExternalConfiguration.getChangeListener(), configDir);
+        return new ConfigurationManager(configurationSource);
+    }
+
+}
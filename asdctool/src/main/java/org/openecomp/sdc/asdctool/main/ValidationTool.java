@@ -54,11 +54,13 @@ public class ValidationTool {
         AnnotationConfigApplicationContext context = initContext(appConfigDir);
         ValidationToolBL validationToolBL = context.getBean(ValidationToolBL.class);
 
+        int workers = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+
         log.info("Start Validation Tool");
-        Report report = Report.make();
-        boolean result = validationToolBL.validateAll(report, textFile);
+        // the results are written to the csv file as they are reported
+        Report report = Report.make(csvFile::printResult);
+        boolean result = validationToolBL.validateAll(report, textFile, workers);
         textFile.reportEndOfToolRun(report);
-        csvFile.printAllResults(report);
         if (result) {
             log.info("Validation finished successfully");
             System.exit(0);
@@ -24,8 +24,13 @@ import org.janusgraph.core.JanusGraph;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -97,6 +102,69 @@ public class GraphMLConverterTest {
     }
 
 
+    @Test
+    public void testExportAndImportPartitionedJsonGraph() throws IOException {
+        GraphMLConverter testSubject = new GraphMLConverter();
+        JanusGraph graph = testSubject.openGraph(getJanusGraphConfig());
+        assertTrue(testSubject.importJsonGraph(graph, getGraphSON(), Collections.emptyList()));
+        String partitionsDirectory = Files.createTempDirectory("partitions").toString();
+
+        assertTrue(testSubject.exportPartitionedJsonGraph(graph, partitionsDirectory, 2));
+        assertTrue(testSubject.exportPartitionedJsonGraph(graph, partitionsDirectory, 2));
+
+        JanusGraph importedGraph = testSubject.openGraph(getJanusGraphConfig());
+        assertTrue(testSubject.importPartitionedJsonGraph(importedGraph, partitionsDirectory, 2, Collections.emptyList()));
+        assertEquals(graph.traversal().V().count().next(), importedGraph.traversal().V().count().next());
+        assertEquals(graph.traversal().E().count().next(), importedGraph.traversal().E().count().next());
+    }
+
+    @Test
+    public void testImportPartitionedJsonGraphReimportsRecordedVerticesWhichWereNotCommitted() throws IOException {
+        GraphMLConverter testSubject = new GraphMLConverter();
+        JanusGraph graph = testSubject.openGraph(getJanusGraphConfig());
+        assertTrue(testSubject.importJsonGraph(graph, getGraphSON(), Collections.emptyList()));
+        Path partitionsDirectory = Files.createTempDirectory("partitions");
+        assertTrue(testSubject.exportPartitionedJsonGraph(graph, partitionsDirectory.toString(), 2));
+
+        // a batch recorded by an import which stopped before committing it
+        String vertexId = graph.traversal().V().next().id().toString();
+        Files.write(partitionsDirectory.resolve("_other.ids"), Collections.singletonList(vertexId + "=-1"), UTF_8);
+
+        JanusGraph importedGraph = testSubject.openGraph(getJanusGraphConfig());
+        assertTrue(testSubject.importPartitionedJsonGraph(importedGraph, partitionsDirectory.toString(), 1,
+            Collections.emptyList()));
+        assertEquals(graph.traversal().V().count().next(), importedGraph.traversal().V().count().next());
+        assertEquals(graph.traversal().E().count().next(), importedGraph.traversal().E().count().next());
+    }
+
+    @Test
+    public void testImportPartitionedJsonGraphRemovesTheVerticesToReplaceAfterAnExport() throws IOException {
+        GraphMLConverter testSubject = new GraphMLConverter();
+        JanusGraph graph = testSubject.openGraph(getJanusGraphConfig());
+        addUserVertex(graph);
+        String partitionsDirectory = Files.createTempDirectory("partitions").toString();
+        assertTrue(testSubject.exportPartitionedJsonGraph(graph, partitionsDirectory, 2));
+
+        JanusGraph importedGraph = testSubject.openGraph(getJanusGraphConfig());
+        addUserVertex(importedGraph);
+        assertTrue(testSubject.importPartitionedJsonGraph(importedGraph, partitionsDirectory, 2,
+            testSubject.getPropertiesCriteriaToDelete()));
+        assertEquals(Long.valueOf(1), importedGraph.traversal().V().has("nodeLabel", "user").count().next());
+    }
+
+    private void addUserVertex(JanusGraph graph) {
+        graph.addVertex("nodeLabel", "user", "userId", "jh0003");
+        graph.tx().commit();
+    }
+
+    @Test
+    public void testImportPartitionedJsonGraphNoDirectory() {
+        GraphMLConverter testSubject = new GraphMLConverter();
+        JanusGraph graph = testSubject.openGraph(getJanusGraphConfig());
+
+        assertFalse(testSubject.importPartitionedJsonGraph(graph, "noDirectory", 2, Collections.emptyList()));
+    }
+
     @Test
     public void testExportUsers() {
         GraphMLConverter testSubject = new GraphMLConverter();
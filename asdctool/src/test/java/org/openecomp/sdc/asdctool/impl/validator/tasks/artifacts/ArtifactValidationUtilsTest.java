@@ -33,9 +33,11 @@ import static org.openecomp.sdc.asdctool.impl.validator.report.ReportFileNioHelp
 import fj.data.Either;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -89,6 +91,10 @@ public class ArtifactValidationUtilsTest {
         MockitoAnnotations.initMocks(this);
         when(artifactCassandraDao.getCountOfArtifactById(ES_ID)).thenReturn(Either.left(1L));
         when(artifactCassandraDao.getCountOfArtifactById(ES_ID_NOT_IN_CASS)).thenReturn(Either.right(CassandraOperationStatus.NOT_FOUND));
+        when(artifactCassandraDao.getExistingArtifactIds(any())).thenAnswer(invocation ->
+            Either.left(invocation.<Collection<String>>getArgument(0).stream()
+                .filter(ES_ID::equals)
+                .collect(Collectors.toSet())));
 
         when(artifactDataDefinition.getEsId()).thenReturn(ES_ID);
         when(artifactDataDefinitionNotInCassandra.getEsId()).thenReturn(ES_ID_NOT_IN_CASS);
@@ -90,6 +90,27 @@ public class ReportManagerTest {
         assertEquals(getCsvExpectedResult(VERTEX_2_ID, TASK_2_NAME), reportCsvFile.get(2));
     }
 
+    @Test
+    public void testReportTaskEndIncrementally() {
+        // when
+        List<String> reportCsvFile = ReportFileNioHelper.withCsvFile(csvReportFilePath, file -> {
+            Report report = Report.make(file::printResult);
+            report.addSuccess(VERTEX_1_ID, TASK_1_NAME, successResult);
+            report.addSuccess(VERTEX_2_ID, TASK_2_NAME, successResult);
+            List<String> reportedLines = ReportManagerHelper.readFileAsList(csvReportFilePath);
+
+            file.printAllResults(report);
+            assertEquals(reportedLines, ReportManagerHelper.readFileAsList(csvReportFilePath));
+            return reportedLines;
+        });
+
+        // then
+        assertNotNull(reportCsvFile);
+        assertEquals(EXPECTED_CSV_HEADER, reportCsvFile.get(0));
+        assertEquals(getCsvExpectedResult(VERTEX_1_ID, TASK_1_NAME), reportCsvFile.get(1));
+        assertEquals(getCsvExpectedResult(VERTEX_2_ID, TASK_2_NAME), reportCsvFile.get(2));
+    }
+
     @Test
     public void testAddFailedVertex() {
         // when
@@ -85,6 +85,9 @@ public class CsarInfo {
     private boolean isUpdate;
     @Getter
     private Map<String, Resource> createdNodes;
+    // origin components of the instances created during this import, by unique id
+    @Getter
+    private final Map<String, Resource> originComponents = new HashMap<>();
     private final NonManoConfiguration nonManoConfiguration;
 
     @SuppressWarnings("unchecked")
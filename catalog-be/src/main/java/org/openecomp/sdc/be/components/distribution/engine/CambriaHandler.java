@@ -23,24 +23,22 @@ package org.openecomp.sdc.be.components.distribution.engine;
 import com.att.nsa.apiClient.credentials.ApiCredential;
 import com.att.nsa.apiClient.http.HttpException;
 import com.att.nsa.apiClient.http.HttpObjectNotFoundException;
-import com.att.nsa.cambria.client.CambriaBatchingPublisher;
 import com.att.nsa.cambria.client.CambriaClient;
 import com.att.nsa.cambria.client.CambriaClient.CambriaApiException;
 import com.att.nsa.cambria.client.CambriaClientBuilders;
 import com.att.nsa.cambria.client.CambriaClientBuilders.AbstractAuthenticatedManagerBuilder;
 import com.att.nsa.cambria.client.CambriaClientBuilders.ConsumerBuilder;
 import com.att.nsa.cambria.client.CambriaClientBuilders.IdentityManagerBuilder;
-import com.att.nsa.cambria.client.CambriaClientBuilders.PublisherBuilder;
 import com.att.nsa.cambria.client.CambriaClientBuilders.TopicManagerBuilder;
 import com.att.nsa.cambria.client.CambriaConsumer;
 import com.att.nsa.cambria.client.CambriaIdentityManager;
-import com.att.nsa.cambria.client.CambriaPublisher.message;
 import com.att.nsa.cambria.client.CambriaTopicManager;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.gson.Gson;
 import fj.data.Either;
 import org.apache.http.HttpStatus;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
+import org.openecomp.sdc.be.components.distribution.engine.CambriaPublisherPool.PublishedMessage;
 import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.distribution.api.client.CambriaOperationStatus;
 import org.openecomp.sdc.common.log.wrappers.Logger;
@@ -72,6 +70,7 @@ public class CambriaHandler implements ICambriaHandler{
                                                                     .getDistributionEngineConfiguration()
                                                                     .isUseHttpsWithDmaap();
     private final Gson gson = new Gson();
+    private final CambriaPublisherPool publisherPool = new CambriaPublisherPool();
 
 
     /**
@@ -474,7 +473,7 @@ public class CambriaHandler implements ICambriaHandler{
     }
 
     /**
-     * Publish notification message to a given queue
+     * Publish notification message to a given queue, on the pooled publisher of the queue
      *
      * @param topicName
      * @param uebPublicKey
@@ -486,27 +485,14 @@ public class CambriaHandler implements ICambriaHandler{
     @Override
     public CambriaErrorResponse sendNotification(String topicName, String uebPublicKey, String uebSecretKey, List<String> uebServers, INotificationData data) {
 
-        CambriaBatchingPublisher createSimplePublisher = null;
-
         try {
 
             String json = gson.toJson(data);
             log.trace("Before sending notification data {} to topic {}", json, topicName);
 
-            createSimplePublisher = new PublisherBuilder().onTopic(topicName).usingHosts(uebServers).build();
-            createSimplePublisher.setApiCredentials(uebPublicKey, uebSecretKey);
-
-            int result = createSimplePublisher.send(PARTITION_KEY, json);
-
-            try {
-                SECONDS.sleep(1L);
-            }
-            catch (InterruptedException e) {
-                log.debug("Failed during sleep after sending the message.", e);
-                Thread.currentThread().interrupt();
-            }
+            publisherPool.send(topicName, uebServers, uebPublicKey, uebSecretKey, PARTITION_KEY, json);
 
-            log.debug("After sending notification data to topic {}. result is {}", topicName, result);
+            log.debug("After sending notification data to topic {}", topicName);
 
             return new CambriaErrorResponse(CambriaOperationStatus.OK, 200);
 
@@ -519,38 +505,27 @@ public class CambriaHandler implements ICambriaHandler{
 
             return cambriaErrorResponse;
         }
-        finally {
-            if (createSimplePublisher != null) {
-                log.debug("Before closing publisher");
-                createSimplePublisher.close();
-                log.debug("After closing publisher");
-            }
-        }
     }
+
+    /**
+     * Publish notification message to a given queue, on the pooled publisher of the queue, and wait for it to be
+     * published
+     *
+     * @param waitBeforeCloseTimeout the maximum time in seconds to wait for the message to be published
+     */
     @Override
     public CambriaErrorResponse sendNotificationAndClose(String topicName, String uebPublicKey, String uebSecretKey, List<String> uebServers, INotificationData data, long waitBeforeCloseTimeout) {
         String methodName = "sendNotificationAndClose";
-        CambriaBatchingPublisher createSimplePublisher;
+        PublishedMessage publishedMessage;
         CambriaErrorResponse response;
         try {
 
             String json = gson.toJson(data);
             log.debug("Before sending notification data {} to topic {}", json, topicName);
 
-            createSimplePublisher = new PublisherBuilder().onTopic(topicName).usingHosts(uebServers).build();
-            createSimplePublisher.setApiCredentials(uebPublicKey, uebSecretKey);
-
-            int result = createSimplePublisher.send(PARTITION_KEY, json);
-
-            try {
-                Thread.sleep(1000);
-            }
-            catch (InterruptedException e) {
-                log.debug("Failed during sleep after sending the message.", e);
-                Thread.currentThread().interrupt();
-            }
+            publishedMessage = publisherPool.send(topicName, uebServers, uebPublicKey, uebSecretKey, PARTITION_KEY, json);
 
-            log.debug("After sending notification data to topic {}. result is {}", topicName, result);
+            log.debug("After sending notification data to topic {}", topicName);
 
         }
         catch (IOException | GeneralSecurityException  e) {
@@ -565,35 +540,36 @@ public class CambriaHandler implements ICambriaHandler{
 
         }
 
-        log.debug("Before closing publisher. Maximum timeout is {} seconds", waitBeforeCloseTimeout);
+        log.debug("Before waiting for the notification to be published. Maximum timeout is {} seconds", waitBeforeCloseTimeout);
         try {
-            List<message> messagesInQ = createSimplePublisher.close(waitBeforeCloseTimeout, SECONDS);
-            if (messagesInQ != null && !messagesInQ.isEmpty()) {
-                log.debug("Cambria client returned {} non sent messages.", messagesInQ.size());
-                response = new CambriaErrorResponse(CambriaOperationStatus.INTERNAL_SERVER_ERROR, 500);
-                writeErrorToLog(response, methodName, SEND_NOTIFICATION);
+            if (publisherPool.awaitPublished(publishedMessage, waitBeforeCloseTimeout, SECONDS)) {
+                log.debug("The notification was published to topic {}", topicName);
+                response = new CambriaErrorResponse(CambriaOperationStatus.OK, 200);
             }
             else {
-                log.debug("No message left in the queue after closing cambria publisher");
-                response = new CambriaErrorResponse(CambriaOperationStatus.OK, 200);
+                log.debug("The notification was not published to topic {} in {} seconds", topicName, waitBeforeCloseTimeout);
+                response = new CambriaErrorResponse(CambriaOperationStatus.INTERNAL_SERVER_ERROR, 500);
+                writeErrorToLog(response, methodName, SEND_NOTIFICATION);
             }
         }
         catch (InterruptedException e) {
-            log.debug("InterruptedException while closing cambria publisher", e);
+            log.debug("InterruptedException while waiting for the notification to be published", e);
             Thread.currentThread().interrupt();
             response = new CambriaErrorResponse(CambriaOperationStatus.INTERNAL_SERVER_ERROR, 500);
             writeErrorToLog(response, methodName, SEND_NOTIFICATION);
         }
-        catch (IOException e) {
-            log.debug("Failed to close cambria publisher", e);
-            response = new CambriaErrorResponse(CambriaOperationStatus.INTERNAL_SERVER_ERROR, 500);
-            writeErrorToLog(response, methodName, SEND_NOTIFICATION);
-        }
-        log.debug("After closing publisher");
 
         return response;
 
     }
+
+    /**
+     * Close the pooled publishers, sending the notifications they still hold
+     */
+    public void closePublishers() {
+        publisherPool.closeAll();
+    }
+
     @Override
     public CambriaErrorResponse getApiKey(String server, String apiKey) {
 
@@ -0,0 +1,261 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.components.distribution.engine;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.att.nsa.cambria.client.CambriaBatchingPublisher;
+import com.att.nsa.cambria.client.CambriaClientBuilders.PublisherBuilder;
+import com.att.nsa.cambria.client.CambriaPublisher.message;
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.config.DistributionEngineConfiguration.DistributionNotificationTopicConfig;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+/**
+ * Long lived publishers of the notifications, one per topic, U-EB servers and api key.
+ * <p>
+ * The notifications sent to the same topic of the same environment share the publisher and are sent in batches. As
+ * a publisher sends its messages in the order they were given to it, a message was published once the publisher has
+ * less pending messages than the messages given to it after that one. A publisher which failed to take a message, or
+ * to publish one in time, is closed and a new one is built for the next notification.
+ */
+class CambriaPublisherPool {
+
+    private static final Logger log = Logger.getLogger(CambriaPublisherPool.class.getName());
+    static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    static final int DEFAULT_MAX_BATCH_AGE_MS = 50;
+    private static final long PUBLISHED_POLLING_INTERVAL_MS = 20;
+    private static final long CLOSE_TIMEOUT_SECONDS = 1;
+
+    private final Map<PublisherKey, PooledPublisher> publishers = new ConcurrentHashMap<>();
+    private final AtomicLong publishedMessages = new AtomicLong();
+    private final AtomicLong failedMessages = new AtomicLong();
+    private final AtomicLong publishLatencyMs = new AtomicLong();
+
+    /**
+     * Sends the message on the pooled publisher of the topic.
+     *
+     * @return the number of the message on its publisher, to wait for its publishing with {@link #awaitPublished}
+     */
+    PublishedMessage send(String topicName, List<String> uebServers, String uebPublicKey, String uebSecretKey,
+            String partition, String json) throws IOException, GeneralSecurityException {
+        PublisherKey key = new PublisherKey(topicName, uebServers, uebPublicKey, uebSecretKey);
+        PooledPublisher publisher = getPublisher(key);
+        try {
+            return new PublishedMessage(key, publisher, publisher.send(partition, json));
+        } catch (IOException e) {
+            failedMessages.incrementAndGet();
+            evict(key, publisher);
+            throw e;
+        }
+    }
+
+    /**
+     * Waits until the message was published or the timeout passed. The publisher of a message which was not
+     * published in time is closed, as the U-EB servers it is sending to are not healthy.
+     */
+    boolean awaitPublished(PublishedMessage publishedMessage, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        PooledPublisher publisher = publishedMessage.publisher;
+        long deadline = publishedMessage.sendTime + unit.toMillis(timeout);
+        while (!publisher.isPublished(publishedMessage.messageNumber)) {
+            if (publisher.isClosed() || System.currentTimeMillis() >= deadline) {
+                failedMessages.incrementAndGet();
+                log.debug("Message {} was not published to topic {} after {} {}. {} messages are pending",
+                        publishedMessage.messageNumber, publishedMessage.key.topicName, timeout, unit,
+                        publisher.getPendingMessageCount());
+                evict(publishedMessage.key, publisher);
+                return false;
+            }
+            MILLISECONDS.sleep(PUBLISHED_POLLING_INTERVAL_MS);
+        }
+        long latency = System.currentTimeMillis() - publishedMessage.sendTime;
+        long published = publishedMessages.incrementAndGet();
+        long totalLatency = publishLatencyMs.addAndGet(latency);
+        log.debug("Message {} was published to topic {} in {} ms. {} messages are pending. Published {} messages, "
+                        + "failed {} messages, average latency {} ms", publishedMessage.messageNumber,
+                publishedMessage.key.topicName, latency, publisher.getPendingMessageCount(), published,
+                failedMessages.get(), totalLatency / published);
+        return true;
+    }
+
+    void closeAll() {
+        new ArrayList<>(publishers.keySet()).forEach(key -> {
+            PooledPublisher publisher = publishers.remove(key);
+            if (publisher != null) {
+                publisher.close();
+            }
+        });
+    }
+
+    private PooledPublisher getPublisher(PublisherKey key) throws MalformedURLException, GeneralSecurityException {
+        PooledPublisher publisher = publishers.get(key);
+        if (publisher != null) {
+            return publisher;
+        }
+        synchronized (publishers) {
+            publisher = publishers.get(key);
+            if (publisher == null) {
+                log.debug("Creating publisher for topic {} on servers {}", key.topicName, key.uebServers);
+                CambriaBatchingPublisher cambriaPublisher = buildPublisher(key.topicName, key.uebServers);
+                cambriaPublisher.setApiCredentials(key.uebPublicKey, key.uebSecretKey);
+                publisher = new PooledPublisher(cambriaPublisher);
+                publishers.put(key, publisher);
+            }
+            return publisher;
+        }
+    }
+
+    private void evict(PublisherKey key, PooledPublisher publisher) {
+        if (publishers.remove(key, publisher)) {
+            log.debug("Closing publisher for topic {} on servers {}", key.topicName, key.uebServers);
+            publisher.close();
+        }
+    }
+
+    @VisibleForTesting
+    CambriaBatchingPublisher buildPublisher(String topicName, List<String> uebServers)
+            throws MalformedURLException, GeneralSecurityException {
+        int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+        int maxBatchAgeMs = DEFAULT_MAX_BATCH_AGE_MS;
+        DistributionNotificationTopicConfig notificationTopicConfig = ConfigurationManager.getConfigurationManager()
+                .getDistributionEngineConfiguration().getDistributionNotificationTopic();
+        if (notificationTopicConfig != null) {
+            if (notificationTopicConfig.getMaxPublisherBatchSize() != null) {
+                maxBatchSize = notificationTopicConfig.getMaxPublisherBatchSize();
+            }
+            if (notificationTopicConfig.getMaxPublisherBatchAgeMs() != null) {
+                maxBatchAgeMs = notificationTopicConfig.getMaxPublisherBatchAgeMs();
+            }
+        }
+        return new PublisherBuilder().onTopic(topicName).usingHosts(uebServers)
+                .limitBatch(maxBatchSize, maxBatchAgeMs).build();
+    }
+
+    static final class PublishedMessage {
+
+        private final PublisherKey key;
+        private final PooledPublisher publisher;
+        private final long messageNumber;
+        private final long sendTime = System.currentTimeMillis();
+
+        private PublishedMessage(PublisherKey key, PooledPublisher publisher, long messageNumber) {
+            this.key = key;
+            this.publisher = publisher;
+            this.messageNumber = messageNumber;
+        }
+    }
+
+    private static final class PooledPublisher {
+
+        private final CambriaBatchingPublisher publisher;
+        private long sentMessages;
+        private boolean closed;
+        private int notSentOnClose;
+
+        private PooledPublisher(CambriaBatchingPublisher publisher) {
+            this.publisher = publisher;
+        }
+
+        synchronized long send(String partition, String json) throws IOException {
+            if (closed) {
+                throw new IOException("The publisher was closed");
+            }
+            publisher.send(partition, json);
+            return ++sentMessages;
+        }
+
+        synchronized boolean isPublished(long messageNumber) {
+            return sentMessages - getPendingMessageCount() >= messageNumber;
+        }
+
+        synchronized boolean isClosed() {
+            return closed;
+        }
+
+        synchronized int getPendingMessageCount() {
+            return closed ? notSentOnClose : publisher.getPendingMessageCount();
+        }
+
+        synchronized void close() {
+            if (closed) {
+                return;
+            }
+            try {
+                List<message> notSent = publisher.close(CLOSE_TIMEOUT_SECONDS, SECONDS);
+                notSentOnClose = notSent == null ? 0 : notSent.size();
+            } catch (IOException e) {
+                log.debug("Failed to close cambria publisher", e);
+                notSentOnClose = publisher.getPendingMessageCount();
+            } catch (InterruptedException e) {
+                log.debug("InterruptedException while closing cambria publisher", e);
+                notSentOnClose = publisher.getPendingMessageCount();
+                Thread.currentThread().interrupt();
+            }
+            closed = true;
+        }
+    }
+
+    private static final class PublisherKey {
+
+        private final String topicName;
+        private final List<String> uebServers;
+        private final String uebPublicKey;
+        private final String uebSecretKey;
+
+        private PublisherKey(String topicName, List<String> uebServers, String uebPublicKey, String uebSecretKey) {
+            this.topicName = topicName;
+            this.uebServers = new ArrayList<>(uebServers);
+            this.uebPublicKey = uebPublicKey;
+            this.uebSecretKey = uebSecretKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PublisherKey that = (PublisherKey) o;
+            return Objects.equals(topicName, that.topicName) && uebServers.equals(that.uebServers) && Objects.equals(
+                    uebPublicKey, that.uebPublicKey) && Objects.equals(uebSecretKey, that.uebSecretKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(topicName, uebServers, uebPublicKey, uebSecretKey);
+        }
+    }
+}
@@ -30,6 +30,8 @@ import org.openecomp.sdc.be.model.User;
 import org.openecomp.sdc.common.log.wrappers.Logger;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
+
 @Component("distributionNotificationSender")
 public class DistributionNotificationSender {
 
@@ -70,6 +72,11 @@ public class DistributionNotificationSender {
         return convertCambriaResponse(status);
     }
 
+    @PreDestroy
+    public void shutdown() {
+        cambriaHandler.closePublishers();
+    }
+
     private void auditDistributionNotification(AuditDistributionNotificationBuilder builder) {
         if (this.componentUtils != null) {
             Integer httpCode = builder.getStatus().getHttpCode();
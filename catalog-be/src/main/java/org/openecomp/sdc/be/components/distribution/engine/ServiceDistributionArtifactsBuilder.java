@@ -20,6 +20,8 @@
 
 package org.openecomp.sdc.be.components.distribution.engine;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import fj.data.Either;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
@@ -27,6 +29,7 @@ import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.model.ArtifactDefinition;
 import org.openecomp.sdc.be.model.ComponentInstance;
 import org.openecomp.sdc.be.model.ComponentParametersView;
+import org.openecomp.sdc.be.model.LifecycleStateEnum;
 import org.openecomp.sdc.be.model.Resource;
 import org.openecomp.sdc.be.model.Service;
 import org.openecomp.sdc.be.model.category.CategoryDefinition;
@@ -40,6 +43,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -53,6 +57,7 @@ public class ServiceDistributionArtifactsBuilder {
     private static final String BASE_ARTIFACT_URL = "/sdc/v1/catalog/services/%s/%s/";
     private static final String SERVICE_ARTIFACT_URL = BASE_ARTIFACT_URL + "artifacts/%s";
     private static final String RESOURCE_INSTANCE_ARTIFACT_URL = BASE_ARTIFACT_URL + "resourceInstances/%s/artifacts/%s";
+    private static final int DISTRIBUTION_PAYLOADS_MAX_SIZE = 200;
 
     @javax.annotation.Resource
     InterfaceLifecycleOperation interfaceLifecycleOperation;
@@ -62,6 +67,14 @@ public class ServiceDistributionArtifactsBuilder {
 
     private final ToscaOperationFacade toscaOperationFacade;
 
+    /**
+     * The resource instances and service artifacts of the notifications of the certified services, by service id.
+     * They do not depend on the distribution or its environment, so a service distributed again or to another
+     * environment reuses them as long as its artifacts and instances did not change.
+     */
+    private final Cache<String, DistributionPayload> distributionPayloads =
+            CacheBuilder.newBuilder().maximumSize(DISTRIBUTION_PAYLOADS_MAX_SIZE).build();
+
     @Autowired
     public ServiceDistributionArtifactsBuilder(ToscaOperationFacade toscaOperationFacade) {
         this.toscaOperationFacade = toscaOperationFacade;
@@ -83,7 +96,23 @@ public class ServiceDistributionArtifactsBuilder {
     public INotificationData buildResourceInstanceForDistribution(Service service, String distributionId, String workloadContext) {
         INotificationData notificationData = new NotificationDataImpl();
 
-        notificationData.setResources(convertRIsToJsonContanier(service));
+        DistributionPayload distributionPayload = getDistributionPayload(service);
+        if (distributionPayload == null) {
+            notificationData.setResources(convertRIsToJsonContanier(service));
+        } else {
+            List<JsonContainerResourceInstance> resources = distributionPayload.resources;
+            if (resources == null) {
+                List<String> failedOriginIds = new ArrayList<>();
+                resources = convertRIsToJsonContanier(service, failedOriginIds);
+                if (failedOriginIds.isEmpty()) {
+                    distributionPayload.resources = resources;
+                } else {
+                    logger.debug("Not reusing the resource instances of service {}, origins {} could not be retrieved",
+                            service.getUniqueId(), failedOriginIds);
+                }
+            }
+            notificationData.setResources(resources);
+        }
         notificationData.setServiceName(service.getName());
         notificationData.setServiceVersion(service.getVersion());
         notificationData.setDistributionID(distributionId);
@@ -101,13 +130,72 @@ public class ServiceDistributionArtifactsBuilder {
 
     public INotificationData buildServiceForDistribution(INotificationData notificationData, Service service) {
 
-        notificationData.setServiceArtifacts(convertServiceArtifactsToArtifactInfo(service));
+        DistributionPayload distributionPayload = getDistributionPayload(service);
+        if (distributionPayload == null) {
+            notificationData.setServiceArtifacts(convertServiceArtifactsToArtifactInfo(service));
+        } else {
+            if (distributionPayload.serviceArtifacts == null) {
+                distributionPayload.serviceArtifacts = convertServiceArtifactsToArtifactInfo(service);
+            }
+            notificationData.setServiceArtifacts(distributionPayload.serviceArtifacts);
+        }
 
         logger.debug("Before returning notification data object {}", notificationData);
 
         return notificationData;
     }
 
+    /**
+     * Gets the payload kept for the given service, or a new empty one if the service changed since it was kept.
+     * Returns null for a service which is not certified, as its payload may change at any time.
+     */
+    private DistributionPayload getDistributionPayload(Service service) {
+        if (service.getUniqueId() == null || service.getLifecycleState() != LifecycleStateEnum.CERTIFIED) {
+            return null;
+        }
+        List<Object> fingerprint = buildDistributionFingerprint(service);
+        DistributionPayload distributionPayload = distributionPayloads.getIfPresent(service.getUniqueId());
+        if (distributionPayload == null || !distributionPayload.fingerprint.equals(fingerprint)) {
+            logger.debug("Building the distribution payload of service {}", service.getUniqueId());
+            distributionPayload = new DistributionPayload(fingerprint);
+            distributionPayloads.put(service.getUniqueId(), distributionPayload);
+        }
+        return distributionPayload;
+    }
+
+    /**
+     * All the properties of the service, its instances and their artifacts the distribution payload is built from.
+     */
+    private static List<Object> buildDistributionFingerprint(Service service) {
+        List<Object> fingerprint = new ArrayList<>();
+        fingerprint.addAll(Arrays.asList(service.getSystemName(), service.getVersion()));
+        addArtifactsFingerprint(fingerprint, service.getDeploymentArtifacts());
+        addArtifactsFingerprint(fingerprint, service.getToscaArtifacts());
+        if (service.getComponentInstances() != null) {
+            for (ComponentInstance instance : service.getComponentInstances()) {
+                fingerprint.addAll(Arrays.asList(instance.getUniqueId(), instance.getName(), instance.getNormalizedName(),
+                        instance.getComponentUid(), instance.getComponentName(), instance.getComponentVersion(),
+                        instance.getOriginType(), instance.getCustomizationUUID()));
+                addArtifactsFingerprint(fingerprint, instance.getDeploymentArtifacts());
+            }
+        }
+        return fingerprint;
+    }
+
+    private static void addArtifactsFingerprint(List<Object> fingerprint, Map<String, ArtifactDefinition> artifacts) {
+        if (artifacts == null) {
+            fingerprint.add(null);
+            return;
+        }
+        fingerprint.add(artifacts.size());
+        for (ArtifactDefinition artifact : artifacts.values()) {
+            fingerprint.addAll(Arrays.asList(artifact.getUniqueId(), artifact.getEsId(), artifact.getArtifactName(),
+                    artifact.getArtifactType(), artifact.getArtifactChecksum(), artifact.getDescription(),
+                    artifact.getTimeout(), artifact.getArtifactUUID(), artifact.getArtifactVersion(),
+                    artifact.getGeneratedFromId(), artifact.getRequiredArtifacts()));
+        }
+    }
+
     private List<ArtifactInfoImpl> convertServiceArtifactsToArtifactInfo(Service service) {
 
         Map<String, ArtifactDefinition> serviceArtifactsMap = service.getDeploymentArtifacts();
@@ -143,6 +231,14 @@ public class ServiceDistributionArtifactsBuilder {
     }
 
     private List<JsonContainerResourceInstance> convertRIsToJsonContanier(Service service) {
+        return convertRIsToJsonContanier(service, new ArrayList<>());
+    }
+
+    /**
+     * @param failedOriginIds filled with the ids of the origin components which could not be retrieved, whose
+     *                        instances are missing their invariant UUID and categories
+     */
+    private List<JsonContainerResourceInstance> convertRIsToJsonContanier(Service service, List<String> failedOriginIds) {
         List<JsonContainerResourceInstance> ret = new ArrayList<>();
         if (service.getComponentInstances() != null) {
             for (ComponentInstance instance : service.getComponentInstances()) {
@@ -154,7 +250,10 @@ public class ServiceDistributionArtifactsBuilder {
                     .left()
                     .bind(r->{fillJsonContainer(jsonContainer, (Resource) r); return Either.left(r);})
                     .right()
-                    .forEach(r->logger.debug("Resource {} Invariant UUID & Categories retrieving failed", instance.getComponentUid()));
+                    .forEach(r->{
+                        logger.debug("Resource {} Invariant UUID & Categories retrieving failed", instance.getComponentUid());
+                        failedOriginIds.add(instance.getComponentUid());
+                    });
                 ret.add(jsonContainer);
             }
         }
@@ -264,4 +363,15 @@ public class ServiceDistributionArtifactsBuilder {
        return deploymentArtifacts != null && deploymentArtifacts.values().stream().anyMatch(ArtifactDefinition::checkEsIdExist);
     }
 
+    private static class DistributionPayload {
+
+        private final List<Object> fingerprint;
+        private volatile List<JsonContainerResourceInstance> resources;
+        private volatile List<ArtifactInfoImpl> serviceArtifacts;
+
+        private DistributionPayload(List<Object> fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+
 }
@@ -23,6 +23,7 @@ package org.openecomp.sdc.be.components.health;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.openecomp.sdc.be.catalog.impl.DmaapProducerHealth;
@@ -61,7 +62,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
-import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.Executors.newScheduledThreadPool;
 import static org.apache.http.HttpStatus.SC_INTERNAL_SERVER_ERROR;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.openecomp.sdc.common.api.Constants.HC_COMPONENT_BE;
@@ -84,7 +85,21 @@ public class HealthCheckBusinessLogic {
     private static final String COMPONENT_CHANGED_MESSAGE = "BE Component %s state changed from %s to %s";
     private static final Logger log = Logger.getLogger(HealthCheckBusinessLogic.class.getName());
     private static final HealthCheckUtil healthCheckUtil = new HealthCheckUtil();
-    private final ScheduledExecutorService healthCheckScheduler = newSingleThreadScheduledExecutor((Runnable r) -> new Thread(r, "BE-Health-Check-Task"));
+    private static final long HEALTH_CHECK_INTERVAL_SECONDS = 3;
+    private static final long HEALTH_CHECK_TIMEOUT_MILLIS = 5000;
+    private static final int HOSTED_COMPONENT_TIMEOUT_MILLIS = 3000;
+    // the JanusGraph, Cassandra and onboarding checks each run on their own thread, the other components are checked
+    // by their own health check beans and only their last result is read by the scheduled task
+    private final ScheduledExecutorService healthCheckScheduler = newScheduledThreadPool(4,
+            new BasicThreadFactory.Builder().namingPattern("BE-Health-Check-Task-%d").build());
+    private final HealthCheckProbe janusGraphProbe = new HealthCheckProbe(HC_COMPONENT_JANUSGRAPH,
+            this::getJanusGraphHealthCheck, HEALTH_CHECK_INTERVAL_SECONDS, HEALTH_CHECK_TIMEOUT_MILLIS);
+    private final HealthCheckProbe cassandraProbe = new HealthCheckProbe(HC_COMPONENT_CASSANDRA,
+            this::getCassandraHealthCheck, HEALTH_CHECK_INTERVAL_SECONDS, HEALTH_CHECK_TIMEOUT_MILLIS);
+    // the onboarding check may wait for both the connect and the read timeouts of its http request
+    private final HealthCheckProbe onBoardingProbe = new HealthCheckProbe(HC_COMPONENT_ON_BOARDING,
+            () -> getHostedComponentsBeHealthCheck(HC_COMPONENT_ON_BOARDING, buildOnBoardingHealthCheckUrl()),
+            HEALTH_CHECK_INTERVAL_SECONDS, 2L * HOSTED_COMPONENT_TIMEOUT_MILLIS + 1000);
     private HealthCheckScheduledTask healthCheckScheduledTask = null;
     private static LogFieldsMdcHandler mdcFieldsHandler = new LogFieldsMdcHandler();
 
@@ -109,6 +124,18 @@ public class HealthCheckBusinessLogic {
     @PostConstruct
     public void init() {
 
+        janusGraphProbe.schedule(healthCheckScheduler);
+        cassandraProbe.schedule(healthCheckScheduler);
+        onBoardingProbe.schedule(healthCheckScheduler);
+        try {
+            janusGraphProbe.awaitFirstResult();
+            cassandraProbe.awaitFirstResult();
+            onBoardingProbe.awaitFirstResult();
+        } catch (InterruptedException e) {
+            log.debug("Interrupted while waiting for the first health checks", e);
+            Thread.currentThread().interrupt();
+        }
+
         prevBeHealthCheckInfos = getBeHealthCheckInfos();
 
         log.debug("After initializing prevBeHealthCheckInfos: {}", prevBeHealthCheckInfos);
@@ -116,7 +143,7 @@ public class HealthCheckBusinessLogic {
         healthCheckScheduledTask = new HealthCheckScheduledTask();
 
         if (this.scheduledFuture == null) {
-            this.scheduledFuture = this.healthCheckScheduler.scheduleAtFixedRate(healthCheckScheduledTask, 0, 3, TimeUnit.SECONDS);
+            this.scheduledFuture = this.healthCheckScheduler.scheduleAtFixedRate(healthCheckScheduledTask, 0, HEALTH_CHECK_INTERVAL_SECONDS, TimeUnit.SECONDS);
         }
 
     }
@@ -151,16 +178,16 @@ public class HealthCheckBusinessLogic {
         healthCheckInfos.add(new HealthCheckInfo(HC_COMPONENT_BE, UP, getAppVersion(), "OK"));
 
         // JanusGraph
-        healthCheckInfos.add(getJanusGraphHealthCheck());
+        healthCheckInfos.add(janusGraphProbe.getHealthCheckInfo());
 
         // Distribution Engine
         healthCheckInfos.add(distributionEngineClusterHealth.getHealthCheckInfo());
 
         //Cassandra
-        healthCheckInfos.add(getCassandraHealthCheck());
+        healthCheckInfos.add(cassandraProbe.getHealthCheckInfo());
 
         // Amdocs
-        healthCheckInfos.add(getHostedComponentsBeHealthCheck(HC_COMPONENT_ON_BOARDING, buildOnBoardingHealthCheckUrl()));
+        healthCheckInfos.add(onBoardingProbe.getHealthCheckInfo());
 
          //ECOMP Portal
         healthCheckInfos.add(portalHealthCheck.getHealthCheckInfo());
@@ -251,7 +278,7 @@ public class HealthCheckBusinessLogic {
         String description;
         String version = null;
         List<HealthCheckInfo> componentsInfo = new ArrayList<>();
-        final int timeout = 3000;
+        final int timeout = HOSTED_COMPONENT_TIMEOUT_MILLIS;
 
         if (healthCheckUrl != null) {
             try {
@@ -338,6 +365,9 @@ public class HealthCheckBusinessLogic {
             scheduledFuture.cancel(true);
             scheduledFuture = null;
         }
+        janusGraphProbe.cancel();
+        cassandraProbe.cancel();
+        onBoardingProbe.cancel();
 
         if (healthCheckScheduler != null) {
             healthCheckScheduler.shutdown();
@@ -0,0 +1,123 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.components.health;
+
+import static org.openecomp.sdc.common.api.HealthCheckInfo.HealthCheckStatus.DOWN;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import org.openecomp.sdc.common.api.HealthCheckInfo;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+/**
+ * Health check of a single dependency of the BE, run on its own schedule so that a slow dependency does not delay
+ * the health checks of the others.
+ * <p>
+ * The last result of the check is kept and served as is. While a check runs for longer than its timeout, the
+ * dependency is reported down without waiting for the check to complete. The latencies of the checks are counted in
+ * buckets which are logged with every check.
+ */
+class HealthCheckProbe implements Runnable {
+
+    private static final Logger log = Logger.getLogger(HealthCheckProbe.class.getName());
+    private static final long[] LATENCY_BUCKETS_MS = {10, 100, 1000, 5000};
+
+    private final String componentName;
+    private final Supplier<HealthCheckInfo> healthCheck;
+    private final long intervalSeconds;
+    private final long timeoutMillis;
+    private final CountDownLatch firstResult = new CountDownLatch(1);
+    private final AtomicLongArray latencyHistogram = new AtomicLongArray(LATENCY_BUCKETS_MS.length + 1);
+    private volatile HealthCheckInfo healthCheckInfo;
+    private volatile long runningSince;
+    private ScheduledFuture<?> scheduledFuture;
+
+    HealthCheckProbe(String componentName, Supplier<HealthCheckInfo> healthCheck, long intervalSeconds,
+            long timeoutMillis) {
+        this.componentName = componentName;
+        this.healthCheck = healthCheck;
+        this.intervalSeconds = intervalSeconds;
+        this.timeoutMillis = timeoutMillis;
+        this.healthCheckInfo = new HealthCheckInfo(componentName, DOWN, null, componentName + " was not checked yet");
+    }
+
+    synchronized void schedule(ScheduledExecutorService scheduler) {
+        if (scheduledFuture == null) {
+            scheduledFuture = scheduler.scheduleWithFixedDelay(this, 0, intervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    synchronized void cancel() {
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel(true);
+            scheduledFuture = null;
+        }
+    }
+
+    /**
+     * Waits for the first check to complete, at most for the timeout of the check.
+     */
+    void awaitFirstResult() throws InterruptedException {
+        firstResult.await(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void run() {
+        long start = System.currentTimeMillis();
+        runningSince = start;
+        try {
+            healthCheckInfo = healthCheck.get();
+        } catch (Exception e) {
+            log.error("{} health check failed", componentName, e);
+            healthCheckInfo = new HealthCheckInfo(componentName, DOWN, null,
+                    componentName + " health check failed: " + e.getMessage());
+        } finally {
+            runningSince = 0;
+            firstResult.countDown();
+        }
+        long latency = System.currentTimeMillis() - start;
+        latencyHistogram.incrementAndGet(getLatencyBucket(latency));
+        log.trace("{} health check took {} ms. Latency histogram {} for buckets up to {} ms", componentName, latency,
+                latencyHistogram, Arrays.toString(LATENCY_BUCKETS_MS));
+    }
+
+    HealthCheckInfo getHealthCheckInfo() {
+        long checkStart = runningSince;
+        if (checkStart != 0 && System.currentTimeMillis() - checkStart > timeoutMillis) {
+            return new HealthCheckInfo(componentName, DOWN, null,
+                    componentName + " health check did not respond in " + timeoutMillis + " ms");
+        }
+        return healthCheckInfo;
+    }
+
+    private static int getLatencyBucket(long latency) {
+        int bucket = 0;
+        while (bucket < LATENCY_BUCKETS_MS.length && latency > LATENCY_BUCKETS_MS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+}
@@ -29,6 +29,8 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import fj.data.Either;
 import io.vavr.control.Option;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -76,6 +78,7 @@ import org.openecomp.sdc.be.config.Configuration.ArtifactTypeConfig;
 import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.ArtifactPayloadStream;
 import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
 import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
 import org.openecomp.sdc.be.datatypes.components.ComponentMetadataDataDefinition;
@@ -725,6 +728,28 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         return downloadArtifact(csarArtifact);
     }
 
+    /**
+     * Writes the tosca csar of the component to the given stream. A csar which has to be generated is streamed entry by
+     * entry while it is generated instead of being built in memory first.
+     *
+     * @return the csar file name
+     */
+    public String handleDownloadToscaModelRequest(Component component, ArtifactDefinition csarArtifact, OutputStream out) throws IOException {
+        if (artifactGenerationRequired(component, csarArtifact)) {
+            Either<OutputStream, ResponseFormat> generated = csarUtils.createCsar(component, false, false, out);
+
+            if (generated.isRight()) {
+                log.debug("Failed to export tosca csar for component {} error {}", component.getUniqueId(), generated.right()
+                        .value());
+                throw new ByResponseFormatComponentException(generated.right().value());
+            }
+            return csarArtifact.getArtifactName();
+        }
+        ImmutablePair<String, byte[]> downloaded = downloadArtifact(csarArtifact);
+        out.write(downloaded.getRight());
+        return downloaded.getLeft();
+    }
+
     public ImmutablePair<String, byte[]> handleDownloadRequestById(String componentId, String artifactId, String userId, ComponentTypeEnum componentType, String parentId, String containerComponentType) {
         // perform all validation in common flow
         Either<ArtifactDefinition, Operation> result = handleArtifactRequest(componentId, userId, componentType, new ArtifactOperationInfo(false, false, ArtifactOperationEnum.DOWNLOAD), artifactId, null, null, null, null,
@@ -2999,6 +3024,22 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         return new ImmutablePair<>(artifactName, data);
     }
 
+    /**
+     * Gives access to the payload of the artifact without reading it, so it can be streamed by range.
+     */
+    private ArtifactPayloadStream downloadArtifactStream(ArtifactDefinition artifactDefinition) {
+        String esArtifactId = artifactDefinition.getEsId();
+        Either<ArtifactPayloadStream, CassandraOperationStatus> artifactFromCassandra = artifactCassandraDao.getArtifactStream(esArtifactId);
+        if (artifactFromCassandra.isRight()) {
+            CassandraOperationStatus status = artifactFromCassandra.right().value();
+            StorageOperationStatus storageResponse = DaoStatusConverter.convertCassandraStatusToStorageStatus(status);
+            ActionStatus actionStatus = componentsUtils.convertFromStorageResponse(storageResponse);
+            log.debug("Error when getting artifact from ES, error: {}", actionStatus);
+            throw new ByActionStatusComponentException(actionStatus, artifactDefinition.getArtifactDisplayName());
+        }
+        return artifactFromCassandra.left().value();
+    }
+
     public DAOArtifactData createEsArtifactData(ArtifactDataDefinition artifactInfo, byte[] artifactPayload) {
         return new DAOArtifactData(artifactInfo.getEsId(), artifactPayload);
     }
@@ -3799,7 +3840,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         return ret;
     }
 
-    public byte[] downloadComponentArtifactByUUIDs(ComponentTypeEnum componentType, String componentUuid, String artifactUUID, ResourceCommonInfo resourceCommonInfo) {
+    public ArtifactPayloadStream downloadComponentArtifactByUUIDs(ComponentTypeEnum componentType, String componentUuid, String artifactUUID, ResourceCommonInfo resourceCommonInfo) {
         Component component = getComponentByUuid(componentType, componentUuid);
         resourceCommonInfo.setResourceName(component.getName());
         return downloadArtifact(component.getAllArtifacts(), artifactUUID, component.getName());
@@ -3814,8 +3855,8 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
      * @param artifactUUID
      * @return
      */
-    public byte[] downloadResourceInstanceArtifactByUUIDs(ComponentTypeEnum componentType, String componentUuid,
-                                                          String resourceInstanceName, String artifactUUID) {
+    public ArtifactPayloadStream downloadResourceInstanceArtifactByUUIDs(ComponentTypeEnum componentType, String componentUuid,
+                                                                         String resourceInstanceName, String artifactUUID) {
         ComponentInstance resourceInstance = getRelatedComponentInstance(componentType, componentUuid, resourceInstanceName);
 
         if (resourceInstance != null) {
@@ -4596,9 +4637,9 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
             .findFirst());
     }
 
-    private byte[] downloadArtifact(Map<String, ArtifactDefinition> artifacts, String artifactUUID, String componentName) {
+    private ArtifactPayloadStream downloadArtifact(Map<String, ArtifactDefinition> artifacts, String artifactUUID, String componentName) {
 
-        ImmutablePair<String, byte[]> downloadArtifact;
+        ArtifactPayloadStream downloadArtifact;
         List<ArtifactDefinition> artifactsList = null;
         ArtifactDefinition deploymentArtifact;
         if (artifacts != null && !artifacts.isEmpty()) {
@@ -4613,9 +4654,9 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
             throw new ByActionStatusComponentException(ActionStatus.ARTIFACT_NOT_FOUND, artifactUUID);
         }
         deploymentArtifact = artifactsList.get(0);
-        downloadArtifact = downloadArtifact(deploymentArtifact);
+        downloadArtifact = downloadArtifactStream(deploymentArtifact);
         log.trace("Succeeded to download artifact with uniqueId {}", deploymentArtifact.getUniqueId());
-        return downloadArtifact.getRight();
+        return downloadArtifact;
     }
 
     private Component getLatestComponentByUuid(ComponentTypeEnum componentType, String componentUuid) {
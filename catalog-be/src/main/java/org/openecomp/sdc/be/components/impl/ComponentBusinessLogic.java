@@ -23,6 +23,8 @@
 package org.openecomp.sdc.be.components.impl;
 
 import fj.data.Either;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.BooleanSupplier;
@@ -547,6 +549,23 @@ public abstract class ComponentBusinessLogic extends BaseBusinessLogic {
     }
 
     public ImmutablePair<String, byte[]> getToscaModelByComponentUuid(ComponentTypeEnum componentType, String uuid, ResourceCommonInfo resourceCommonInfo) {
+        ImmutablePair<Component, ArtifactDefinition> componentAndCsar = getComponentAndCsarArtifactByUuid(componentType, uuid, resourceCommonInfo);
+        return artifactsBusinessLogic.handleDownloadToscaModelRequest(componentAndCsar.getLeft(), componentAndCsar.getRight());
+    }
+
+    /**
+     * Writes the tosca model csar of the component to the given stream without holding the whole csar in memory.
+     *
+     * @return the csar file name
+     */
+    public String writeToscaModelByComponentUuid(ComponentTypeEnum componentType, String uuid, ResourceCommonInfo resourceCommonInfo,
+                                                 OutputStream out) throws IOException {
+        ImmutablePair<Component, ArtifactDefinition> componentAndCsar = getComponentAndCsarArtifactByUuid(componentType, uuid, resourceCommonInfo);
+        return artifactsBusinessLogic.handleDownloadToscaModelRequest(componentAndCsar.getLeft(), componentAndCsar.getRight(), out);
+    }
+
+    private ImmutablePair<Component, ArtifactDefinition> getComponentAndCsarArtifactByUuid(ComponentTypeEnum componentType, String uuid,
+                                                                                        ResourceCommonInfo resourceCommonInfo) {
 
         Either<List<Component>, StorageOperationStatus> latestVersionEither = toscaOperationFacade.getComponentListByUuid(uuid, null);
 
@@ -573,7 +592,7 @@ public abstract class ComponentBusinessLogic extends BaseBusinessLogic {
         ArtifactDefinition csarArtifact = component.getToscaArtifacts().values().stream()
                 .filter(p -> p.getArtifactType().equals(ArtifactTypeEnum.TOSCA_CSAR.getType()))
                 .findAny().get();
-        return artifactsBusinessLogic.handleDownloadToscaModelRequest(component, csarArtifact);
+        return new ImmutablePair<>(component, csarArtifact);
     }
 
     protected StorageOperationStatus markComponentToDelete(Component component) {
@@ -63,6 +63,7 @@ import org.openecomp.sdc.be.model.Service;
 import org.openecomp.sdc.be.model.Tag;
 import org.openecomp.sdc.be.model.User;
 import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.catalog.CatalogFilter;
 import org.openecomp.sdc.be.model.category.CategoryDefinition;
 import org.openecomp.sdc.be.model.category.GroupingDefinition;
 import org.openecomp.sdc.be.model.category.SubCategoryDefinition;
@@ -92,6 +93,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -952,6 +954,48 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
         }
     }
 
+    /**
+     * Returns a page of the catalog components matching the given filter, ordered by name, version and id.
+     * A null limit returns all the components from the offset on.
+     */
+    public Either<Map<String, List<CatalogComponent>>, ResponseFormat> getCatalogComponents(String userId, CatalogFilter filter, int offset, Integer limit) {
+        try {
+            return toscaOperationFacade.getCatalogOrArchiveComponents(true, filter)
+                    .bimap(components -> groupByComponentType(getPage(components, offset, limit)),
+                            err -> componentsUtils.getResponseFormat(componentsUtils.convertFromStorageResponse(err)));
+        } finally {
+            janusGraphDao.commit();
+        }
+    }
+
+    /**
+     * Returns the version of the catalog, which changes whenever a catalog component changes. Empty when the catalog
+     * is not versioned.
+     */
+    public Optional<Long> getCatalogVersion() {
+        try {
+            Either<Optional<Long>, StorageOperationStatus> catalogVersion = toscaOperationFacade.getCatalogVersion();
+            if (catalogVersion.isRight()) {
+                log.debug("Failed to fetch the catalog version {}", catalogVersion.right().value());
+                return Optional.empty();
+            }
+            return catalogVersion.left().value();
+        } finally {
+            janusGraphDao.commit();
+        }
+    }
+
+    private List<CatalogComponent> getPage(List<CatalogComponent> components, int offset, Integer limit) {
+        List<CatalogComponent> sorted = components.stream()
+                .sorted(Comparator.comparing(CatalogComponent::getName, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(CatalogComponent::getVersion, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(CatalogComponent::getUniqueId))
+                .collect(Collectors.toList());
+        int from = Math.min(offset, sorted.size());
+        int to = limit == null ? sorted.size() : (int) Math.min((long) from + limit, sorted.size());
+        return sorted.subList(from, to);
+    }
+
     private Map<String, List<CatalogComponent>> groupByComponentType(List<CatalogComponent> components) {
         Map<String, List<CatalogComponent>> map = components.stream().collect(Collectors.groupingBy(cmpt -> cmptTypeToString(cmpt.getComponentType())));
 
@@ -625,7 +625,7 @@ public class ResourceBusinessLogic extends ComponentBusinessLogic {
 			preparedResource = createInputsOnResource(preparedResource, uploadComponentInstanceInfoMap.getInputs());
 			Map<String, Resource> existingNodeTypesByResourceNames = new HashMap<>();
 			preparedResource = createResourceInstances(yamlFileName, preparedResource, oldResource, instances, csarInfo.getCreatedNodes(), existingNodeTypesByResourceNames);
-			preparedResource = createResourceInstancesRelations(csarInfo.getModifier(), yamlFileName, preparedResource, oldResource, instances, existingNodeTypesByResourceNames);
+			preparedResource = createResourceInstancesRelations(csarInfo.getModifier(), yamlFileName, preparedResource, oldResource, instances, csarInfo.getOriginComponents());
 		} catch (ComponentException e) {
 			ResponseFormat responseFormat = e.getResponseFormat() == null
 					? componentsUtils.getResponseFormat(e.getActionStatus(), e.getParams()) : e.getResponseFormat();
@@ -2192,7 +2192,7 @@ public class ResourceBusinessLogic extends ComponentBusinessLogic {
 				csarInfo.getCreatedNodes(), existingNodeTypesByResourceNames);
 		log.debug("************* Finished to create all resource instances {}", yamlName);
 		log.debug("************* Going to create all relations {}", yamlName);
-		resource = createResourceInstancesRelations(csarInfo.getModifier(), yamlName, resource, null, uploadComponentInstanceInfoMap, existingNodeTypesByResourceNames);
+		resource = createResourceInstancesRelations(csarInfo.getModifier(), yamlName, resource, null, uploadComponentInstanceInfoMap, csarInfo.getOriginComponents());
 		log.debug("************* Finished to create all relations {}", yamlName);
 		log.debug("************* Going to create positions {}", yamlName);
 		compositionBusinessLogic.setPositionsForComponentInstances(resource, csarInfo.getModifier()
@@ -2616,8 +2616,13 @@ public class ResourceBusinessLogic extends ComponentBusinessLogic {
 		return result;
 	}
 
+	/**
+	 * Adds the properties, capabilities, requirements, artifacts and relations of all the instances of the resource.
+	 * The origin components of the instances are fetched once per import and kept in the given map of origin components
+	 * by unique id, so templates of the same CSAR instantiating the same node types do not fetch them again.
+	 */
 	private Resource createResourceInstancesRelations(User user, String yamlName, Resource resource, Resource oldResource,
-													  Map<String, UploadComponentInstanceInfo> uploadResInstancesMap, Map<String, Resource> existingNodeTypesByResourceNames) {
+													  Map<String, UploadComponentInstanceInfo> uploadResInstancesMap, Map<String, Resource> originComponents) {
 		log.debug("#createResourceInstancesRelations - Going to create relations ");
 		loggerSupportability.log(LoggerSupportabilityActions.CREATE_RELATIONS,resource.getComponentMetadataForSupportLog(),	StatusCode.STARTED,"Start to create relations");
 		List<ComponentInstance> componentInstancesList = resource.getComponentInstances();
@@ -2656,10 +2661,11 @@ public class ResourceBusinessLogic extends ComponentBusinessLogic {
 
 		}
 		Resource finalResource = resource;
+		Map<String, ComponentInstance> componentInstancesByName = getComponentInstancesByName(componentInstancesList);
 		uploadResInstancesMap.values()
-				.forEach(i -> processComponentInstance(yamlName, finalResource, componentInstancesList, allDataTypes,
+				.forEach(i -> processComponentInstance(yamlName, finalResource, componentInstancesByName, allDataTypes,
 						instProperties, instCapabilities, instRequirements, instDeploymentArtifacts, instArtifacts,
-						instAttributes, existingNodeTypesByResourceNames, instInputs, i));
+						instAttributes, originComponents, instInputs, i));
 		resource.getComponentInstances()
 				.stream()
 				.filter(i -> !i.isCreatedFromCsar())
@@ -2672,7 +2678,7 @@ public class ResourceBusinessLogic extends ComponentBusinessLogic {
 		associateArtifactsToInstances(yamlName, resource, instArtifacts);
 		associateOrAddCalculatedCapReq(yamlName, resource, instCapabilities, instRequirements);
 		associateInstAttributeToComponentToInstances(yamlName, resource, instAttributes);
-		addRelationsToRI(yamlName, resource, uploadResInstancesMap, componentInstancesList, relations);
+		addRelationsToRI(yamlName, resource, uploadResInstancesMap, relations);
 		associateResourceInstances(yamlName, resource, relations);
 		handleSubstitutionMappings(resource, uploadResInstancesMap);
 		log.debug("************* in create relations, getResource start");
@@ -2691,6 +2697,14 @@ public class ResourceBusinessLogic extends ComponentBusinessLogic {
 				.value();
 	}
 
+	private Map<String, ComponentInstance> getComponentInstancesByName(List<ComponentInstance> componentInstancesList) {
+		Map<String, ComponentInstance> componentInstancesByName = new HashMap<>();
+		if (componentInstancesList != null) {
+			componentInstancesList.forEach(i -> componentInstancesByName.putIfAbsent(i.getName(), i));
+		}
+		return componentInstancesByName;
+	}
+
 	private void processUiComponentInstance(Resource oldResource, ComponentInstance instance,
 											Map<ComponentInstance, Map<String, List<CapabilityDefinition>>> instCapabilities,
 											Map<ComponentInstance, Map<String, List<RequirementDefinition>>> instRequirements,
@@ -2863,19 +2877,12 @@ public class ResourceBusinessLogic extends ComponentBusinessLogic {
 
 	private void addRelationsToRI(String yamlName, Resource resource,
 								  Map<String, UploadComponentInstanceInfo> uploadResInstancesMap,
-								  List<ComponentInstance> componentInstancesList, List<RequirementCapabilityRelDef> relations) {
+								  List<RequirementCapabilityRelDef> relations) {
+		// the instances of the resource were reloaded with their calculated requirements and capabilities
+		Map<String, ComponentInstance> componentInstancesByName = getComponentInstancesByName(resource.getComponentInstances());
 		for (Entry<String, UploadComponentInstanceInfo> entry : uploadResInstancesMap.entrySet()) {
 			UploadComponentInstanceInfo uploadComponentInstanceInfo = entry.getValue();
-			ComponentInstance currentCompInstance = null;
-			for (ComponentInstance compInstance : componentInstancesList) {
-
-				if (compInstance.getName()
-						.equals(uploadComponentInstanceInfo.getName())) {
-					currentCompInstance = compInstance;
-					break;
-				}
-
-			}
+			ComponentInstance currentCompInstance = componentInstancesByName.get(uploadComponentInstanceInfo.getName());
 			if (currentCompInstance == null) {
 				log.debug(COMPONENT_INSTANCE_WITH_NAME_IN_RESOURCE, uploadComponentInstanceInfo.getName(),
 						resource.getUniqueId());
@@ -2886,7 +2893,8 @@ public class ResourceBusinessLogic extends ComponentBusinessLogic {
 				throw new ByActionStatusComponentException(ActionStatus.NOT_TOPOLOGY_TOSCA_TEMPLATE, yamlName);
 			}
 
-			ResponseFormat addRelationToRiRes = addRelationToRI(yamlName, resource, entry.getValue(), relations);
+			ResponseFormat addRelationToRiRes = addRelationToRI(yamlName, resource, componentInstancesByName,
+					currentCompInstance, entry.getValue(), relations);
 			if (addRelationToRiRes.getStatus() != 200) {
 				throw new ByResponseFormatComponentException(addRelationToRiRes);
 			}
@@ -2903,7 +2911,7 @@ public class ResourceBusinessLogic extends ComponentBusinessLogic {
 	}
 
 	private void processComponentInstance(String yamlName, Resource resource,
-										  List<ComponentInstance> componentInstancesList,
+										  Map<String, ComponentInstance> componentInstancesByName,
 										  Either<Map<String, DataTypeDefinition>, JanusGraphOperationStatus> allDataTypes,
 										  Map<String, List<ComponentInstanceProperty>> instProperties,
 										  Map<ComponentInstance, Map<String, List<CapabilityDefinition>>> instCapabilties,
@@ -2914,10 +2922,8 @@ public class ResourceBusinessLogic extends ComponentBusinessLogic {
 										  Map<String, Resource> originCompMap,
 										  Map<String, List<ComponentInstanceInput>> instInputs,
 										  UploadComponentInstanceInfo uploadComponentInstanceInfo) {
-		Optional<ComponentInstance> currentCompInstanceOpt = componentInstancesList.stream()
-				.filter(i -> i.getName()
-						.equals(uploadComponentInstanceInfo.getName()))
-				.findFirst();
+		Optional<ComponentInstance> currentCompInstanceOpt = Optional.ofNullable(
+				componentInstancesByName.get(uploadComponentInstanceInfo.getName()));
 		if (!currentCompInstanceOpt.isPresent()) {
 			log.debug(COMPONENT_INSTANCE_WITH_NAME_IN_RESOURCE, uploadComponentInstanceInfo.getName(),
 					resource.getUniqueId());
@@ -3157,28 +3163,8 @@ public class ResourceBusinessLogic extends ComponentBusinessLogic {
 	}
 
 	private ResponseFormat addRelationToRI(String yamlName, Resource resource,
+										   Map<String, ComponentInstance> componentInstancesByName, ComponentInstance currentCompInstance,
 										   UploadComponentInstanceInfo nodesInfoValue, List<RequirementCapabilityRelDef> relations) {
-		List<ComponentInstance> componentInstancesList = resource.getComponentInstances();
-
-		ComponentInstance currentCompInstance = null;
-
-		for (ComponentInstance compInstance : componentInstancesList) {
-
-			if (compInstance.getName()
-					.equals(nodesInfoValue.getName())) {
-				currentCompInstance = compInstance;
-				break;
-			}
-
-		}
-
-		if (currentCompInstance == null) {
-			log.debug(COMPONENT_INSTANCE_WITH_NAME_IN_RESOURCE, nodesInfoValue.getName(), resource.getUniqueId());
-			BeEcompErrorManager.getInstance()
-					.logInternalDataError(COMPONENT_INSTANCE_WITH_NAME + nodesInfoValue.getName() + IN_RESOURCE,
-							resource.getUniqueId(), ErrorSeverity.ERROR);
-			return componentsUtils.getResponseFormat(ActionStatus.NOT_TOPOLOGY_TOSCA_TEMPLATE, yamlName);
-		}
 		String resourceInstanceId = currentCompInstance.getUniqueId();
 
 		Map<String, List<UploadReqInfo>> regMap = nodesInfoValue.getRequirements();
@@ -3224,15 +3210,7 @@ public class ResourceBusinessLogic extends ComponentBusinessLogic {
 					relationship.setType(validReq.getCapability());
 					reqAndRelationshipPair.setRelationships(relationship);
 
-					ComponentInstance currentCapCompInstance = null;
-					for (ComponentInstance compInstance : componentInstancesList) {
-						if (compInstance.getName()
-								.equals(uploadRegInfo.getNode())) {
-							currentCapCompInstance = compInstance;
-							break;
-						}
-					}
-
+					ComponentInstance currentCapCompInstance = componentInstancesByName.get(uploadRegInfo.getNode());
 					if (currentCapCompInstance == null) {
 						log.debug("The component instance  with name {} not found on resource {} ",
 								uploadRegInfo.getNode(), resource.getUniqueId());
@@ -30,11 +30,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.servers.Server;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -58,6 +58,7 @@ import org.openecomp.sdc.be.components.impl.artifact.ArtifactOperationInfo;
 import org.openecomp.sdc.be.components.impl.exceptions.ComponentException;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.dao.cassandra.ArtifactPayloadStream;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
 import org.openecomp.sdc.be.impl.ComponentsUtils;
 import org.openecomp.sdc.be.impl.ServletUtils;
@@ -66,6 +67,7 @@ import org.openecomp.sdc.be.resources.data.auditing.AuditingActionEnum;
 import org.openecomp.sdc.be.resources.data.auditing.model.DistributionData;
 import org.openecomp.sdc.be.resources.data.auditing.model.ResourceCommonInfo;
 import org.openecomp.sdc.be.servlets.AbstractValidationsServlet;
+import org.openecomp.sdc.be.servlets.ByteRange;
 import org.openecomp.sdc.be.servlets.RepresentationUtils;
 import org.openecomp.sdc.be.user.UserBusinessLogic;
 import org.openecomp.sdc.common.api.Constants;
@@ -90,6 +92,7 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
 
     private static final String FAILED_TO_UPDATE_ARTIFACT = "failed to update artifact";
     private static final String DOUBLE_CURLY_BRACKETS = "{} {}";
+    private static final String BYTES_RANGE_UNIT = "bytes";
 
     @Context
     private HttpServletRequest request;
@@ -876,6 +879,8 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
                     required = false) @HeaderParam(value = Constants.ACCEPT_HEADER) String accept,
             @Parameter(description = "The username and password",
                     required = true) @HeaderParam(value = Constants.AUTHORIZATION_HEADER) String authorization,
+            @Parameter(description = "A single byte range of the artifact to download",
+                    required = false) @HeaderParam(value = Constants.RANGE_HEADER) String range,
             @Parameter(schema = @Schema(allowableValues = {"resources,services"}),description = "The requested asset type",
                     required = true) @PathParam("assetType") final String assetType,
             @Parameter(description = "The uuid of the asset as published in the metadata",
@@ -904,13 +909,14 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
         ResourceCommonInfo resourceCommonInfo = new ResourceCommonInfo(componentTypeValue);
         try {
             if (responseWrapper.isEmpty()) {
-                byte[] value = artifactsBusinessLogic.downloadComponentArtifactByUUIDs(componentType, uuid, artifactUUID, resourceCommonInfo);
-                InputStream is = new ByteArrayInputStream(value);
-                Map<String, String> headers = new HashMap<>();
-                headers.put(Constants.MD5_HEADER, GeneralUtility.calculateMD5Base64EncodedByByteArray(value));
+                ArtifactPayloadStream payload = artifactsBusinessLogic.downloadComponentArtifactByUUIDs(componentType, uuid, artifactUUID, resourceCommonInfo);
                 responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
-                responseWrapper.setInnerElement(buildOkResponse(responseFormat, is, headers));
+                responseWrapper.setInnerElement(buildArtifactPayloadResponse(responseFormat, payload, range));
             }
+        }  catch (IOException e) {
+            log.debug("downloadComponentArtifact: failed to read artifact {}", artifactUUID, e);
+            responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.GENERAL_ERROR);
+            responseWrapper.setInnerElement(buildErrorResponse(responseFormat));
         }  catch (ComponentException e){
             responseFormat = getComponentsUtils().getResponseFormat(e);
             throw e;
@@ -955,6 +961,8 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
                     required = false) @HeaderParam(value = Constants.ACCEPT_HEADER) String accept,
             @Parameter(description = "The username and password",
                     required = true) @HeaderParam(value = Constants.AUTHORIZATION_HEADER) String authorization,
+            @Parameter(description = "A single byte range of the artifact to download",
+                    required = false) @HeaderParam(value = Constants.RANGE_HEADER) String range,
             @Parameter(description = "The requested asset type",
                     required = true) @PathParam("assetType") final String assetType,
             @Parameter(description = "The uuid of the asset as published in the metadata",
@@ -984,13 +992,14 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
         }
         try {
             if (responseWrapper.isEmpty()) {
-                byte[] value = artifactsBusinessLogic.downloadResourceInstanceArtifactByUUIDs(componentType, uuid, resourceInstanceName, artifactUUID);
-                InputStream is = new ByteArrayInputStream(value);
-                Map<String, String> headers = new HashMap<>();
-                headers.put(Constants.MD5_HEADER, GeneralUtility.calculateMD5Base64EncodedByByteArray(value));
+                ArtifactPayloadStream payload = artifactsBusinessLogic.downloadResourceInstanceArtifactByUUIDs(componentType, uuid, resourceInstanceName, artifactUUID);
                 responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
-                responseWrapper.setInnerElement(buildOkResponse(responseFormat, is, headers));
+                responseWrapper.setInnerElement(buildArtifactPayloadResponse(responseFormat, payload, range));
             }
+        }  catch (IOException e) {
+            log.debug("downloadResourceInstanceArtifact: failed to read artifact {}", artifactUUID, e);
+            responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.GENERAL_ERROR);
+            responseWrapper.setInnerElement(buildErrorResponse(responseFormat));
         }  catch (ComponentException e){
             responseFormat = getComponentsUtils().getResponseFormat(e);
             throw e;
@@ -1001,4 +1010,36 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
         }
         return responseWrapper.getInnerElement();
     }
+
+    /**
+     * Streams the artifact payload, or the single byte range requested by the Range header. The Content-MD5 header
+     * is only sent with the whole payload.
+     */
+    private Response buildArtifactPayloadResponse(ResponseFormat responseFormat, ArtifactPayloadStream payload, String range)
+            throws IOException {
+        long size = payload.getSize();
+        Optional<ByteRange> byteRange = ByteRange.parse(range, size);
+        if (!byteRange.isPresent()) {
+            String checksum = payload.getChecksum() != null ? payload.getChecksum()
+                    : GeneralUtility.calculateMD5Base64EncodedByInputStream(payload.openStream());
+            Map<String, String> headers = new HashMap<>();
+            headers.put(Constants.MD5_HEADER, checksum);
+            headers.put(Constants.ACCEPT_RANGES_HEADER, BYTES_RANGE_UNIT);
+            headers.put(Constants.CONTENT_LENGTH_HEADER, String.valueOf(size));
+            return buildOkResponse(responseFormat, payload.openStream(), headers);
+        }
+        if (!byteRange.get().isSatisfiable()) {
+            log.debug("Range {} is not satisfiable for an artifact of {} bytes", range, size);
+            return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(Constants.CONTENT_RANGE_HEADER, byteRange.get().toContentRange(size))
+                    .build();
+        }
+        InputStream is = payload.openStream(byteRange.get().getFirst(), byteRange.get().getLength());
+        return Response.status(Response.Status.PARTIAL_CONTENT)
+                .entity(is)
+                .header(Constants.ACCEPT_RANGES_HEADER, BYTES_RANGE_UNIT)
+                .header(Constants.CONTENT_RANGE_HEADER, byteRange.get().toContentRange(size))
+                .header(Constants.CONTENT_LENGTH_HEADER, String.valueOf(byteRange.get().getLength()))
+                .build();
+    }
 }
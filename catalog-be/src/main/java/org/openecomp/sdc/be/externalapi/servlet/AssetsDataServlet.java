@@ -32,7 +32,6 @@ import io.swagger.v3.oas.annotations.servers.Server;
 import io.swagger.v3.oas.annotations.servers.Servers;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.tags.Tags;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openecomp.sdc.be.components.impl.ComponentBusinessLogic;
 import org.openecomp.sdc.be.components.impl.ComponentBusinessLogicProvider;
 import org.openecomp.sdc.be.components.impl.ComponentInstanceBusinessLogic;
@@ -76,9 +75,13 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
-import java.io.ByteArrayInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
@@ -104,6 +107,7 @@ public class AssetsDataServlet extends AbstractValidationsServlet {
     private HttpServletRequest request;
 
     private static final Logger log = Logger.getLogger(AssetsDataServlet.class);
+    private static final String TOSCA_MODEL_FILE_PREFIX = "tosca-model-";
 
     private final ElementBusinessLogic elementBusinessLogic;
     private final AssetMetadataConverter assetMetadataConverter;
@@ -398,20 +402,36 @@ public class AssetsDataServlet extends AbstractValidationsServlet {
             return buildErrorResponse(responseFormat);
         }
 
+        // the csar is streamed to a temporary file, which is deleted once the response body was sent
+        Path csarFile = null;
         try {
             ComponentBusinessLogic componentBusinessLogic = getComponentBLByType(componentType);
-            ImmutablePair<String, byte[]> csarArtifact = componentBusinessLogic.getToscaModelByComponentUuid(componentType, uuid, resourceCommonInfo);
-            byte[] value = csarArtifact.getRight();
-            InputStream is = new ByteArrayInputStream(value);
-            String contenetMD5 = GeneralUtility.calculateMD5Base64EncodedByByteArray(value);
+            csarFile = Files.createTempFile(TOSCA_MODEL_FILE_PREFIX, null);
+            String csarFileName;
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(csarFile))) {
+                csarFileName = componentBusinessLogic.writeToscaModelByComponentUuid(componentType, uuid, resourceCommonInfo, out);
+            }
+            String contenetMD5;
+            try (InputStream csarStream = Files.newInputStream(csarFile)) {
+                contenetMD5 = GeneralUtility.calculateMD5Base64EncodedByInputStream(csarStream);
+            }
+            InputStream is = Files.newInputStream(csarFile, StandardOpenOption.DELETE_ON_CLOSE);
+            csarFile = null;
             Map<String, String> headers = new HashMap<>();
-            headers.put(Constants.CONTENT_DISPOSITION_HEADER, getContentDispositionValue(csarArtifact.getLeft()));
+            headers.put(Constants.CONTENT_DISPOSITION_HEADER, getContentDispositionValue(csarFileName));
             headers.put(Constants.MD5_HEADER, contenetMD5);
             responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
             getComponentsUtils().auditExternalGetAsset(responseFormat, auditingActionEnum, distributionData,
                     resourceCommonInfo, requestId, uuid);
             return buildOkResponse(responseFormat, is, headers);
 
+        } catch (IOException e) {
+            responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.GENERAL_ERROR);
+            getComponentsUtils().auditExternalGetAsset(responseFormat, auditingActionEnum, distributionData,
+                    resourceCommonInfo, requestId, uuid);
+            BeEcompErrorManager.getInstance().logBeRestApiGeneralError("Get asset tosca model");
+            log.debug("failed to write asset tosca model", e);
+            return buildErrorResponse(responseFormat);
         } catch (ComponentException e) {
             responseFormat = e.getResponseFormat();
             getComponentsUtils().auditExternalGetAsset(responseFormat, auditingActionEnum, distributionData,
@@ -422,6 +442,18 @@ public class AssetsDataServlet extends AbstractValidationsServlet {
             getComponentsUtils().auditExternalGetAsset(responseFormat, auditingActionEnum, distributionData,
                     resourceCommonInfo, requestId, uuid);
             return response;
+        } finally {
+            deleteTemporaryFile(csarFile);
+        }
+    }
+
+    private void deleteTemporaryFile(Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.debug("failed to delete temporary file {}", file, e);
+            }
         }
     }
 
@@ -0,0 +1,99 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.servlets;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A single byte range requested by an HTTP Range header (RFC 7233).
+ */
+public final class ByteRange {
+
+    private static final String BYTES_UNIT = "bytes";
+    private static final Pattern SINGLE_BYTE_RANGE = Pattern.compile("^\\s*bytes\\s*=\\s*(\\d*)\\s*-\\s*(\\d*)\\s*$");
+
+    private final long first;
+    private final long last;
+
+    private ByteRange(long first, long last) {
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * Parses the Range header of a request for a representation of the given size.
+     *
+     * @return the requested range, or an empty optional when the header is missing, malformed or asks for several
+     * ranges, in which case the whole representation is sent. The returned range is not satisfiable when it starts
+     * after the end of the representation.
+     */
+    public static Optional<ByteRange> parse(String rangeHeader, long size) {
+        if (rangeHeader == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = SINGLE_BYTE_RANGE.matcher(rangeHeader);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String first = matcher.group(1);
+        String last = matcher.group(2);
+        try {
+            if (first.isEmpty()) {
+                // suffix range, the last bytes of the representation
+                if (last.isEmpty()) {
+                    return Optional.empty();
+                }
+                long suffixLength = Long.parseLong(last);
+                return Optional.of(new ByteRange(Math.max(size - suffixLength, 0), size - 1));
+            }
+            long firstByte = Long.parseLong(first);
+            long lastByte = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            if (!last.isEmpty() && Long.parseLong(last) < firstByte) {
+                return Optional.empty();
+            }
+            return Optional.of(new ByteRange(firstByte, lastByte));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public boolean isSatisfiable() {
+        return first <= last;
+    }
+
+    public long getFirst() {
+        return first;
+    }
+
+    public long getLength() {
+        return last - first + 1;
+    }
+
+    /**
+     * @return the value of the Content-Range header of the response
+     */
+    public String toContentRange(long size) {
+        return isSatisfiable() ? String.format("%s %d-%d/%d", BYTES_UNIT, first, last, size)
+            : String.format("%s */%d", BYTES_UNIT, size);
+    }
+}
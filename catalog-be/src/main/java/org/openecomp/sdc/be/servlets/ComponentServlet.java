@@ -72,6 +72,7 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.EnumMap;
@@ -211,7 +212,8 @@ public class ComponentServlet extends BeGenericServlet {
                 log.debug(FAILED_TO_GET_ALL_NON_ABSTRACT, componentType);
                 return buildErrorResponse(actionResponse.right().value());
             }
-            Object components = RepresentationUtils.toRepresentation(actionResponse.left().value());
+            Object components = toStreamingRepresentation(actionResponse.left().value(),
+                GET_CERTIFIED_NON_ABSTRACT + componentType, GET_CERTIFIED_NOT_ABSTRACT_COMPONENTS_FAILED_WITH_EXCEPTION);
             return buildOkResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), components);
 
         } catch (Exception e) {
@@ -258,7 +260,8 @@ public class ComponentServlet extends BeGenericServlet {
                 return buildErrorResponse(actionResponse.right().value());
 
             }
-            Object components = RepresentationUtils.toRepresentation(actionResponse.left().value());
+            Object components = toStreamingRepresentation(actionResponse.left().value(),
+                GET_CERTIFIED_NON_ABSTRACT + componentType, GET_CERTIFIED_NOT_ABSTRACT_COMPONENTS_FAILED_WITH_EXCEPTION);
             return  buildOkResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), components);
 
 
@@ -339,7 +342,9 @@ public class ComponentServlet extends BeGenericServlet {
                 log.debug("failed to get all component instances filtered by properties and inputs", componentType);
                 return buildErrorResponse(actionResponse.right().value());
             }
-            Object components = RepresentationUtils.toRepresentation(actionResponse.left().value());
+            Object components = toStreamingRepresentation(actionResponse.left().value(),
+                "Get Component Instances filtered by properties & inputs" + componentType,
+                "getComponentInstancesFilteredByPropertiesAndInputs failed with exception");
             return buildOkResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), components);
 
         } catch (Exception e) {
@@ -401,7 +406,6 @@ public class ComponentServlet extends BeGenericServlet {
                 log.debug("failed to get component data filtered by ui params");
                 return buildErrorResponse(actionResponse.right().value());
             }
-            RepresentationUtils.toRepresentation(actionResponse.left().value());
             return buildOkResponse(actionResponse.left().value());
 
         } catch (Exception e) {
@@ -462,4 +466,22 @@ public class ComponentServlet extends BeGenericServlet {
             throw e;
         }
     }
+
+    /**
+     * The streamed representation is written after the resource method returned, so the failures to write it are
+     * reported here like the failures of the resource method are.
+     */
+    private StreamingOutput toStreamingRepresentation(Object elementToRepresent, String apiName,
+            String failureMessage) {
+        StreamingOutput representation = RepresentationUtils.toStreamingRepresentation(elementToRepresent);
+        return output -> {
+            try {
+                representation.write(output);
+            } catch (IOException | RuntimeException e) {
+                BeEcompErrorManager.getInstance().logBeRestApiGeneralError(apiName);
+                log.debug(failureMessage, e);
+                throw e;
+            }
+        };
+    }
 }
@@ -53,6 +53,7 @@ import org.openecomp.sdc.be.model.PropertyScope;
 import org.openecomp.sdc.be.model.Tag;
 import org.openecomp.sdc.be.model.User;
 import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.catalog.CatalogFilter;
 import org.openecomp.sdc.be.model.category.CategoryDefinition;
 import org.openecomp.sdc.be.model.category.GroupingDefinition;
 import org.openecomp.sdc.be.model.category.SubCategoryDefinition;
@@ -76,13 +77,17 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Path("/v1/")
 
@@ -562,20 +567,54 @@ public class ElementServlet extends BeGenericServlet {
     @PermissionAllowed(AafPermission.PermNames.INTERNAL_ALL_VALUE)
     public Response getCatalogComponents(@Context final HttpServletRequest request,
             @HeaderParam(value = Constants.USER_ID_HEADER) String userId,
-            @QueryParam("excludeTypes") List<OriginTypeEnum> excludeTypes) throws IOException {
+            @HeaderParam(value = HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @QueryParam("excludeTypes") List<OriginTypeEnum> excludeTypes,
+            @Parameter(description = "Normalized name of the category of the components") @QueryParam("category") String category,
+            @Parameter(description = "Normalized name of the subcategory of the components") @QueryParam("subCategory") String subCategory,
+            @Parameter(description = "Lifecycle state of the components") @QueryParam("lifecycleState") String lifecycleState,
+            @Parameter(description = "Distribution status of the components") @QueryParam("distributionStatus") String distributionStatus,
+            @Parameter(description = "Only the highest versions when true") @QueryParam("highestVersion") Boolean highestVersion,
+            @Parameter(description = "Index of the first component to return") @QueryParam("offset") Integer offset,
+            @Parameter(description = "Maximum number of components to return") @QueryParam("limit") Integer limit) throws IOException {
 
         try {
             String url = request.getMethod() + " " + request.getRequestURI();
             log.debug(START_HANDLE_REQUEST_OF, url);
 
-            Either<Map<String, List<CatalogComponent>>, ResponseFormat> catalogData = getElementBL(request.getSession().getServletContext()).getCatalogComponents(userId, excludeTypes);
+            if ((offset != null && offset < 0) || (limit != null && limit < 0)) {
+                log.debug("invalid catalog page offset {} limit {}", offset, limit);
+                return buildErrorResponse(getComponentsUtils().getResponseFormat(ActionStatus.INVALID_CONTENT));
+            }
+            ElementBusinessLogic elementBL = getElementBL(request.getSession().getServletContext());
+            CatalogFilter filter = CatalogFilter.excluding(excludeTypes);
+            filter.setCategoryNormalizedName(category);
+            filter.setSubCategoryNormalizedName(subCategory);
+            filter.setLifecycleState(lifecycleState);
+            filter.setDistributionStatus(distributionStatus);
+            filter.setHighestVersion(highestVersion);
+
+            EntityTag entityTag = elementBL.getCatalogVersion()
+                .map(version -> new EntityTag(version + "-" + Integer.toHexString(Objects.hash(filter, offset, limit))))
+                .orElse(null);
+            if (entityTag != null && entityTag.toString().equals(ifNoneMatch)) {
+                return Response.notModified(entityTag).build();
+            }
+
+            Either<Map<String, List<CatalogComponent>>, ResponseFormat> catalogData;
+            if (filter.equals(CatalogFilter.excluding(excludeTypes)) && offset == null && limit == null) {
+                catalogData = elementBL.getCatalogComponents(userId, excludeTypes);
+            } else {
+                catalogData = elementBL.getCatalogComponents(userId, filter, offset == null ? 0 : offset, limit);
+            }
 
             if (catalogData.isRight()) {
                 log.debug("failed to get catalog data");
                 return buildErrorResponse(catalogData.right().value());
             }
             Object data = RepresentationUtils.toRepresentation(catalogData.left().value());
-            return buildOkResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), data);
+            Map<String, String> headers = entityTag == null ? null
+                : Collections.singletonMap(HttpHeaders.ETAG, entityTag.toString());
+            return buildOkResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), data, headers);
 
         } catch (Exception e) {
             BeEcompErrorManager.getInstance().logBeRestApiGeneralError("Get Catalog Components");
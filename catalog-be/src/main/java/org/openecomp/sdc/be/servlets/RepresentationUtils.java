@@ -22,8 +22,10 @@ package org.openecomp.sdc.be.servlets;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter.SerializeExceptFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
@@ -44,6 +46,7 @@ import org.openecomp.sdc.common.api.ArtifactGroupTypeEnum;
 import org.openecomp.sdc.common.api.Constants;
 import org.openecomp.sdc.common.log.wrappers.Logger;
 
+import javax.ws.rs.core.StreamingOutput;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -56,14 +59,44 @@ public class RepresentationUtils {
 
     private static final Logger log = Logger.getLogger(RepresentationUtils.class);
 
+    private static final String EMPTY = "empty";
+    private static final String REMOVE_IS_EMPTY_FROM_COLLECTIONS_FILTER = "removeIsEmptyFromCollections";
+    private static final ImmutableMap<Class<?>,Class<?>> IS_EMPTY_FILTER_MIXIN =
+            ImmutableMap.<Class<?>,Class<?>>builder()
+                    .put(Collection.class,IsEmptyFilterMixIn.class)
+                    .put(List.class,IsEmptyFilterMixIn.class)
+                    .put(Set.class,IsEmptyFilterMixIn.class)
+                    .put(HashMap.class,IsEmptyFilterMixIn.class)
+                    .put(ArrayList.class,IsEmptyFilterMixIn.class)
+                    .put(HashSet.class,IsEmptyFilterMixIn.class)
+                    .put(InterfaceDefinition.class,IsEmptyFilterMixIn.class)
+                    .put(Resource.class,IsEmptyFilterMixIn.class)
+                    .put(ToscaDataDefinition.class,IsEmptyFilterMixIn.class)
+                    .build();
+
+    // mappers are thread safe once configured, so they are built once instead of for every request
+    private static final Gson GSON = new Gson();
+    private static final ObjectMapper MAPPER = createMapper();
+    private static final ObjectWriter FILTERED_WRITER = createMapper().setMixIns(IS_EMPTY_FILTER_MIXIN)
+            .writer(new SimpleFilterProvider().addFilter(REMOVE_IS_EMPTY_FROM_COLLECTIONS_FILTER,
+                    SerializeExceptFilter.serializeAllExcept(EMPTY)));
+
+    private static ObjectMapper createMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        mapper.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        return mapper;
+    }
+
     public static ArtifactDefinition convertJsonToArtifactDefinitionForUpdate(String content, Class<ArtifactDefinition> clazz) {
 
         JsonObject jsonElement = new JsonObject();
         ArtifactDefinition resourceInfo = null;
 
         try {
-            Gson gson = new Gson();
-            jsonElement = gson.fromJson(content, jsonElement.getClass());
+            jsonElement = GSON.fromJson(content, jsonElement.getClass());
             String payload = null;
             jsonElement.remove(Constants.ARTIFACT_GROUP_TYPE);
             //in update the group type is ignored but this spagheti code makes it too complex to remove this field.
@@ -73,13 +106,9 @@ public class RepresentationUtils {
                 payload = artifactPayload.getAsString();
             }
             jsonElement.remove(Constants.ARTIFACT_PAYLOAD_DATA);
-            String json = gson.toJson(jsonElement);
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-            mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-            mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+            String json = GSON.toJson(jsonElement);
 
-            resourceInfo = mapper.readValue(json, clazz);
+            resourceInfo = MAPPER.readValue(json, clazz);
             resourceInfo.setPayloadData(payload);
 
         } catch (Exception e) {
@@ -104,20 +133,25 @@ public class RepresentationUtils {
      */
     public static <T> Object toRepresentation(T elementToRepresent) throws IOException {
 
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        return mapper.writeValueAsString(elementToRepresent);
+        return MAPPER.writeValueAsString(elementToRepresent);
+    }
+
+    /**
+     * Build Representation of given Object which is written directly to the response, without building the whole
+     * representation in memory first
+     *
+     * @param elementToRepresent
+     * @return
+     */
+    public static <T> StreamingOutput toStreamingRepresentation(T elementToRepresent) {
+
+        return output -> MAPPER.writeValue(output, elementToRepresent);
     }
 
     public static <T> T fromRepresentation(String json, Class<T> clazz) {
-        ObjectMapper mapper = new ObjectMapper();
         T object = null;
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
         try {
-            object = mapper.readValue(json, clazz);
+            object = MAPPER.readValue(json, clazz);
         } catch (Exception e) {
             log.error("Error when parsing JSON of object of type {}", clazz.getSimpleName(), e);
         } // return null in case of exception
@@ -135,8 +169,7 @@ public class RepresentationUtils {
         }
 
         try {
-            Gson gson = new Gson();
-            jsonElement = gson.fromJson(content, jsonElement.getClass());
+            jsonElement = GSON.fromJson(content, jsonElement.getClass());
             JsonElement artifactGroupValue = jsonElement.get(Constants.ARTIFACT_GROUP_TYPE);
             HashMap<String, JsonElement> elementsToValidate = new HashMap<>();
             elementsToValidate.put(Constants.ARTIFACT_GROUP_TYPE, artifactGroupValue);
@@ -167,13 +200,9 @@ public class RepresentationUtils {
                 payload = artifactPayload.getAsString();
             }
             jsonElement.remove(Constants.ARTIFACT_PAYLOAD_DATA);
-            String json = gson.toJson(jsonElement);
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-            mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-            mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+            String json = GSON.toJson(jsonElement);
 
-            resourceInfo = mapper.readValue(json, clazz);
+            resourceInfo = MAPPER.readValue(json, clazz);
             resourceInfo.setPayloadData(payload);
 
         } catch (ComponentException ce) {
@@ -201,30 +230,10 @@ public class RepresentationUtils {
     }
 
     public static <T> Object toFilteredRepresentation(T elementToRepresent) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        mapper.setMixIns(IS_EMPTY_FILTER_MIXIN);
-        return mapper.writer(new SimpleFilterProvider().addFilter(REMOVE_IS_EMPTY_FROM_COLLECTIONS_FILTER,
-                SerializeExceptFilter.serializeAllExcept(EMPTY))).writeValueAsString(elementToRepresent);
+        return FILTERED_WRITER.writeValueAsString(elementToRepresent);
     }
 
     @JsonFilter(REMOVE_IS_EMPTY_FROM_COLLECTIONS_FILTER)
     private static class IsEmptyFilterMixIn {}
 
-    private static final String EMPTY = "empty";
-    private static final String REMOVE_IS_EMPTY_FROM_COLLECTIONS_FILTER = "removeIsEmptyFromCollections";
-    private static final ImmutableMap<Class<?>,Class<?>> IS_EMPTY_FILTER_MIXIN =
-            ImmutableMap.<Class<?>,Class<?>>builder()
-                    .put(Collection.class,IsEmptyFilterMixIn.class)
-                    .put(List.class,IsEmptyFilterMixIn.class)
-                    .put(Set.class,IsEmptyFilterMixIn.class)
-                    .put(HashMap.class,IsEmptyFilterMixIn.class)
-                    .put(ArrayList.class,IsEmptyFilterMixIn.class)
-                    .put(HashSet.class,IsEmptyFilterMixIn.class)
-                    .put(InterfaceDefinition.class,IsEmptyFilterMixIn.class)
-                    .put(Resource.class,IsEmptyFilterMixIn.class)
-                    .put(ToscaDataDefinition.class,IsEmptyFilterMixIn.class)
-                    .build();
-
 }
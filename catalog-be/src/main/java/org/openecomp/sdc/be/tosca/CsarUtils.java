@@ -33,7 +33,9 @@ import io.vavr.control.Try;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
@@ -47,16 +49,21 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
+import javax.annotation.PreDestroy;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.codec.binary.Base64;
@@ -64,6 +71,7 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.apache.commons.lang.WordUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.apache.commons.lang3.tuple.Triple;
@@ -78,6 +86,7 @@ import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
 import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
 import org.openecomp.sdc.be.dao.cassandra.SdcSchemaFilesCassandraDao;
+import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
 import org.openecomp.sdc.be.datatypes.elements.ArtifactDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.OperationDataDefinition;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
@@ -106,9 +115,11 @@ import org.openecomp.sdc.common.log.enums.LoggerSupportabilityActions;
 import org.openecomp.sdc.common.log.enums.StatusCode;
 import org.openecomp.sdc.common.log.wrappers.Logger;
 import org.openecomp.sdc.common.util.GeneralUtility;
+import org.openecomp.sdc.common.util.ThreadLocalsHolder;
 import org.openecomp.sdc.common.util.ValidationUtils;
 import org.openecomp.sdc.common.zip.ZipUtils;
 import org.openecomp.sdc.exception.ResponseFormat;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.yaml.snakeyaml.Yaml;
 
@@ -133,9 +144,15 @@ public class CsarUtils {
     @Autowired
     protected ToscaOperationFacade toscaOperationFacade;
 
+    @Autowired
+    private JanusGraphDao janusGraphDao;
+
     @Autowired(required = false)
     private List<CsarEntryGenerator> generators;
 
+    private static final int DEFAULT_INNER_COMPONENTS_EXPORT_THREADS = Math.min(Runtime.getRuntime().availableProcessors(), 8);
+    private final ExecutorService innerComponentsExecutor = createInnerComponentsExecutor();
+
     private static final String CONFORMANCE_LEVEL = ConfigurationManager.getConfigurationManager().getConfiguration().getToscaConformanceLevel();
     private static final String SDC_VERSION = ExternalConfiguration.getAppVersion();
     public static final String ARTIFACTS_PATH = "Artifacts/";
@@ -192,6 +209,27 @@ public class CsarUtils {
         }
     }
 
+    /**
+     * @return the executor exporting the inner components, or null when they are exported on the requesting thread
+     */
+    private static ExecutorService createInnerComponentsExecutor() {
+        final Integer configuredThreads = ConfigurationManager.getConfigurationManager().getConfiguration()
+            .getCsarInnerComponentsExportThreads();
+        final int threads = configuredThreads == null ? DEFAULT_INNER_COMPONENTS_EXPORT_THREADS : configuredThreads;
+        if (threads <= 0) {
+            return null;
+        }
+        return Executors.newFixedThreadPool(threads,
+            new BasicThreadFactory.Builder().namingPattern("CsarInnerComponentsExportThread-%d").daemon(true).build());
+    }
+
+    @PreDestroy
+    void shutdownInnerComponentsExecutor() {
+        if (innerComponentsExecutor != null) {
+            innerComponentsExecutor.shutdownNow();
+        }
+    }
+
     /**
      *
      * @param component
@@ -200,6 +238,28 @@ public class CsarUtils {
      * @return
      */
     public Either<byte[], ResponseFormat> createCsar(Component component, boolean getFromCS, boolean isInCertificationRequest) {
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            return createCsar(component, getFromCS, isInCertificationRequest, out)
+                .left().map(outputStream -> out.toByteArray());
+        } catch (IOException e) {
+            log.debug("Failed with IOexception to create CSAR zip for component {}. ", component.getUniqueId(), e);
+            return Either.right(componentsUtils.getResponseFormat(ActionStatus.GENERAL_ERROR));
+        }
+    }
+
+    /**
+     * Streaming version of {@link #createCsar(Component, boolean, boolean)}, the CSAR entries are written to the given
+     * stream as soon as they are generated and the artifacts payloads are fetched one at a time, so the whole archive is
+     * never held in memory. The given stream is not closed.
+     *
+     * @param component
+     * @param getFromCS
+     * @param isInCertificationRequest
+     * @param out the stream to write the CSAR to
+     * @return the given stream, or the error response if the CSAR could not be generated
+     */
+    public Either<OutputStream, ResponseFormat> createCsar(Component component, boolean getFromCS, boolean isInCertificationRequest,
+                                                           OutputStream out) {
         loggerSupportability.log(LoggerSupportabilityActions.GENERATE_CSAR, StatusCode.STARTED,"Starting to create Csar for component {} ",component.getName());
         final String createdBy = component.getCreatorFullName();
         String fileName;
@@ -214,17 +274,17 @@ public class CsarUtils {
         final String toscaBlock0 = createToscaBlock0(TOSCA_META_VERSION, CSAR_VERSION, createdBy, fileName);
         byte[] toscaBlock0Byte = toscaBlock0.getBytes();
 
-        return generateCsarZip(csarBlock0Byte, toscaBlock0Byte, component, getFromCS, isInCertificationRequest)
-            .left().map(responseFormat -> {
+        return generateCsarZip(csarBlock0Byte, toscaBlock0Byte, component, getFromCS, isInCertificationRequest, out)
+            .left().map(outputStream -> {
             loggerSupportability.log(LoggerSupportabilityActions.GENERATE_CSAR, StatusCode.COMPLETE,
                 "Ended create Csar for component {} ", component.getName());
-            return responseFormat;
+            return outputStream;
         });
     }
 
-    private Either<byte[], ResponseFormat> generateCsarZip(byte[] csarBlock0Byte, byte[] toscaBlock0Byte, Component component, boolean getFromCS, boolean isInCertificationRequest) {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream();
-             ZipOutputStream zip = new ZipOutputStream(out)) {
+    private Either<OutputStream, ResponseFormat> generateCsarZip(byte[] csarBlock0Byte, byte[] toscaBlock0Byte, Component component,
+                                                                 boolean getFromCS, boolean isInCertificationRequest, OutputStream out) {
+        try (ZipOutputStream zip = new ZipOutputStream(new NonClosingOutputStream(out))) {
             zip.putNextEntry(new ZipEntry(CSAR_META_PATH_FILE_NAME));
             zip.write(csarBlock0Byte);
             zip.putNextEntry(new ZipEntry(TOSCA_META_PATH_FILE_NAME));
@@ -236,16 +296,34 @@ public class CsarUtils {
             }
 
             zip.finish();
-            byte[] byteArray = out.toByteArray();
-
-            return Either.left(byteArray);
+            return Either.left(out);
         } catch (IOException e) {
             log.debug("Failed with IOexception to create CSAR zip for component {}. Please fix DB table accordingly ", component.getUniqueId(), e);
 
             ResponseFormat responseFormat = componentsUtils.getResponseFormat(ActionStatus.GENERAL_ERROR);
             return Either.right(responseFormat);
         }
-}
+    }
+
+    /**
+     * Keeps the caller stream open when the zip stream wrapping it is closed.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
 
     private Either<ZipOutputStream, ResponseFormat> populateZip(Component component, boolean getFromCS, ZipOutputStream zip, boolean isInCertificationRequest) throws IOException {
 
@@ -281,7 +359,8 @@ public class CsarUtils {
         }
 
         //UID <cassandraId,filename,component>
-        Either<ZipOutputStream, ResponseFormat> zipOutputStreamOrResponseFormat = getZipOutputStreamResponseFormatEither(zip, dependencies);
+        Either<ZipOutputStream, ResponseFormat> zipOutputStreamOrResponseFormat = getZipOutputStreamResponseFormatEither(zip, dependencies,
+            isInCertificationRequest);
         if (zipOutputStreamOrResponseFormat != null && zipOutputStreamOrResponseFormat.isRight()) {
                 return zipOutputStreamOrResponseFormat;
         }
@@ -486,7 +565,8 @@ public class CsarUtils {
 
     private Either<ZipOutputStream, ResponseFormat> getZipOutputStreamResponseFormatEither(
         ZipOutputStream zip,
-        List<Triple<String, String, Component>> dependencies
+        List<Triple<String, String, Component>> dependencies,
+        boolean isInCertificationRequest
     ) throws IOException {
 
         ComponentCache innerComponentsCache = ComponentCache
@@ -516,37 +596,165 @@ public class CsarUtils {
             }
 
             //add inner components to CSAR
-            return addInnerComponentsToCSAR(zip, innerComponentsCache);
+            return addInnerComponentsToCSAR(zip, innerComponentsCache, isInCertificationRequest);
         }
         return null;
     }
 
+    /**
+     * Exports the templates and interfaces of the inner components on the export executor and writes them to the zip
+     * in the order of the cache, as soon as each of them is ready. The workers read the graph in transactions of their
+     * own, so the inner components of a CSAR built in a certification request, which may read the changes of the
+     * uncommitted transaction of the request, are exported on the requesting thread.
+     */
     private Either<ZipOutputStream, ResponseFormat> addInnerComponentsToCSAR(
         ZipOutputStream zip,
-        ComponentCache innerComponentsCache
+        ComponentCache innerComponentsCache,
+        boolean isInCertificationRequest
     ) throws IOException {
+        if (innerComponentsExecutor == null || isInCertificationRequest) {
+            return addInnerComponentsToCSARSequentially(zip, innerComponentsCache);
+        }
+        final long startTime = System.currentTimeMillis();
+        final List<Future<Either<InnerComponentExport, ResponseFormat>>> exports = new ArrayList<>();
         for (ImmutableTriple<String, String, Component> ict : innerComponentsCache.iterable()) {
-            Component innerComponent = ict.getRight();
-
-            String icFileName = ict.getMiddle();
-            // add component to zip
-            Either<Tuple2<byte[], ZipEntry>, ResponseFormat> zipEntry = toZipEntry(ict);
-            // TODO: this should not be done, we should instead compose this either further,
-            // but in order to keep this refactoring small, we'll stop here.
-            if (zipEntry.isRight()) {
-                return Either.right(zipEntry.right().value());
+            exports.add(innerComponentsExecutor.submit(withLoggingContext(() -> exportInnerComponentInWorker(ict))));
+        }
+        long exportTime = 0;
+        long waitTime = 0;
+        long writeTime = 0;
+        try {
+            for (Future<Either<InnerComponentExport, ResponseFormat>> export : exports) {
+                final long waitStart = System.currentTimeMillis();
+                final Either<InnerComponentExport, ResponseFormat> exported = waitForInnerComponentExport(export);
+                final long writeStart = System.currentTimeMillis();
+                waitTime += writeStart - waitStart;
+                if (exported.isRight()) {
+                    return Either.right(exported.right().value());
+                }
+                final InnerComponentExport innerComponentExport = exported.left().value();
+                exportTime += innerComponentExport.exportTime;
+                writeInnerComponentExport(zip, innerComponentExport);
+                writeTime += System.currentTimeMillis() - writeStart;
             }
-            Tuple2<byte[], ZipEntry> value = zipEntry.left().value();
-            zip.putNextEntry(value._2);
-            zip.write(value._1);
-            // add component interface to zip
-            if (!ModelConverter.isAtomicComponent(innerComponent)) {
-                writeComponentInterface(innerComponent, zip, icFileName, true);
+        } finally {
+            exports.forEach(export -> export.cancel(false));
+        }
+        log.debug("Added {} inner components to CSAR in {} ms. Export {} ms (summed over workers), wait {} ms, write {} ms",
+            exports.size(), System.currentTimeMillis() - startTime, exportTime, waitTime, writeTime);
+        return null;
+    }
+
+    private Either<ZipOutputStream, ResponseFormat> addInnerComponentsToCSARSequentially(
+        ZipOutputStream zip,
+        ComponentCache innerComponentsCache
+    ) throws IOException {
+        for (ImmutableTriple<String, String, Component> ict : innerComponentsCache.iterable()) {
+            final Either<InnerComponentExport, ResponseFormat> exported = exportInnerComponent(ict);
+            if (exported.isRight()) {
+                return Either.right(exported.right().value());
             }
+            writeInnerComponentExport(zip, exported.left().value());
         }
         return null;
     }
 
+    private void writeInnerComponentExport(ZipOutputStream zip, InnerComponentExport innerComponentExport)
+        throws IOException {
+        for (Tuple2<String, byte[]> entry : innerComponentExport.entries) {
+            zip.putNextEntry(new ZipEntry(entry._1));
+            zip.write(entry._2);
+        }
+    }
+
+    /**
+     * Runs the task with the logging context of the requesting thread, so the logs of the workers carry the request id.
+     */
+    private static <T> Callable<T> withLoggingContext(Callable<T> task) {
+        final Map<String, String> loggingContext = MDC.getCopyOfContextMap();
+        final String uuid = ThreadLocalsHolder.getUuid();
+        return () -> {
+            if (loggingContext != null) {
+                MDC.setContextMap(loggingContext);
+            }
+            ThreadLocalsHolder.setUuid(uuid);
+            try {
+                return task.call();
+            } finally {
+                MDC.clear();
+                ThreadLocalsHolder.cleanup();
+            }
+        };
+    }
+
+    private Either<InnerComponentExport, ResponseFormat> waitForInnerComponentExport(
+        Future<Either<InnerComponentExport, ResponseFormat>> export) {
+        try {
+            return export.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.debug("Interrupted while exporting inner component", e);
+        } catch (ExecutionException e) {
+            log.error("Failed to export inner component", e);
+        }
+        return Either.right(componentsUtils.getResponseFormat(ActionStatus.GENERAL_ERROR));
+    }
+
+    private Either<InnerComponentExport, ResponseFormat> exportInnerComponentInWorker(
+        ImmutableTriple<String, String, Component> ict
+    ) {
+        try {
+            return exportInnerComponent(ict);
+        } finally {
+            // the export only reads the graph, release the transaction opened by this worker thread
+            janusGraphDao.rollback();
+        }
+    }
+
+    private Either<InnerComponentExport, ResponseFormat> exportInnerComponent(
+        ImmutableTriple<String, String, Component> ict
+    ) {
+        final long startTime = System.currentTimeMillis();
+        final Component innerComponent = ict.getRight();
+        final String icFileName = ict.getMiddle();
+        // add component to zip
+        final Either<Tuple2<byte[], ZipEntry>, ResponseFormat> zipEntry = toZipEntry(ict);
+        if (zipEntry.isRight()) {
+            return Either.right(zipEntry.right().value());
+        }
+        final List<Tuple2<String, byte[]>> entries = new ArrayList<>();
+        entries.add(new Tuple2<>(zipEntry.left().value()._2.getName(), zipEntry.left().value()._1));
+        // add component interface to zip
+        if (!ModelConverter.isAtomicComponent(innerComponent)) {
+            final Either<ToscaRepresentation, ToscaError> interfaceYaml =
+                toscaExportUtils.exportComponentInterface(innerComponent, true);
+            if (interfaceYaml.isLeft()) {
+                entries.add(new Tuple2<>(DEFINITIONS_PATH + ToscaExportHandler.getInterfaceFilename(icFileName),
+                    interfaceYaml.left().value().getMainYaml()));
+            } else {
+                log.error("#exportInnerComponent - failed to export the interface of component {} with error: {}",
+                    innerComponent.getUniqueId(), interfaceYaml.right().value());
+            }
+        }
+        final long exportTime = System.currentTimeMillis() - startTime;
+        log.trace("Exported inner component {} in {} ms", innerComponent.getUniqueId(), exportTime);
+        return Either.left(new InnerComponentExport(entries, exportTime));
+    }
+
+    /**
+     * The zip entries exported for an inner component, in the order they are written to the CSAR.
+     */
+    private static final class InnerComponentExport {
+
+        private final List<Tuple2<String, byte[]>> entries;
+        private final long exportTime;
+
+        private InnerComponentExport(List<Tuple2<String, byte[]>> entries, long exportTime) {
+            this.entries = entries;
+            this.exportTime = exportTime;
+        }
+    }
+
     private Either<Tuple2<byte[], ZipEntry>, ResponseFormat> toZipEntry(
         ImmutableTriple<String, String, Component> cachedEntry
     ) {
@@ -1206,30 +1414,22 @@ public class CsarUtils {
                         .replace(ArtifactTypeEnum.ONBOARDED_PACKAGE.getType(), ArtifactTypeEnum.ETSI_PACKAGE.getType());
                 }
 
-                // TODO: We should not do this but in order to keep this refactoring small enough,
-                // we'll leave this as is for now
-                List<ArtifactDefinition> collect =
-                    filterArtifactDefinitionToZip(mainComponent, artifactDefinitionList, isInCertificationRequest)
-                        .collect(Collectors.toList());
-                for (ArtifactDefinition ad : collect) {
-                    zip.putNextEntry(new ZipEntry(artifactTypeFolder + ad.getArtifactName()));
-                    zip.write(ad.getPayloadData());
+                // the payloads are fetched and written one at a time and are not kept on the artifact definitions
+                final List<ArtifactDefinition> artifactsToZip = artifactDefinitionList.stream()
+                    .filter(shouldBeInZip(isInCertificationRequest, mainComponent))
+                    .collect(Collectors.toList());
+                for (ArtifactDefinition ad : artifactsToZip) {
+                    final Either<byte[], ActionStatus> payloadData = fetchPayLoadData(ad);
+                    if (payloadData.isLeft()) {
+                        zip.putNextEntry(new ZipEntry(artifactTypeFolder + ad.getArtifactName()));
+                        zip.write(payloadData.left().value());
+                    }
                 }
             }
         }
         return Either.left(zip);
     }
 
-    private Stream<ArtifactDefinition> filterArtifactDefinitionToZip(Component mainComponent,
-        List<ArtifactDefinition> artifactDefinitionList, boolean isInCertificationRequest) {
-        return artifactDefinitionList
-            .stream()
-            .filter(shouldBeInZip(isInCertificationRequest, mainComponent))
-            .map(this::fetchPayLoadData)
-            .filter(Either::isLeft)
-            .map(e -> e.left().value());
-    }
-
     private Predicate<ArtifactDefinition> shouldBeInZip(boolean isInCertificationRequest, Component component) {
         return artifactDefinition ->
             !(!isInCertificationRequest
@@ -1238,20 +1438,17 @@ public class CsarUtils {
                 || artifactDefinition.hasNoMandatoryEsId());
     }
 
-    private Either<ArtifactDefinition, ActionStatus> fetchPayLoadData(ArtifactDefinition ad) {
+    private Either<byte[], ActionStatus> fetchPayLoadData(ArtifactDefinition ad) {
         byte[] payloadData = ad.getPayloadData();
         if(payloadData == null) {
             return getFromCassandra(ad.getEsId())
-                .left().map(pd -> {
-                    ad.setPayload(pd);
-                    return ad;
-                }).right().map(as -> {
+                .right().map(as -> {
                     log.debug(ARTIFACT_NAME_UNIQUE_ID, ad.getArtifactName(), ad.getUniqueId());
                     log.debug("Failed to get {} payload from DB reason: {}", ad.getArtifactName(), as);
                     return as;
                 });
         } else {
-            return Either.left(ad);
+            return Either.left(payloadData);
         }
     }
 
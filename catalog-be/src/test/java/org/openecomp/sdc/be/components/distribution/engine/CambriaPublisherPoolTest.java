@@ -0,0 +1,93 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.components.distribution.engine;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.att.nsa.cambria.client.CambriaBatchingPublisher;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.openecomp.sdc.be.components.distribution.engine.CambriaPublisherPool.PublishedMessage;
+
+public class CambriaPublisherPoolTest {
+
+    private static final List<String> SERVERS = Collections.singletonList("server");
+
+    private CambriaPublisherPool publisherPool;
+    private CambriaBatchingPublisher publisher;
+
+    @Before
+    public void setUp() throws Exception {
+        publisherPool = spy(new CambriaPublisherPool());
+        publisher = mock(CambriaBatchingPublisher.class);
+        doReturn(publisher).when(publisherPool).buildPublisher(anyString(), anyList());
+    }
+
+    @Test
+    public void testSendReusesThePublisherOfTheTopic() throws Exception {
+        when(publisher.getPendingMessageCount()).thenReturn(0);
+
+        PublishedMessage first = publisherPool.send("topic", SERVERS, "key", "secret", "partition", "first");
+        PublishedMessage second = publisherPool.send("topic", SERVERS, "key", "secret", "partition", "second");
+
+        assertTrue(publisherPool.awaitPublished(first, 1, SECONDS));
+        assertTrue(publisherPool.awaitPublished(second, 1, SECONDS));
+        verify(publisherPool, times(1)).buildPublisher("topic", SERVERS);
+        verify(publisher, times(2)).send(anyString(), anyString());
+    }
+
+    @Test
+    public void testAwaitPublishedWaitsForTheMessagesSentBefore() throws Exception {
+        when(publisher.getPendingMessageCount()).thenReturn(2, 1, 0);
+
+        publisherPool.send("topic", SERVERS, "key", "secret", "partition", "first");
+        PublishedMessage second = publisherPool.send("topic", SERVERS, "key", "secret", "partition", "second");
+
+        assertTrue(publisherPool.awaitPublished(second, 1, SECONDS));
+    }
+
+    @Test
+    public void testPublisherIsReplacedWhenAMessageIsNotPublished() throws Exception {
+        when(publisher.getPendingMessageCount()).thenReturn(1);
+        when(publisher.close(anyLong(), any())).thenReturn(Collections.emptyList());
+
+        PublishedMessage message = publisherPool.send("topic", SERVERS, "key", "secret", "partition", "message");
+        assertFalse(publisherPool.awaitPublished(message, 0, SECONDS));
+        publisherPool.send("topic", SERVERS, "key", "secret", "partition", "message");
+
+        verify(publisher).close(anyLong(), any());
+        verify(publisherPool, times(2)).buildPublisher("topic", SERVERS);
+    }
+}
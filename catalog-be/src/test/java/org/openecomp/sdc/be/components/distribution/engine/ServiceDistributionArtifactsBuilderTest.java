@@ -32,10 +32,12 @@ import org.openecomp.sdc.be.components.BeConfDependentTest;
 import org.openecomp.sdc.be.model.ArtifactDefinition;
 import org.openecomp.sdc.be.model.ComponentInstance;
 import org.openecomp.sdc.be.model.ComponentParametersView;
+import org.openecomp.sdc.be.model.LifecycleStateEnum;
 import org.openecomp.sdc.be.model.Resource;
 import org.openecomp.sdc.be.model.Service;
 import org.openecomp.sdc.be.model.category.CategoryDefinition;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ToscaOperationFacade;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
 import org.openecomp.sdc.be.model.operations.impl.InterfaceLifecycleOperation;
 import org.openecomp.sdc.common.api.ArtifactTypeEnum;
 
@@ -131,6 +133,52 @@ public class ServiceDistributionArtifactsBuilderTest extends BeConfDependentTest
 				.isEqualTo(deploymentArtifactTimeout);
 	}
 
+	@Test
+	public void testBuildResourceInstanceForDistributionReusesPayloadOfCertifiedService() throws Exception {
+		Service service = new Service();
+		service.setUniqueId("serviceId");
+		service.setLifecycleState(LifecycleStateEnum.CERTIFIED);
+		ComponentInstance ci = createComponentInstance("ci");
+		ci.setDeploymentArtifacts(createDeploymentArtifactList(60));
+		service.setComponentInstances(Arrays.asList(ci));
+
+		when(toscaOperationFacade.getToscaElement(Mockito.eq(ci.getComponentUid()), Mockito.any(ComponentParametersView.class)))
+				.thenReturn(Either.left(createDefaultResource()));
+
+		INotificationData first = testInstance.buildResourceInstanceForDistribution(service, "did1", "workload");
+		INotificationData second = testInstance.buildResourceInstanceForDistribution(service, "did2", "workload");
+		assertThat(second.getResources()).isSameAs(first.getResources());
+		assertThat(second.getDistributionID()).isEqualTo("did2");
+
+		ci.getDeploymentArtifacts().get("label").setArtifactChecksum("changed");
+		INotificationData third = testInstance.buildResourceInstanceForDistribution(service, "did3", "workload");
+		assertThat(third.getResources()).isNotSameAs(first.getResources());
+		Mockito.verify(toscaOperationFacade, Mockito.times(2))
+				.getToscaElement(Mockito.eq(ci.getComponentUid()), Mockito.any(ComponentParametersView.class));
+	}
+
+	@Test
+	public void testBuildResourceInstanceForDistributionDoesNotReuseIncompletePayload() throws Exception {
+		Service service = new Service();
+		service.setUniqueId("serviceId");
+		service.setLifecycleState(LifecycleStateEnum.CERTIFIED);
+		ComponentInstance ci = createComponentInstance("ci");
+		ci.setDeploymentArtifacts(createDeploymentArtifactList(60));
+		service.setComponentInstances(Arrays.asList(ci));
+
+		when(toscaOperationFacade.getToscaElement(Mockito.eq(ci.getComponentUid()), Mockito.any(ComponentParametersView.class)))
+				.thenReturn(Either.right(StorageOperationStatus.GENERAL_ERROR))
+				.thenReturn(Either.left(createDefaultResource()));
+
+		INotificationData first = testInstance.buildResourceInstanceForDistribution(service, "did1", "workload");
+		assertThat(first.getResources().get(0).getResourceInvariantUUID()).isNull();
+		INotificationData second = testInstance.buildResourceInstanceForDistribution(service, "did2", "workload");
+		assertThat(second.getResources()).isNotSameAs(first.getResources());
+		assertThat(second.getResources().get(0).getResourceInvariantUUID()).isNotNull();
+		INotificationData third = testInstance.buildResourceInstanceForDistribution(service, "did3", "workload");
+		assertThat(third.getResources()).isSameAs(second.getResources());
+	}
+
 	private Map<String, ArtifactDefinition> createDeploymentArtifactList(int timeout) {
 		Map<String, ArtifactDefinition> deploymentArtifacts = new HashMap<>();
 		deploymentArtifacts.put("label", createArtifactDefinition("1", timeout));
@@ -0,0 +1,87 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.components.health;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.openecomp.sdc.common.api.HealthCheckInfo.HealthCheckStatus.DOWN;
+import static org.openecomp.sdc.common.api.HealthCheckInfo.HealthCheckStatus.UP;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.openecomp.sdc.common.api.HealthCheckInfo;
+
+public class HealthCheckProbeTest {
+
+    @Test
+    public void testProbeKeepsTheLastResult() {
+        HealthCheckProbe probe = new HealthCheckProbe("component",
+                () -> new HealthCheckInfo("component", UP, null, "OK"), 1, 1000);
+        assertEquals(DOWN, probe.getHealthCheckInfo().getHealthCheckStatus());
+
+        probe.run();
+
+        assertEquals(UP, probe.getHealthCheckInfo().getHealthCheckStatus());
+    }
+
+    @Test
+    public void testProbeIsDownWhenTheCheckFails() {
+        HealthCheckProbe probe = new HealthCheckProbe("component", () -> {
+            throw new IllegalStateException("failure");
+        }, 1, 1000);
+
+        probe.run();
+
+        assertEquals(DOWN, probe.getHealthCheckInfo().getHealthCheckStatus());
+        assertTrue(probe.getHealthCheckInfo().getDescription().contains("failure"));
+    }
+
+    @Test
+    public void testProbeIsDownWhileTheCheckExceedsItsTimeout() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HealthCheckProbe probe = new HealthCheckProbe("component", () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new HealthCheckInfo("component", UP, null, "OK");
+        }, 1, 10);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.execute(probe);
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            TimeUnit.MILLISECONDS.sleep(50);
+
+            assertEquals(DOWN, probe.getHealthCheckInfo().getHealthCheckStatus());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(UP, probe.getHealthCheckInfo().getHealthCheckStatus());
+    }
+}
@@ -52,6 +52,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import fj.data.Either;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -2217,6 +2218,28 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
         assertEquals(csarArtifact.getArtifactName(), result.getKey());
     }
 
+    @Test
+    public void testHandleDownloadToscaModelRequestToStream() throws IOException {
+        ArtifactsBusinessLogic testSubject = getTestSubject();
+
+        Resource resource = new Resource();
+        resource.setComponentType(ComponentTypeEnum.RESOURCE);
+
+        ArtifactDefinition csarArtifact = new ArtifactDefinition();
+        csarArtifact.setArtifactName("csarArtifact");
+        csarArtifact.setArtifactType(ArtifactTypeEnum.HEAT_ENV.getType());
+        csarArtifact.setArtifactGroupType(ArtifactGroupTypeEnum.TOSCA);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        when(csarUtils.createCsar(any(Component.class), anyBoolean(), anyBoolean(), eq(out)))
+                .thenReturn(Either.left(out));
+
+        String result = testSubject.handleDownloadToscaModelRequest(resource, csarArtifact, out);
+
+        assertEquals(csarArtifact.getArtifactName(), result);
+        verify(csarUtils).createCsar(resource, false, false, out);
+    }
+
     @Test
     public void testHandleDownloadRequestById_returnsSuccessful() {
         String componentId = "componentId";
@@ -0,0 +1,74 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.servlets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ByteRangeTest {
+
+    @Test
+    void testRangeIsParsed() {
+        ByteRange range = ByteRange.parse("bytes=100-199", 1000).get();
+        assertTrue(range.isSatisfiable());
+        assertEquals(100, range.getFirst());
+        assertEquals(100, range.getLength());
+        assertEquals("bytes 100-199/1000", range.toContentRange(1000));
+    }
+
+    @Test
+    void testOpenAndSuffixRanges() {
+        ByteRange openRange = ByteRange.parse("bytes=900-", 1000).get();
+        assertEquals(900, openRange.getFirst());
+        assertEquals(100, openRange.getLength());
+
+        ByteRange suffixRange = ByteRange.parse("bytes=-10", 1000).get();
+        assertEquals(990, suffixRange.getFirst());
+        assertEquals(10, suffixRange.getLength());
+    }
+
+    @Test
+    void testRangeIsTruncatedToSize() {
+        ByteRange range = ByteRange.parse("bytes=500-5000", 1000).get();
+        assertEquals(500, range.getLength());
+        assertEquals("bytes 500-999/1000", range.toContentRange(1000));
+    }
+
+    @Test
+    void testRangeAfterEndIsNotSatisfiable() {
+        ByteRange range = ByteRange.parse("bytes=1000-", 1000).get();
+        assertFalse(range.isSatisfiable());
+        assertEquals("bytes */1000", range.toContentRange(1000));
+    }
+
+    @Test
+    void testUnsupportedRangesAreIgnored() {
+        assertEquals(Optional.empty(), ByteRange.parse(null, 1000));
+        assertEquals(Optional.empty(), ByteRange.parse("bytes=0-1,5-6", 1000));
+        assertEquals(Optional.empty(), ByteRange.parse("items=0-1", 1000));
+        assertEquals(Optional.empty(), ByteRange.parse("bytes=10-5", 1000));
+        assertEquals(Optional.empty(), ByteRange.parse("bytes=-", 1000));
+    }
+}
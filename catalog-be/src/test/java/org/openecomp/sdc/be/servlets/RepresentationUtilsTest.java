@@ -25,8 +25,11 @@ import org.junit.Test;
 import org.openecomp.sdc.be.model.ArtifactDefinition;
 import org.openecomp.sdc.be.model.Operation;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -72,4 +75,15 @@ public class RepresentationUtilsTest  {
         assertNotNull(result);
         assertFalse(result.toString(), result.toString().contains("empty"));
     }
+
+    @Test
+    public void testToStreamingRepresentation() throws Exception {
+        Operation operation = new Operation();
+        operation.setName("eee");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        RepresentationUtils.toStreamingRepresentation(operation).write(output);
+
+        assertEquals(RepresentationUtils.toRepresentation(operation), output.toString(StandardCharsets.UTF_8.name()));
+    }
 }
@@ -34,6 +34,7 @@ import fj.data.Either;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.ByteArrayInputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -50,6 +51,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 import mockit.Deencapsulation;
 import org.apache.commons.collections.CollectionUtils;
@@ -73,8 +75,10 @@ import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
 import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
 import org.openecomp.sdc.be.dao.cassandra.SdcSchemaFilesCassandraDao;
+import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
 import org.openecomp.sdc.be.datatypes.enums.OriginTypeEnum;
+import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
 import org.openecomp.sdc.be.impl.ComponentsUtils;
 import org.openecomp.sdc.be.model.ArtifactDefinition;
 import org.openecomp.sdc.be.model.Component;
@@ -120,6 +124,9 @@ public class CsarUtilsTest extends BeConfDependentTest {
 	@Mock
 	private ArtifactsBusinessLogic artifactsBusinessLogic;
 
+	@Mock
+	private JanusGraphDao janusGraphDao;
+
 	public CsarUtilsTest() throws IOException {
 	}
 
@@ -572,6 +579,60 @@ public class CsarUtilsTest extends BeConfDependentTest {
 		assertTrue(componentCache.isEmpty());
 	}
 
+	@Test
+	public void testAddInnerComponentsToCSARKeepsCacheOrder() throws IOException {
+		assertEquals(buildInnerComponentEntryNames(), addInnerComponentsToCSAR(buildInnerComponentsCache(), false));
+		Mockito.verify(janusGraphDao, Mockito.times(5)).rollback();
+	}
+
+	@Test
+	public void testAddInnerComponentsToCSARInCertificationRequestUsesTheRequestTransaction() throws IOException {
+		assertEquals(buildInnerComponentEntryNames(), addInnerComponentsToCSAR(buildInnerComponentsCache(), true));
+		Mockito.verify(janusGraphDao, Mockito.never()).rollback();
+	}
+
+	private ComponentCache buildInnerComponentsCache() {
+		ComponentCache componentCache = ComponentCache.overwritable(overwriteIfSameVersions());
+		for (int i = 0; i < 5; i++) {
+			Resource innerComponent = new Resource();
+			innerComponent.setUniqueId("uniqueId" + i);
+			innerComponent.setInvariantUUID("invariantUUID" + i);
+			innerComponent.setVersion("1.0");
+			innerComponent.setResourceType(ResourceTypeEnum.VFC);
+			componentCache.put("cassandraId" + i, "fileName" + i, innerComponent);
+		}
+		Mockito.when(artifactCassandraDao.getArtifact(Mockito.any(String.class)))
+				.thenAnswer(invocation -> {
+					String cassandraId = invocation.getArgument(0);
+					return Either.left(new DAOArtifactData(cassandraId, cassandraId.getBytes(StandardCharsets.UTF_8)));
+				});
+		return componentCache;
+	}
+
+	private List<String> buildInnerComponentEntryNames() {
+		List<String> expectedEntries = new ArrayList<>();
+		buildInnerComponentsCache().iterable().forEach(ict -> expectedEntries.add("Definitions/" + ict.getMiddle()));
+		return expectedEntries;
+	}
+
+	private List<String> addInnerComponentsToCSAR(ComponentCache componentCache, boolean isInCertificationRequest)
+			throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ZipOutputStream zip = new ZipOutputStream(out)) {
+			Either<ZipOutputStream, ResponseFormat> output = Deencapsulation.invoke(testSubject,
+					"addInnerComponentsToCSAR", zip, componentCache, isInCertificationRequest);
+			assertEquals(null, output);
+		}
+
+		List<String> actualEntries = new ArrayList<>();
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+				actualEntries.add(entry.getName());
+			}
+		}
+		return actualEntries;
+	}
+
 	@Test
 	public void testWriteComponentInterface() throws IOException {
 		String fileName = "name.hello";
@@ -25,6 +25,9 @@ import com.datastax.driver.mapping.annotations.Accessor;
 import com.datastax.driver.mapping.annotations.Param;
 import com.datastax.driver.mapping.annotations.Query;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+
 
 /**
  * Created by chaya on 7/5/2017.
@@ -34,4 +37,39 @@ public interface ArtifactAccessor {
     // *****  get the number of artifacts with a specific id
     @Query("SELECT COUNT(*) FROM sdcartifact.resources WHERE ID = :uniqueId")
     ResultSet getNumOfArtifactsById(@Param("uniqueId") String uniqueId);
+
+    // *****  get which of the given artifact ids exist
+    @Query("SELECT ID FROM sdcartifact.resources WHERE ID IN :uniqueIds")
+    ResultSet getExistingArtifactIds(@Param("uniqueIds") List<String> uniqueIds);
+
+    // *****  get the hash of the shared payload of an artifact, without reading its data
+    @Query("SELECT payload_hash FROM sdcartifact.resources WHERE ID = :uniqueId")
+    ResultSet getPayloadHashById(@Param("uniqueId") String uniqueId);
+
+    @Query("INSERT INTO sdcartifact.artifact_payload_refs (hash, artifact_id) VALUES (:hash, :artifactId)")
+    ResultSet addPayloadReference(@Param("hash") String hash, @Param("artifactId") String artifactId);
+
+    @Query("DELETE FROM sdcartifact.artifact_payload_refs WHERE hash = :hash AND artifact_id = :artifactId")
+    ResultSet removePayloadReference(@Param("hash") String hash, @Param("artifactId") String artifactId);
+
+    // *****  get a reference to any shared payload, to tell whether shared payloads were ever stored
+    @Query("SELECT hash FROM sdcartifact.artifact_payload_refs LIMIT 1")
+    ResultSet getAnyPayloadReference();
+
+    // *****  get the number of artifacts referencing a shared payload
+    @Query("SELECT COUNT(*) FROM sdcartifact.artifact_payload_refs WHERE hash = :hash")
+    ResultSet getNumOfPayloadReferences(@Param("hash") String hash);
+
+    // *****  get the number of chunks of a shared payload, without reading its data
+    @Query("SELECT chunk_count FROM sdcartifact.artifact_payloads WHERE hash = :hash")
+    ResultSet getPayloadChunkCount(@Param("hash") String hash);
+
+    @Query("INSERT INTO sdcartifact.artifact_payload_chunks (hash, chunk, data) VALUES (:hash, :chunk, :data)")
+    ResultSet savePayloadChunk(@Param("hash") String hash, @Param("chunk") int chunk, @Param("data") ByteBuffer data);
+
+    @Query("SELECT data FROM sdcartifact.artifact_payload_chunks WHERE hash = :hash AND chunk = :chunk")
+    ResultSet getPayloadChunk(@Param("hash") String hash, @Param("chunk") int chunk);
+
+    @Query("DELETE FROM sdcartifact.artifact_payload_chunks WHERE hash = :hash AND chunk = :chunk")
+    ResultSet deletePayloadChunk(@Param("hash") String hash, @Param("chunk") int chunk);
 }
@@ -21,23 +21,69 @@
 package org.openecomp.sdc.be.dao.cassandra;
 
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.utils.Bytes;
 import com.datastax.driver.mapping.MappingManager;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import fj.data.Either;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.config.Configuration.CassandrConfig;
+import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.resources.data.DAOArtifactData;
+import org.openecomp.sdc.be.resources.data.DAOArtifactPayloadData;
 import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
 import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.openecomp.sdc.common.util.GeneralUtility;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
+/**
+ * Stores the artifact payloads in the artifact keyspace.
+ * <p>
+ * When the payload deduplication is enabled, the payload of a saved artifact is stored once per content in the
+ * artifact_payloads table, keyed by its SHA-256 hash, and the artifact row only keeps the hash. The artifacts
+ * referencing a payload are recorded in the artifact_payload_refs table and the payload is deleted with its last
+ * reference. Payloads larger than the configured chunk size are split into chunks, each stored in a partition of its
+ * own, and can be streamed by range with {@link #getArtifactStream(String)}. Artifact rows saved before the
+ * deduplication was enabled keep their own data and are served as is.
+ * <p>
+ * The payload is written with every save, whether or not it is already stored: the write is keyed by the content
+ * hash, so it is idempotent, and the payload cache of a backend never decides whether a payload exists, as another
+ * backend may have deleted it since. The references are released on save and delete whether or not the
+ * deduplication is enabled, so disabling it does not leave the payloads of the existing artifact rows behind. While
+ * it is disabled and no shared payload was ever stored, the rows are saved and deleted without reading their payload
+ * hash first.
+ * <p>
+ * The deduplication is off by default. Older backends read the rows which only keep the hash as empty payloads, so it
+ * may only be enabled once every backend sharing the artifact keyspace was upgraded.
+ * <p>
+ * Reference tracking is not transactional: an artifact saved with a payload while the last other artifact using the
+ * same payload is being deleted may lose it. Artifacts are practically never deleted concurrently with an identical
+ * upload, and the window is limited to the statements between the reference count and the payload delete.
+ */
 @Component("artifact-cassandra-dao")
 public class ArtifactCassandraDao extends CassandraDao {
 
 	private static Logger logger = Logger.getLogger(ArtifactCassandraDao.class.getName());
+	private static final long BYTES_IN_MB = 1024L * 1024L;
+	private static final int BYTES_IN_KB = 1024;
+	private static final int DEFAULT_CHUNK_SIZE = 1024 * BYTES_IN_KB;
 	private ArtifactAccessor artifactAccessor;
+	private boolean payloadDeduplication = false;
+	private boolean sharedPayloadsStored = false;
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+	private Cache<String, byte[]> payloadCache;
 
 
 	@Autowired
@@ -55,6 +101,7 @@ public class ArtifactCassandraDao extends CassandraDao {
 				session = result.left().value().left;
 				manager = result.left().value().right;
 				artifactAccessor = manager.createAccessor(ArtifactAccessor.class);
+				initPayloadStore();
 				logger.info("** ArtifactCassandraDao created");
 			} else {
 				logger.info("** ArtifactCassandraDao failed");
@@ -67,16 +114,256 @@ public class ArtifactCassandraDao extends CassandraDao {
 		}
 	}
 
+	private void initPayloadStore() {
+		ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+		CassandrConfig cassandraConfig = configurationManager == null || configurationManager.getConfiguration() == null
+				? null : configurationManager.getConfiguration().getCassandraConfig();
+		if (cassandraConfig == null || !cassandraConfig.isArtifactPayloadDeduplication()) {
+			sharedPayloadsStored = hasPayloadReferences();
+			logger.info("** Artifact payload deduplication is disabled, shared payloads stored {}", sharedPayloadsStored);
+			return;
+		}
+		payloadDeduplication = true;
+		if (cassandraConfig.getArtifactPayloadChunkSizeKB() > 0) {
+			chunkSize = cassandraConfig.getArtifactPayloadChunkSizeKB() * BYTES_IN_KB;
+		}
+		if (cassandraConfig.getArtifactPayloadCacheSizeMB() > 0) {
+			payloadCache = CacheBuilder.newBuilder()
+					.maximumWeight(cassandraConfig.getArtifactPayloadCacheSizeMB() * BYTES_IN_MB)
+					.weigher((String hash, byte[] payload) -> payload.length)
+					.build();
+		}
+		logger.info("** Artifact payload deduplication is enabled, payload cache size {} MB, chunk size {} bytes",
+				cassandraConfig.getArtifactPayloadCacheSizeMB(), chunkSize);
+	}
+
 	public CassandraOperationStatus saveArtifact(DAOArtifactData artifact) {
-		return client.save(artifact, DAOArtifactData.class, manager);
+		if (artifact == null || artifact.getId() == null) {
+			return client.save(artifact, DAOArtifactData.class, manager);
+		}
+		try {
+			if (!payloadDeduplication || artifact.getData() == null) {
+				return saveArtifactWithOwnData(artifact);
+			}
+			return saveArtifactWithSharedPayload(artifact);
+		} catch (Exception e) {
+			logger.debug("Failed to save artifact [{}], error :", artifact.getId(), e);
+			return CassandraOperationStatus.GENERAL_ERROR;
+		}
+	}
+
+	/**
+	 * Saves the artifact with its data in its own row, releasing the shared payload the row referenced when it was
+	 * saved while the deduplication was enabled.
+	 */
+	private CassandraOperationStatus saveArtifactWithOwnData(DAOArtifactData artifact) {
+		if (!isPayloadReferenceTracked(artifact.getPayloadHash())) {
+			return client.save(artifact, DAOArtifactData.class, manager);
+		}
+		String previousHash = getPayloadHash(artifact.getId());
+		CassandraOperationStatus status = client.save(artifact, DAOArtifactData.class, manager);
+		if (status == CassandraOperationStatus.OK && previousHash != null
+				&& !previousHash.equals(artifact.getPayloadHash())) {
+			releasePayloadReference(previousHash, artifact.getId());
+		}
+		return status;
+	}
+
+	private CassandraOperationStatus saveArtifactWithSharedPayload(DAOArtifactData artifact) {
+		String artifactId = artifact.getId();
+		byte[] payload = artifact.getDataAsArray();
+		String hash = DigestUtils.sha256Hex(payload);
+		String previousHash = getPayloadHash(artifactId);
+		// the reference is added before the payload is written, so a concurrent delete never sees it unreferenced
+		if (!hash.equals(previousHash)) {
+			artifactAccessor.addPayloadReference(hash, artifactId);
+		}
+		// always written, even when already stored, as another backend may have just deleted it
+		CassandraOperationStatus payloadStatus = savePayload(hash, payload);
+		if (payloadStatus != CassandraOperationStatus.OK) {
+			return payloadStatus;
+		}
+		DAOArtifactData artifactRow = new DAOArtifactData(artifactId);
+		artifactRow.setPayloadHash(hash);
+		CassandraOperationStatus status = client.save(artifactRow, DAOArtifactData.class, manager);
+		if (status == CassandraOperationStatus.OK && previousHash != null && !hash.equals(previousHash)) {
+			releasePayloadReference(previousHash, artifactId);
+		}
+		return status;
+	}
+
+	/**
+	 * Writes the payload, split into chunks when it is larger than the chunk size. The chunks are written before the
+	 * payload row so a payload is never visible before it is complete.
+	 */
+	private CassandraOperationStatus savePayload(String hash, byte[] payload) {
+		String checksum = GeneralUtility.calculateMD5Base64EncodedByByteArray(payload);
+		if (payload.length <= chunkSize) {
+			DAOArtifactPayloadData payloadData = new DAOArtifactPayloadData(hash, payload);
+			payloadData.setChecksum(checksum);
+			return client.save(payloadData, DAOArtifactPayloadData.class, manager);
+		}
+		int chunkCount = (int) ((payload.length + (long) chunkSize - 1) / chunkSize);
+		for (int chunk = 0; chunk < chunkCount; chunk++) {
+			int offset = chunk * chunkSize;
+			artifactAccessor.savePayloadChunk(hash, chunk,
+					ByteBuffer.wrap(payload, offset, Math.min(chunkSize, payload.length - offset)));
+		}
+		logger.debug("Saved payload {} of {} bytes in {} chunks", hash, payload.length, chunkCount);
+		DAOArtifactPayloadData payloadData = new DAOArtifactPayloadData(hash, null);
+		payloadData.setChecksum(checksum);
+		payloadData.setSize((long) payload.length);
+		payloadData.setChunkSize(chunkSize);
+		payloadData.setChunkCount(chunkCount);
+		return client.save(payloadData, DAOArtifactPayloadData.class, manager);
 	}
 
 	public Either<DAOArtifactData, CassandraOperationStatus> getArtifact(String artifactId) {
-		return client.getById(artifactId, DAOArtifactData.class, manager);
+		Either<DAOArtifactData, CassandraOperationStatus> artifact = client.getById(artifactId, DAOArtifactData.class, manager);
+		if (artifact.isRight() || artifact.left().value().getPayloadHash() == null) {
+			return artifact;
+		}
+		DAOArtifactData artifactData = artifact.left().value();
+		Either<ArtifactPayloadStream, CassandraOperationStatus> payload = getPayloadStream(artifactData.getPayloadHash());
+		if (payload.isRight()) {
+			return Either.right(payload.right().value());
+		}
+		try {
+			artifactData.setData(ByteBuffer.wrap(payload.left().value().readAll()));
+		} catch (IOException e) {
+			logger.debug("Failed to read payload {} of artifact [{}], error :", artifactData.getPayloadHash(), artifactId, e);
+			return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+		}
+		return Either.left(artifactData);
+	}
+
+	/**
+	 * Gives access to the payload of an artifact without reading it. Only the chunks of the ranges opened on the
+	 * returned stream are read, payloads which are not chunked are read at once.
+	 */
+	public Either<ArtifactPayloadStream, CassandraOperationStatus> getArtifactStream(String artifactId) {
+		Either<DAOArtifactData, CassandraOperationStatus> artifact = client.getById(artifactId, DAOArtifactData.class, manager);
+		if (artifact.isRight()) {
+			return Either.right(artifact.right().value());
+		}
+		DAOArtifactData artifactData = artifact.left().value();
+		if (artifactData.getPayloadHash() != null) {
+			return getPayloadStream(artifactData.getPayloadHash());
+		}
+		byte[] payload = artifactData.getDataAsArray();
+		if (payload == null) {
+			return Either.right(CassandraOperationStatus.NOT_FOUND);
+		}
+		return Either.left(ArtifactPayloadStream.of(payload, null));
+	}
+
+	private Either<ArtifactPayloadStream, CassandraOperationStatus> getPayloadStream(String hash) {
+		byte[] cachedPayload = payloadCache == null ? null : payloadCache.getIfPresent(hash);
+		if (cachedPayload != null) {
+			return Either.left(ArtifactPayloadStream.of(cachedPayload, null));
+		}
+		Either<DAOArtifactPayloadData, CassandraOperationStatus> payloadData = client.getById(hash,
+				DAOArtifactPayloadData.class, manager);
+		if (payloadData.isRight()) {
+			logger.error("Failed to get artifact payload {}, error {}", hash, payloadData.right().value());
+			return Either.right(payloadData.right().value());
+		}
+		DAOArtifactPayloadData payload = payloadData.left().value();
+		if (payload.isChunked()) {
+			return Either.left(ArtifactPayloadStream.ofChunks(payload.getSize(), payload.getChecksum(),
+					payload.getChunkSize(), chunk -> getPayloadChunk(hash, chunk)));
+		}
+		byte[] data = payload.getDataAsArray();
+		if (data == null) {
+			logger.error("Artifact payload {} has no data", hash);
+			return Either.right(CassandraOperationStatus.NOT_FOUND);
+		}
+		if (payloadCache != null) {
+			payloadCache.put(hash, data);
+		}
+		return Either.left(ArtifactPayloadStream.of(data, payload.getChecksum()));
+	}
+
+	private byte[] getPayloadChunk(String hash, int chunk) throws IOException {
+		try {
+			ResultSet resultSet = artifactAccessor.getPayloadChunk(hash, chunk);
+			Row row = resultSet == null ? null : resultSet.one();
+			if (row == null || row.getBytes(0) == null) {
+				throw new IOException("Chunk " + chunk + " of artifact payload " + hash + " was not found");
+			}
+			return Bytes.getArray(row.getBytes(0));
+		} catch (RuntimeException e) {
+			throw new IOException("Failed to read chunk " + chunk + " of artifact payload " + hash, e);
+		}
 	}
 
 	public CassandraOperationStatus deleteArtifact(String artifactId) {
-		return client.delete(artifactId, DAOArtifactData.class, manager);
+		// the references are released even when the deduplication is disabled, for the rows saved while it was enabled
+		try {
+			String hash = isPayloadReferenceTracked(null) ? getPayloadHash(artifactId) : null;
+			CassandraOperationStatus status = client.delete(artifactId, DAOArtifactData.class, manager);
+			if (status == CassandraOperationStatus.OK && hash != null) {
+				releasePayloadReference(hash, artifactId);
+			}
+			return status;
+		} catch (Exception e) {
+			logger.debug("Failed to delete artifact [{}], error :", artifactId, e);
+			return CassandraOperationStatus.GENERAL_ERROR;
+		}
+	}
+
+	private void releasePayloadReference(String hash, String artifactId) {
+		artifactAccessor.removePayloadReference(hash, artifactId);
+		if (getCount(artifactAccessor.getNumOfPayloadReferences(hash)) == 0) {
+			logger.debug("Payload {} is not referenced anymore, deleting it", hash);
+			if (payloadCache != null) {
+				payloadCache.invalidate(hash);
+			}
+			int chunkCount = getChunkCount(hash);
+			client.delete(hash, DAOArtifactPayloadData.class, manager);
+			for (int chunk = 0; chunk < chunkCount; chunk++) {
+				artifactAccessor.deletePayloadChunk(hash, chunk);
+			}
+		}
+	}
+
+	/**
+	 * Tells whether the artifact row may reference a shared payload, which is known not to be the case when the
+	 * deduplication is disabled, no shared payload was stored when the dao was created and the saved artifact does
+	 * not carry a payload hash.
+	 */
+	private boolean isPayloadReferenceTracked(String payloadHash) {
+		return payloadDeduplication || sharedPayloadsStored || payloadHash != null;
+	}
+
+	private boolean hasPayloadReferences() {
+		try {
+			ResultSet resultSet = artifactAccessor.getAnyPayloadReference();
+			return resultSet != null && resultSet.one() != null;
+		} catch (Exception e) {
+			logger.debug("Failed to check whether shared artifact payloads are stored, assuming they are", e);
+			return true;
+		}
+	}
+
+	private String getPayloadHash(String artifactId) {
+		if (artifactAccessor == null) {
+			return null;
+		}
+		ResultSet resultSet = artifactAccessor.getPayloadHashById(artifactId);
+		Row row = resultSet == null ? null : resultSet.one();
+		return row == null ? null : row.getString(0);
+	}
+
+	private int getChunkCount(String hash) {
+		ResultSet resultSet = artifactAccessor.getPayloadChunkCount(hash);
+		Row row = resultSet == null ? null : resultSet.one();
+		return row == null || row.isNull(0) ? 0 : row.getInt(0);
+	}
+
+	private static long getCount(ResultSet resultSet) {
+		Row row = resultSet == null ? null : resultSet.one();
+		return row == null ? 0 : row.getLong(0);
 	}
 
 	/**
@@ -88,9 +375,14 @@ public class ArtifactCassandraDao extends CassandraDao {
 	 */
 	public CassandraOperationStatus deleteAllArtifacts() {
 		logger.info("cleaning all artifacts.");
-		String query = "truncate sdcartifact.resources;";
 		try {
-			session.execute(query);
+			session.execute("truncate sdcartifact.resources;");
+			session.execute("truncate sdcartifact.artifact_payloads;");
+			session.execute("truncate sdcartifact.artifact_payload_refs;");
+			session.execute("truncate sdcartifact.artifact_payload_chunks;");
+			if (payloadCache != null) {
+				payloadCache.invalidateAll();
+			}
 		} catch (Exception e) {
 			logger.debug("Failed to clean artifacts", e);
 			return CassandraOperationStatus.GENERAL_ERROR;
@@ -118,4 +410,25 @@ public class ArtifactCassandraDao extends CassandraDao {
 		return Either.left(artifactCount.one().getLong(0));
 	}
 
+	/**
+	 * Gets which of the given artifacts exist, with a single query. The number of ids should be kept small, as the
+	 * query reads a partition per id.
+	 */
+	public Either<Set<String>, CassandraOperationStatus> getExistingArtifactIds(Collection<String> uniqueIds) {
+		try {
+			ResultSet artifactIds = artifactAccessor.getExistingArtifactIds(new ArrayList<>(uniqueIds));
+			if (artifactIds == null) {
+				return Either.right(CassandraOperationStatus.NOT_FOUND);
+			}
+			Set<String> existingArtifactIds = new HashSet<>();
+			for (Row row : artifactIds) {
+				existingArtifactIds.add(row.getString(0));
+			}
+			return Either.left(existingArtifactIds);
+		} catch (Exception e) {
+			logger.debug("Failed to check which of the artifacts {} exist", uniqueIds, e);
+			return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+		}
+	}
+
 }
@@ -0,0 +1,151 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Gives access to the payload of an artifact without holding it in memory. Chunked payloads are read from the
+ * artifact keyspace one chunk at a time, only for the chunks overlapping the requested range.
+ */
+public final class ArtifactPayloadStream {
+
+	private final long size;
+	private final String checksum;
+	private final int chunkSize;
+	private final ChunkLoader chunkLoader;
+
+	@FunctionalInterface
+	public interface ChunkLoader {
+		byte[] load(int chunk) throws IOException;
+	}
+
+	private ArtifactPayloadStream(long size, String checksum, int chunkSize, ChunkLoader chunkLoader) {
+		this.size = size;
+		this.checksum = checksum;
+		this.chunkSize = chunkSize;
+		this.chunkLoader = chunkLoader;
+	}
+
+	public static ArtifactPayloadStream of(byte[] payload, String checksum) {
+		return new ArtifactPayloadStream(payload.length, checksum, Math.max(payload.length, 1), chunk -> payload);
+	}
+
+	public static ArtifactPayloadStream ofChunks(long size, String checksum, int chunkSize, ChunkLoader chunkLoader) {
+		return new ArtifactPayloadStream(size, checksum, chunkSize, chunkLoader);
+	}
+
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * @return the Base64 encoded MD5 of the whole payload, or null when it was not stored with the payload
+	 */
+	public String getChecksum() {
+		return checksum;
+	}
+
+	public InputStream openStream() {
+		return openStream(0, size);
+	}
+
+	/**
+	 * Opens a stream over a range of the payload.
+	 *
+	 * @param offset the offset of the first byte of the range
+	 * @param length the number of bytes of the range
+	 */
+	public InputStream openStream(long offset, long length) {
+		if (offset < 0 || length < 0 || offset + length > size) {
+			throw new IllegalArgumentException(
+					String.format("Range [%d, %d) is out of the payload bounds [0, %d)", offset, offset + length, size));
+		}
+		return new RangeInputStream(offset, offset + length);
+	}
+
+	/**
+	 * Reads the whole payload into a new array.
+	 */
+	public byte[] readAll() throws IOException {
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("Payload of " + size + " bytes can not be read into memory");
+		}
+		try (InputStream in = openStream()) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream((int) size);
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+			return out.toByteArray();
+		}
+	}
+
+	private final class RangeInputStream extends InputStream {
+
+		private final long end;
+		private long position;
+		private int loadedChunk = -1;
+		private byte[] chunkData;
+
+		private RangeInputStream(long start, long end) {
+			this.position = start;
+			this.end = end;
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] single = new byte[1];
+			return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] buffer, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			if (position >= end) {
+				return -1;
+			}
+			int chunk = (int) (position / chunkSize);
+			if (chunk != loadedChunk) {
+				chunkData = chunkLoader.load(chunk);
+				loadedChunk = chunk;
+			}
+			int offsetInChunk = (int) (position % chunkSize);
+			if (offsetInChunk >= chunkData.length) {
+				throw new IOException("Chunk " + chunk + " is shorter than expected");
+			}
+			int read = (int) Math.min(Math.min(len, chunkData.length - offsetInChunk), end - position);
+			System.arraycopy(chunkData, offsetInChunk, buffer, off, read);
+			position += read;
+			return read;
+		}
+
+		@Override
+		public void close() {
+			chunkData = null;
+		}
+	}
+}
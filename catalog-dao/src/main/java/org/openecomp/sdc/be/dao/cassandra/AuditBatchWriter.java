@@ -0,0 +1,488 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra;
+
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.mapping.Mapper;
+import com.datastax.driver.mapping.MappingManager;
+import com.datastax.driver.mapping.annotations.Transient;
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.openecomp.sdc.be.config.Configuration.AuditWriterConfig;
+import org.openecomp.sdc.be.config.Configuration.AuditWriterConfig.OverflowPolicy;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingGenericEvent;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingGetUebClusterEvent;
+import org.openecomp.sdc.be.resources.data.auditing.AuthEvent;
+import org.openecomp.sdc.be.resources.data.auditing.CategoryEvent;
+import org.openecomp.sdc.be.resources.data.auditing.ConsumerEvent;
+import org.openecomp.sdc.be.resources.data.auditing.DistributionDeployEvent;
+import org.openecomp.sdc.be.resources.data.auditing.DistributionDownloadEvent;
+import org.openecomp.sdc.be.resources.data.auditing.DistributionEngineEvent;
+import org.openecomp.sdc.be.resources.data.auditing.DistributionNotificationEvent;
+import org.openecomp.sdc.be.resources.data.auditing.DistributionStatusEvent;
+import org.openecomp.sdc.be.resources.data.auditing.EcompOperationalEnvironmentEvent;
+import org.openecomp.sdc.be.resources.data.auditing.ExternalApiEvent;
+import org.openecomp.sdc.be.resources.data.auditing.GetCategoryHierarchyEvent;
+import org.openecomp.sdc.be.resources.data.auditing.GetUsersListEvent;
+import org.openecomp.sdc.be.resources.data.auditing.ResourceAdminEvent;
+import org.openecomp.sdc.be.resources.data.auditing.UserAccessEvent;
+import org.openecomp.sdc.be.resources.data.auditing.UserAdminEvent;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes the audit events to Cassandra on a background thread.
+ * <p>
+ * The events are queued in a bounded queue and taken in groups of up to {@code batchSize} events, as soon as that many
+ * are queued or {@code flushIntervalMs} elapsed since the first one. The events of a group are written together with
+ * individual asynchronous writes, as they belong to different partitions. An event whose write failed is written
+ * again on its own, and is only spilled or dropped when that fails too. When the queue is full the configured
+ * overflow policy applies: BLOCK waits for room and writes the event on the calling thread once the block timeout is
+ * exceeded, DROP drops the event and SPILL appends it to a local file which is replayed once the queue is idle. The
+ * events are visible to the audit queries only once written, so up to the flush interval later.
+ * <p>
+ * The spill files are kept in a directory which must be owned by the backend user and not writable by others, and
+ * are created readable by their owner only. Only the known audit event classes are read back from them.
+ */
+public class AuditBatchWriter {
+
+	private static final Logger logger = Logger.getLogger(AuditBatchWriter.class.getName());
+	private static final String SPILL_FILE_NAME = "sdc-audit-spill.log";
+	private static final String REPLAY_FILE_NAME = "sdc-audit-replay.log";
+	private static final String SPILL_FIELDS_SEPARATOR = "\t";
+	private static final long SHUTDOWN_TIMEOUT_MS = 10000;
+	private static final String DEFAULT_SPILL_DIRECTORY = "sdc-audit-spill";
+	private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY = PosixFilePermissions.fromString("rwx------");
+	private static final Set<PosixFilePermission> OWNER_ONLY_FILE = PosixFilePermissions.fromString("rw-------");
+	private static final Map<String, Class<? extends AuditingGenericEvent>> SPILLED_EVENT_CLASSES = Stream.of(
+			AuditingGetUebClusterEvent.class, AuthEvent.class, CategoryEvent.class, ConsumerEvent.class,
+			DistributionDeployEvent.class, DistributionDownloadEvent.class, DistributionEngineEvent.class,
+			DistributionNotificationEvent.class, DistributionStatusEvent.class, EcompOperationalEnvironmentEvent.class,
+			ExternalApiEvent.class, GetCategoryHierarchyEvent.class, GetUsersListEvent.class, ResourceAdminEvent.class,
+			UserAccessEvent.class, UserAdminEvent.class)
+			.collect(Collectors.toMap(Class::getName, Function.identity()));
+
+	private final Session session;
+	private final MappingManager manager;
+	private final AuditWriterConfig config;
+	private final BlockingQueue<AuditingGenericEvent> queue;
+	private final Thread writerThread;
+	private final Path spillFile;
+	private final Path replayFile;
+	private final boolean spillDirectoryReady;
+	private final Object spillLock = new Object();
+	private final Gson spillGson = new GsonBuilder()
+			.setExclusionStrategies(new CassandraColumnsOnly())
+			.setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ")
+			.create();
+	private volatile boolean running = true;
+
+	private final AtomicLong writtenEvents = new AtomicLong();
+	private final AtomicLong failedEvents = new AtomicLong();
+	private final AtomicLong droppedEvents = new AtomicLong();
+	private final AtomicLong spilledEvents = new AtomicLong();
+	private final AtomicLong pendingSpilledEvents = new AtomicLong();
+	private volatile long lastFlushLatencyMs;
+	private volatile long maxFlushLatencyMs;
+
+	public AuditBatchWriter(Session session, MappingManager manager, AuditWriterConfig config) {
+		this.session = session;
+		this.manager = manager;
+		this.config = config;
+		this.queue = new ArrayBlockingQueue<>(Math.max(config.getQueueSize(), 1));
+		Path spillDirectory = config.getSpillDirectory() != null ? Paths.get(config.getSpillDirectory())
+				: Paths.get(System.getProperty("user.home"), DEFAULT_SPILL_DIRECTORY);
+		this.spillFile = spillDirectory.resolve(SPILL_FILE_NAME);
+		this.replayFile = spillDirectory.resolve(REPLAY_FILE_NAME);
+		this.spillDirectoryReady = config.getOverflowPolicy() == OverflowPolicy.SPILL
+				&& prepareSpillDirectory(spillDirectory);
+		this.writerThread = new BasicThreadFactory.Builder()
+				.namingPattern("AuditBatchWriterThread-%d")
+				.daemon(true)
+				.build()
+				.newThread(this::writeQueuedEvents);
+	}
+
+	public void start() {
+		if (spillDirectoryReady && (Files.exists(spillFile, LinkOption.NOFOLLOW_LINKS)
+				|| Files.exists(replayFile, LinkOption.NOFOLLOW_LINKS))) {
+			// events spilled before the last shutdown
+			pendingSpilledEvents.incrementAndGet();
+		}
+		writerThread.start();
+		logger.info("** Audit batch writer started with {}", config);
+	}
+
+	/**
+	 * Stops the writer once all the queued events are written.
+	 */
+	public void shutdown() {
+		running = false;
+		writerThread.interrupt();
+		try {
+			writerThread.join(SHUTDOWN_TIMEOUT_MS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		logger.info("** Audit batch writer stopped, {} events not written", queue.size());
+	}
+
+	public CassandraOperationStatus submit(AuditingGenericEvent event) {
+		if (queue.offer(event)) {
+			return CassandraOperationStatus.OK;
+		}
+		OverflowPolicy overflowPolicy = config.getOverflowPolicy() == null ? OverflowPolicy.BLOCK : config.getOverflowPolicy();
+		switch (overflowPolicy) {
+			case DROP:
+				droppedEvents.incrementAndGet();
+				logger.debug("Audit queue is full, dropping event {}", event.getAction());
+				return CassandraOperationStatus.GENERAL_ERROR;
+			case SPILL:
+				return spill(event);
+			case BLOCK:
+			default:
+				return submitBlocking(event);
+		}
+	}
+
+	private CassandraOperationStatus submitBlocking(AuditingGenericEvent event) {
+		try {
+			if (queue.offer(event, config.getBlockTimeoutMs(), TimeUnit.MILLISECONDS)) {
+				return CassandraOperationStatus.OK;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		logger.debug("Audit queue is still full, writing event {} on the calling thread", event.getAction());
+		try {
+			mapper(event).save(event);
+			writtenEvents.incrementAndGet();
+			return CassandraOperationStatus.OK;
+		} catch (Exception e) {
+			failedEvents.incrementAndGet();
+			logger.debug("Failed to write audit event, error :", e);
+			return CassandraOperationStatus.GENERAL_ERROR;
+		}
+	}
+
+	private void writeQueuedEvents() {
+		List<AuditingGenericEvent> batch = new ArrayList<>();
+		while (running || !queue.isEmpty()) {
+			try {
+				AuditingGenericEvent first = queue.poll(config.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+				if (first == null) {
+					replaySpilledEvents();
+					continue;
+				}
+				batch.add(first);
+				long deadline = System.currentTimeMillis() + config.getFlushIntervalMs();
+				while (batch.size() < config.getBatchSize() && running) {
+					AuditingGenericEvent next = queue.poll(Math.max(deadline - System.currentTimeMillis(), 0),
+							TimeUnit.MILLISECONDS);
+					if (next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+			} catch (InterruptedException e) {
+				// shutting down, the remaining events are drained below
+				queue.drainTo(batch, Math.max(config.getBatchSize() - batch.size(), 0));
+			}
+			write(batch);
+			batch.clear();
+		}
+	}
+
+	private void write(List<AuditingGenericEvent> events) {
+		if (events.isEmpty()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		List<ResultSetFuture> writes = new ArrayList<>(events.size());
+		for (AuditingGenericEvent event : events) {
+			try {
+				writes.add(session.executeAsync(saveQuery(event)));
+			} catch (Exception e) {
+				logger.debug("Failed to start writing audit event {}, error :", event.getAction(), e);
+				writes.add(null);
+			}
+		}
+		for (int i = 0; i < events.size(); i++) {
+			ResultSetFuture write = writes.get(i);
+			try {
+				if (write != null) {
+					write.getUninterruptibly();
+					writtenEvents.incrementAndGet();
+					continue;
+				}
+			} catch (Exception e) {
+				logger.debug("Failed to write audit event {}, error :", events.get(i).getAction(), e);
+			}
+			writeAgain(events.get(i));
+		}
+		lastFlushLatencyMs = System.currentTimeMillis() - start;
+		maxFlushLatencyMs = Math.max(maxFlushLatencyMs, lastFlushLatencyMs);
+		logger.debug("Flushed {} audit events in {} ms, queue depth {}", events.size(), lastFlushLatencyMs, queue.size());
+	}
+
+	/**
+	 * Writes an event whose asynchronous write failed on its own, and spills or drops it only when that fails too.
+	 */
+	private void writeAgain(AuditingGenericEvent event) {
+		try {
+			mapper(event).save(event);
+			writtenEvents.incrementAndGet();
+			return;
+		} catch (Exception e) {
+			logger.warn("Failed to write audit event {} again", event.getAction(), e);
+		}
+		if (config.getOverflowPolicy() == OverflowPolicy.SPILL) {
+			spill(event);
+		} else {
+			failedEvents.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Creates the spill directory readable by the backend user only, or checks that an existing one is owned by the
+	 * backend user and not writable by others, as the events spilled there are written to the audit again.
+	 */
+	private static boolean prepareSpillDirectory(Path directory) {
+		boolean posix = isPosix(directory);
+		try {
+			if (!Files.exists(directory, LinkOption.NOFOLLOW_LINKS)) {
+				if (posix) {
+					Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIRECTORY));
+				} else {
+					Files.createDirectories(directory);
+				}
+			}
+			if (!Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS)) {
+				logger.warn("Audit spill directory {} is not a directory, audit events will not be spilled", directory);
+				return false;
+			}
+			if (posix) {
+				String owner = Files.getOwner(directory, LinkOption.NOFOLLOW_LINKS).getName();
+				Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(directory, LinkOption.NOFOLLOW_LINKS);
+				if (!owner.equals(System.getProperty("user.name"))
+						|| permissions.contains(PosixFilePermission.GROUP_WRITE)
+						|| permissions.contains(PosixFilePermission.OTHERS_WRITE)) {
+					logger.warn("Audit spill directory {} is owned by {} with permissions {}, it must be owned by the "
+									+ "backend user and not writable by others, audit events will not be spilled",
+							directory, owner, PosixFilePermissions.toString(permissions));
+					return false;
+				}
+			}
+			return true;
+		} catch (IOException e) {
+			logger.warn("Failed to prepare audit spill directory {}, audit events will not be spilled", directory, e);
+			return false;
+		}
+	}
+
+	private static boolean isPosix(Path path) {
+		return path.getFileSystem().supportedFileAttributeViews().contains("posix");
+	}
+
+	private CassandraOperationStatus spill(AuditingGenericEvent event) {
+		if (!spillDirectoryReady) {
+			droppedEvents.incrementAndGet();
+			logger.debug("Audit spill directory is not usable, dropping event {}", event.getAction());
+			return CassandraOperationStatus.GENERAL_ERROR;
+		}
+		String line = event.getClass().getName() + SPILL_FIELDS_SEPARATOR + spillGson.toJson(event);
+		synchronized (spillLock) {
+			try (BufferedWriter writer = openSpillFile()) {
+				writer.write(line);
+				writer.newLine();
+			} catch (IOException e) {
+				droppedEvents.incrementAndGet();
+				logger.warn("Failed to spill audit event to {}", spillFile, e);
+				return CassandraOperationStatus.GENERAL_ERROR;
+			}
+		}
+		spilledEvents.incrementAndGet();
+		pendingSpilledEvents.incrementAndGet();
+		return CassandraOperationStatus.OK;
+	}
+
+	private BufferedWriter openSpillFile() throws IOException {
+		Set<OpenOption> options = new HashSet<>(Arrays.asList(StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+				LinkOption.NOFOLLOW_LINKS));
+		FileAttribute<?>[] attributes = isPosix(spillFile)
+				? new FileAttribute<?>[] {PosixFilePermissions.asFileAttribute(OWNER_ONLY_FILE)}
+				: new FileAttribute<?>[0];
+		return new BufferedWriter(Channels.newWriter(Files.newByteChannel(spillFile, options, attributes),
+				StandardCharsets.UTF_8.name()));
+	}
+
+	/**
+	 * Queues the spilled events again, called by the writer thread when the queue is idle.
+	 */
+	private void replaySpilledEvents() {
+		if (!spillDirectoryReady || pendingSpilledEvents.get() == 0 || !running) {
+			return;
+		}
+		synchronized (spillLock) {
+			try {
+				if (!Files.exists(replayFile, LinkOption.NOFOLLOW_LINKS) && Files.exists(spillFile, LinkOption.NOFOLLOW_LINKS)) {
+					Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+				}
+				pendingSpilledEvents.set(0);
+			} catch (IOException e) {
+				logger.warn("Failed to replay spilled audit events of {}", spillFile, e);
+				return;
+			}
+		}
+		if (!Files.isRegularFile(replayFile, LinkOption.NOFOLLOW_LINKS)) {
+			return;
+		}
+		List<AuditingGenericEvent> batch = new ArrayList<>();
+		int replayed = 0;
+		try (BufferedReader reader = new BufferedReader(Channels.newReader(
+				Files.newByteChannel(replayFile, StandardOpenOption.READ, LinkOption.NOFOLLOW_LINKS),
+				StandardCharsets.UTF_8.name()))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				AuditingGenericEvent event = fromSpillLine(line);
+				if (event != null) {
+					batch.add(event);
+					replayed++;
+				}
+				if (batch.size() >= config.getBatchSize()) {
+					write(batch);
+					batch.clear();
+				}
+			}
+			write(batch);
+			Files.delete(replayFile);
+			logger.info("Replayed {} spilled audit events", replayed);
+		} catch (IOException e) {
+			pendingSpilledEvents.incrementAndGet();
+			logger.warn("Failed to replay spilled audit events of {}", replayFile, e);
+		}
+	}
+
+	private AuditingGenericEvent fromSpillLine(String line) {
+		int separator = line.indexOf(SPILL_FIELDS_SEPARATOR);
+		if (separator < 0) {
+			return null;
+		}
+		Class<? extends AuditingGenericEvent> eventClass = SPILLED_EVENT_CLASSES.get(line.substring(0, separator));
+		if (eventClass == null) {
+			logger.warn("Skipping spilled audit event of unknown class {}", line.substring(0, separator));
+			return null;
+		}
+		try {
+			return spillGson.fromJson(line.substring(separator + 1), eventClass);
+		} catch (Exception e) {
+			logger.debug("Skipping malformed spilled audit event {}", line, e);
+			return null;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends AuditingGenericEvent> Mapper<T> mapper(T event) {
+		return (Mapper<T>) manager.mapper(event.getClass());
+	}
+
+	private <T extends AuditingGenericEvent> Statement saveQuery(T event) {
+		return mapper(event).saveQuery(event);
+	}
+
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	public long getWrittenEvents() {
+		return writtenEvents.get();
+	}
+
+	public long getFailedEvents() {
+		return failedEvents.get();
+	}
+
+	public long getDroppedEvents() {
+		return droppedEvents.get();
+	}
+
+	public long getSpilledEvents() {
+		return spilledEvents.get();
+	}
+
+	public long getLastFlushLatencyMs() {
+		return lastFlushLatencyMs;
+	}
+
+	public long getMaxFlushLatencyMs() {
+		return maxFlushLatencyMs;
+	}
+
+	/**
+	 * Spills only the fields mapped to the audit tables.
+	 */
+	private static class CassandraColumnsOnly implements ExclusionStrategy {
+
+		@Override
+		public boolean shouldSkipField(FieldAttributes field) {
+			return field.getAnnotation(Transient.class) != null || field.getDeclaredClass() == SimpleDateFormat.class;
+		}
+
+		@Override
+		public boolean shouldSkipClass(Class<?> clazz) {
+			return false;
+		}
+	}
+}
@@ -26,6 +26,8 @@ import com.datastax.driver.mapping.Result;
 import fj.data.Either;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
+import org.openecomp.sdc.be.config.Configuration.AuditWriterConfig;
+import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.cassandra.schema.Table;
 import org.openecomp.sdc.be.resources.data.auditing.*;
@@ -34,13 +36,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Audit keyspace DAO. When the audit writer is configured as async, the audit records are queued and written in
+ * batches by an {@link AuditBatchWriter}, so a saved record is visible to the queries up to the flush interval later.
+ */
 @Component("audit-cassandra-dao")
 public class AuditCassandraDao extends CassandraDao {
 
 	private AuditAccessor auditAccessor;
+	private AuditBatchWriter auditWriter;
 
 	private static Logger logger = Logger.getLogger(AuditCassandraDao.class.getName());
 
@@ -58,6 +66,7 @@ public class AuditCassandraDao extends CassandraDao {
 				session = result.left().value().left;
 				manager = result.left().value().right;
 				auditAccessor = manager.createAccessor(AuditAccessor.class);
+				startAuditWriter();
 				logger.info("** AuditCassandraDao created");
 			} else {
 				logger.info("** AuditCassandraDao failed");
@@ -71,11 +80,38 @@ public class AuditCassandraDao extends CassandraDao {
 
 	}
 
+	private void startAuditWriter() {
+		ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+		AuditWriterConfig auditWriterConfig = configurationManager == null || configurationManager.getConfiguration() == null
+				? null : configurationManager.getConfiguration().getAuditWriter();
+		if (auditWriterConfig != null && auditWriterConfig.isAsync()) {
+			auditWriter = new AuditBatchWriter(session, manager, auditWriterConfig);
+			auditWriter.start();
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (auditWriter != null) {
+			auditWriter.shutdown();
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	public <T extends AuditingGenericEvent> CassandraOperationStatus saveRecord(T entity) {
+		if (auditWriter != null) {
+			return auditWriter.submit(entity);
+		}
 		return client.save(entity, (Class<T>) entity.getClass(), manager);
 	}
 
+	/**
+	 * @return the asynchronous audit writer, or null when the audit records are written synchronously
+	 */
+	public AuditBatchWriter getAuditWriter() {
+		return auditWriter;
+	}
+
 	/**
 	 * 
 	 * @param did
@@ -0,0 +1,39 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.mapping.annotations.Accessor;
+import com.datastax.driver.mapping.annotations.Param;
+import com.datastax.driver.mapping.annotations.Query;
+
+@Accessor
+public interface CatalogVersionAccessor {
+
+    @Query("SELECT version FROM sdcrepository.catalog_version WHERE id = :id")
+    ResultSet getVersion(@Param("id") String id);
+
+    @Query("INSERT INTO sdcrepository.catalog_version (id, version) VALUES (:id, :version) IF NOT EXISTS")
+    ResultSet initVersion(@Param("id") String id, @Param("version") long version);
+
+    @Query("UPDATE sdcrepository.catalog_version SET version = :version WHERE id = :id IF version = :expected")
+    ResultSet updateVersion(@Param("version") long version, @Param("id") String id, @Param("expected") long expected);
+}
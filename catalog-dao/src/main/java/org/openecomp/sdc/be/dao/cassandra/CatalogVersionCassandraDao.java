@@ -0,0 +1,118 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra;
+
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.mapping.MappingManager;
+import fj.data.Either;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * Keeps the version of the catalog shared by all the backends. The version is moved forward by one for every batch
+ * of committed catalog changes with a lightweight transaction conditioned on the current version, so two backends
+ * never move it to the same version and the version does not depend on the clocks of the backends.
+ */
+@Component("catalog-version-cassandra-dao")
+public class CatalogVersionCassandraDao extends CassandraDao {
+
+    private static final Logger log = Logger.getLogger(CatalogVersionCassandraDao.class.getName());
+    private static final String CATALOG_VERSION_ID = "catalog";
+    private static final int MAX_INCREMENT_ATTEMPTS = 10;
+    private CatalogVersionAccessor catalogVersionAccessor;
+
+    @Autowired
+    public CatalogVersionCassandraDao(CassandraClient cassandraClient) {
+        super(cassandraClient);
+    }
+
+    @PostConstruct
+    public void init() {
+        String keyspace = AuditingTypesConstants.REPO_KEYSPACE;
+        if (client.isConnected()) {
+            Either<ImmutablePair<Session, MappingManager>, CassandraOperationStatus> result = client.connect(keyspace);
+            if (result.isLeft()) {
+                session = result.left().value().left;
+                manager = result.left().value().right;
+                catalogVersionAccessor = manager.createAccessor(CatalogVersionAccessor.class);
+                log.debug("** CatalogVersionCassandraDao created");
+            } else {
+                log.debug("** CatalogVersionCassandraDao failed");
+                throw new RuntimeException(
+                        "Repo keyspace [" + keyspace + "] failed to connect with error : " + result.right().value());
+            }
+        } else {
+            log.debug("** Cassandra client isn't connected");
+            log.debug("** CatalogVersionCassandraDao created, but not connected");
+        }
+    }
+
+    /**
+     * @return the current version of the catalog, 0 if it was never moved forward
+     */
+    public Either<Long, CassandraOperationStatus> getVersion() {
+        if (catalogVersionAccessor == null) {
+            return Either.right(CassandraOperationStatus.KEYSPACE_NOT_CONNECTED);
+        }
+        try {
+            Row row = catalogVersionAccessor.getVersion(CATALOG_VERSION_ID).one();
+            return Either.left(row == null ? 0L : row.getLong(0));
+        } catch (Exception e) {
+            log.debug("Failed to fetch the catalog version", e);
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+    }
+
+    /**
+     * Moves the version of the catalog forward by one.
+     *
+     * @return the version the catalog was moved to
+     */
+    public Either<Long, CassandraOperationStatus> incrementVersion() {
+        for (int attempt = 0; attempt < MAX_INCREMENT_ATTEMPTS; attempt++) {
+            Either<Long, CassandraOperationStatus> currentVersion = getVersion();
+            if (currentVersion.isRight()) {
+                return currentVersion;
+            }
+            long version = currentVersion.left().value();
+            try {
+                boolean applied = version == 0
+                    ? catalogVersionAccessor.initVersion(CATALOG_VERSION_ID, 1L).wasApplied()
+                    : catalogVersionAccessor.updateVersion(version + 1, CATALOG_VERSION_ID, version).wasApplied();
+                if (applied) {
+                    return Either.left(version + 1);
+                }
+                log.debug("Catalog version {} was moved forward concurrently, retrying", version);
+            } catch (Exception e) {
+                log.debug("Failed to move the catalog version forward from {}", version, e);
+                return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+            }
+        }
+        log.debug("Failed to move the catalog version forward after {} attempts", MAX_INCREMENT_ATTEMPTS);
+        return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+    }
+}
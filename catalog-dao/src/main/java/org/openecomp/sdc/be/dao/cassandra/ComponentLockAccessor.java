@@ -0,0 +1,41 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.mapping.annotations.Accessor;
+import com.datastax.driver.mapping.annotations.Param;
+import com.datastax.driver.mapping.annotations.Query;
+
+@Accessor
+public interface ComponentLockAccessor {
+
+    @Query("INSERT INTO sdcrepository.component_locks (lock_id, owner, token) VALUES (:lockId, :owner, :token) IF NOT EXISTS USING TTL :ttl")
+    ResultSet acquire(@Param("lockId") String lockId, @Param("owner") String owner, @Param("token") long token,
+                      @Param("ttl") int ttl);
+
+    @Query("UPDATE sdcrepository.component_locks USING TTL :ttl SET owner = :owner, token = :token WHERE lock_id = :lockId IF owner = :owner AND token = :token")
+    ResultSet renew(@Param("ttl") int ttl, @Param("lockId") String lockId, @Param("owner") String owner,
+                    @Param("token") long token);
+
+    @Query("DELETE FROM sdcrepository.component_locks WHERE lock_id = :lockId IF owner = :owner AND token = :token")
+    ResultSet release(@Param("lockId") String lockId, @Param("owner") String owner, @Param("token") long token);
+}
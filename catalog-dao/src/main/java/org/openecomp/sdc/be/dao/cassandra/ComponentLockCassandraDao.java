@@ -0,0 +1,105 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.mapping.MappingManager;
+import fj.data.Either;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the component leases in Cassandra. Every change of a lease is a lightweight transaction conditioned on the
+ * owner and the token of the lease, so a backend can never renew or release a lease taken over by another one after
+ * its own lease expired.
+ */
+@Component("component-lock-cassandra-dao")
+public class ComponentLockCassandraDao extends CassandraDao {
+
+    private static final Logger log = Logger.getLogger(ComponentLockCassandraDao.class.getName());
+    private ComponentLockAccessor componentLockAccessor;
+
+    @Autowired
+    public ComponentLockCassandraDao(CassandraClient cassandraClient) {
+        super(cassandraClient);
+    }
+
+    @PostConstruct
+    public void init() {
+        String keyspace = AuditingTypesConstants.REPO_KEYSPACE;
+        if (client.isConnected()) {
+            Either<ImmutablePair<Session, MappingManager>, CassandraOperationStatus> result = client.connect(keyspace);
+            if (result.isLeft()) {
+                session = result.left().value().left;
+                manager = result.left().value().right;
+                componentLockAccessor = manager.createAccessor(ComponentLockAccessor.class);
+                log.debug("** ComponentLockCassandraDao created");
+            } else {
+                log.debug("** ComponentLockCassandraDao failed");
+                throw new RuntimeException(
+                        "Repo keyspace [" + keyspace + "] failed to connect with error : " + result.right().value());
+            }
+        } else {
+            log.debug("** Cassandra client isn't connected");
+            log.debug("** ComponentLockCassandraDao created, but not connected");
+        }
+    }
+
+    /**
+     * @return true if the lease was taken, false if the lock is already held by someone else
+     */
+    public Either<Boolean, CassandraOperationStatus> acquire(String lockId, String owner, long token, int ttlInSec) {
+        return execute(() -> componentLockAccessor.acquire(lockId, owner, token, ttlInSec));
+    }
+
+    /**
+     * @return true if the lease was renewed, false if it expired or was taken over by someone else
+     */
+    public Either<Boolean, CassandraOperationStatus> renew(String lockId, String owner, long token, int ttlInSec) {
+        return execute(() -> componentLockAccessor.renew(ttlInSec, lockId, owner, token));
+    }
+
+    /**
+     * @return true if the lease was released, false if it already expired or was taken over by someone else
+     */
+    public Either<Boolean, CassandraOperationStatus> release(String lockId, String owner, long token) {
+        return execute(() -> componentLockAccessor.release(lockId, owner, token));
+    }
+
+    private Either<Boolean, CassandraOperationStatus> execute(Supplier<ResultSet> statement) {
+        if (componentLockAccessor == null) {
+            return Either.right(CassandraOperationStatus.KEYSPACE_NOT_CONNECTED);
+        }
+        try {
+            return Either.left(statement.get().wasApplied());
+        } catch (Exception e) {
+            log.debug("Failed to execute the component lock statement", e);
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+    }
+}
@@ -25,6 +25,9 @@ import org.openecomp.sdc.be.dao.cassandra.schema.tables.*;
 public enum Table {
 
     ARTIFACT(new ArtifactTableDescription()),
+    ARTIFACT_PAYLOAD(new ArtifactPayloadTableDescription()),
+    ARTIFACT_PAYLOAD_REFERENCE(new ArtifactPayloadReferenceTableDescription()),
+    ARTIFACT_PAYLOAD_CHUNK(new ArtifactPayloadChunkTableDescription()),
     USER_ADMIN_EVENT(new UserAdminEventTableDescription()),
     USER_ACCESS_EVENT(new UserAccessEventTableDescription()),
     RESOURCE_ADMIN_EVENT(new ResAdminEventTableDescription()),
@@ -43,7 +46,9 @@ public enum Table {
     SDC_REPO(new MigrationTasksTableDescription()),
     SDC_OPERATIONAL_ENVIRONMENT(new OperationalEnvironmentsTableDescription()),
     AUDIT_ECOMP_OPERATIONAL_ENVIRONMENT(new EcompOperationalEnvironmentEventTableDesc()),
-    FEATURE_TOGGLE_STATE(new FeatureToggleEventTableDesc());
+    FEATURE_TOGGLE_STATE(new FeatureToggleEventTableDesc()),
+    COMPONENT_LOCK(new ComponentLockTableDescription()),
+    CATALOG_VERSION(new CatalogVersionTableDescription());
 
 	ITableDescription tableDescription;
 
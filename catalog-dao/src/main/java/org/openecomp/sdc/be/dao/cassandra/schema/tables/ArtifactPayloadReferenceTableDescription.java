@@ -0,0 +1,70 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra.schema.tables;
+
+import com.datastax.driver.core.DataType;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.dao.cassandra.schema.ITableDescription;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The artifacts referencing each payload of the artifact_payloads table, one row per artifact. A payload is deleted
+ * once it is not referenced anymore.
+ */
+public class ArtifactPayloadReferenceTableDescription implements ITableDescription {
+
+	public static final String HASH_FIELD = "hash";
+	public static final String ARTIFACT_ID_FIELD = "artifact_id";
+
+	@Override
+	public List<ImmutablePair<String, DataType>> primaryKeys() {
+		List<ImmutablePair<String, DataType>> keys = new ArrayList<>();
+		keys.add(new ImmutablePair<>(HASH_FIELD, DataType.varchar()));
+		return keys;
+	}
+
+	@Override
+	public List<ImmutablePair<String, DataType>> clusteringKeys() {
+		List<ImmutablePair<String, DataType>> keys = new ArrayList<>();
+		keys.add(new ImmutablePair<>(ARTIFACT_ID_FIELD, DataType.varchar()));
+		return keys;
+	}
+
+	@Override
+	public Map<String, ImmutablePair<DataType, Boolean>> getColumnDescription() {
+		return new HashMap<>();
+	}
+
+	@Override
+	public String getKeyspace() {
+		return AuditingTypesConstants.ARTIFACT_KEYSPACE;
+	}
+
+	@Override
+	public String getTableName() {
+		return "artifact_payload_refs";
+	}
+}
@@ -65,7 +65,8 @@ public class ArtifactTableDescription implements ITableDescription {
 	@Getter
 	@AllArgsConstructor
 	enum ArtifactFieldsDescription {
-		DATA("data", DataType.blob(), false);
+		DATA("data", DataType.blob(), false),
+		PAYLOAD_HASH("payload_hash", DataType.varchar(), false);
 
 		private final String name;
 		private final DataType type;
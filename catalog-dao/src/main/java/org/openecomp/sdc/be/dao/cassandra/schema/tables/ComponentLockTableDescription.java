@@ -0,0 +1,87 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra.schema.tables;
+
+import com.datastax.driver.core.DataType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.dao.cassandra.schema.ITableDescription;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The leases of the locked components. A lease row is written with a ttl and is removed by Cassandra once its
+ * backend stops renewing it.
+ */
+public class ComponentLockTableDescription implements ITableDescription {
+
+	public static final String LOCK_ID_FIELD = "lock_id";
+
+	@Override
+	public List<ImmutablePair<String, DataType>> primaryKeys() {
+		List<ImmutablePair<String, DataType>> keys = new ArrayList<>();
+		keys.add(new ImmutablePair<>(LOCK_ID_FIELD, DataType.varchar()));
+		return keys;
+	}
+
+	@Override
+	public List<ImmutablePair<String, DataType>> clusteringKeys() {
+		return null;
+	}
+
+	@Override
+	public Map<String, ImmutablePair<DataType, Boolean>> getColumnDescription() {
+		Map<String, ImmutablePair<DataType, Boolean>> columns = new HashMap<>();
+
+		for (ComponentLockFieldsDescription field : ComponentLockFieldsDescription.values()) {
+			columns.put(field.getName(), new ImmutablePair<>(field.type, field.indexed));
+		}
+
+		return columns;
+	}
+
+	@Override
+	public String getKeyspace() {
+		return AuditingTypesConstants.REPO_KEYSPACE;
+	}
+
+	@Override
+	public String getTableName() {
+		return AuditingTypesConstants.COMPONENT_LOCK;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	enum ComponentLockFieldsDescription {
+		OWNER("owner", DataType.varchar(), false),
+		TOKEN("token", DataType.bigint(), false);
+
+		private final String name;
+		private final DataType type;
+		private final boolean indexed;
+
+	}
+}
@@ -23,12 +23,17 @@ package org.openecomp.sdc.be.dao.janusgraph;
 import fj.data.Either;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import org.apache.commons.configuration.BaseConfiguration;
@@ -66,6 +71,9 @@ public class JanusGraphClient {
     private static final String HEALTH_CHECK = GraphPropertiesDictionary.HEALTH_CHECK.getProperty();
     private static final String OK = "GOOD";
 
+    private final ThreadLocal<Set<String>> uncommittedChanges = new ThreadLocal<>();
+    private final List<Consumer<Set<String>>> committedChangesListeners = new CopyOnWriteArrayList<>();
+
     public JanusGraphClient() {
     }
 
@@ -274,19 +282,25 @@ public class JanusGraphClient {
     }
 
     public JanusGraphOperationStatus commit() {
+        Set<String> changedComponentIds = uncommittedChanges.get();
+        uncommittedChanges.remove();
         if (graph != null) {
             try {
                 graph.tx().commit();
-                return JanusGraphOperationStatus.OK;
             } catch (Exception e) {
                 return handleJanusGraphException(e);
             }
+            if (changedComponentIds != null) {
+                notifyCommittedChanges(changedComponentIds);
+            }
+            return JanusGraphOperationStatus.OK;
         } else {
             return JanusGraphOperationStatus.NOT_CREATED;
         }
     }
 
     public JanusGraphOperationStatus rollback() {
+        uncommittedChanges.remove();
         if (graph != null) {
             try {
                 graph.tx().rollback();
@@ -299,6 +313,50 @@ public class JanusGraphClient {
         }
     }
 
+    /**
+     * Registers a listener notified, on the committing thread, of the ids of the components changed by every committed
+     * transaction. The changes are tracked only as long as there is a listener.
+     */
+    public void addCommittedChangesListener(Consumer<Set<String>> listener) {
+        committedChangesListeners.add(listener);
+    }
+
+    public boolean isTrackingChanges() {
+        return !committedChangesListeners.isEmpty();
+    }
+
+    /**
+     * Records a change made by the current transaction, to the given component or, when the id is null, to a vertex
+     * not belonging to any component.
+     */
+    public void addUncommittedChange(String componentId) {
+        Set<String> changedComponentIds = uncommittedChanges.get();
+        if (changedComponentIds == null) {
+            changedComponentIds = new HashSet<>();
+            uncommittedChanges.set(changedComponentIds);
+        }
+        if (componentId != null) {
+            changedComponentIds.add(componentId);
+        }
+    }
+
+    /**
+     * Tells whether the current transaction changed anything since it started, as far as the changes are tracked.
+     */
+    public boolean hasUncommittedChanges() {
+        return uncommittedChanges.get() != null;
+    }
+
+    private void notifyCommittedChanges(Set<String> changedComponentIds) {
+        for (Consumer<Set<String>> listener : committedChangesListeners) {
+            try {
+                listener.accept(changedComponentIds);
+            } catch (Exception e) {
+                logger.debug("Failed to notify the committed changes of components {}", changedComponentIds, e);
+            }
+        }
+    }
+
     public static JanusGraphOperationStatus handleJanusGraphException(Exception e) {
         if (e instanceof JanusGraphConfigurationException) {
             return JanusGraphOperationStatus.JANUSGRAPH_CONFIGURATION;
@@ -24,6 +24,8 @@ import org.janusgraph.core.JanusGraphVertex;
 import com.google.common.base.Strings;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.StringUtils;
+import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
+import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
 import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
@@ -31,7 +33,9 @@ import org.openecomp.sdc.be.datatypes.enums.InstantiationTypes;
 import org.openecomp.sdc.be.datatypes.enums.JsonPresentationFields;
 import org.openecomp.sdc.be.datatypes.tosca.ToscaDataDefinition;
 
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -45,6 +49,9 @@ public class GraphVertex {
 	private Map<String, Object> metadataJson;
 	private Map<GraphPropertyEnum, Object> metadataProperties;
 
+	private Map<EdgeLabelEnum, List<GraphVertex>> prefetchedChildren;
+	private JsonParseFlagEnum prefetchParseFlag;
+
 	public GraphVertex() {
 
 	}
@@ -199,4 +206,29 @@ public class GraphVertex {
 			}
 		}
 	}
+
+	/**
+	 * Keeps the children vertices fetched in one batch for the given edge labels, each label being served once by
+	 * {@link #takePrefetchedChildren(EdgeLabelEnum, JsonParseFlagEnum)}.
+	 */
+	public void setPrefetchedChildren(Map<EdgeLabelEnum, List<GraphVertex>> children, JsonParseFlagEnum parseFlag) {
+		this.prefetchedChildren = children == null ? null : new EnumMap<>(children);
+		this.prefetchParseFlag = parseFlag;
+	}
+
+	/**
+	 * @return the prefetched children vertices of the label, an empty list if the label has none, or null if the
+	 * label was not prefetched with the same parse flag
+	 */
+	public List<GraphVertex> takePrefetchedChildren(EdgeLabelEnum edgeLabel, JsonParseFlagEnum parseFlag) {
+		if (prefetchedChildren == null || prefetchParseFlag != parseFlag) {
+			return null;
+		}
+		return prefetchedChildren.remove(edgeLabel);
+	}
+
+	public void clearPrefetchedChildren() {
+		prefetchedChildren = null;
+		prefetchParseFlag = null;
+	}
 }
@@ -34,6 +34,7 @@ import org.openecomp.sdc.be.dao.jsongraph.types.EdgePropertyEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
 import org.openecomp.sdc.be.dao.jsongraph.utils.JsonParserUtils;
+import org.openecomp.sdc.be.dao.jsongraph.utils.JsonPropertyCodec;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
 import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
 import org.openecomp.sdc.be.datatypes.tosca.ToscaDataDefinition;
@@ -46,6 +47,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import java.io.IOException;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
 
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
 
@@ -74,6 +76,57 @@ public class JanusGraphDao {
         return janusGraphClient.getGraph();
     }
 
+    /**
+     * Registers a listener notified of the ids of the components changed by every committed transaction, including
+     * the components whose data vertices or edges were changed
+     * @param listener
+     */
+    public void addCommittedChangesListener(Consumer<Set<String>> listener) {
+        janusGraphClient.addCommittedChangesListener(listener);
+    }
+
+    /**
+     * Tells whether the current transaction changed any vertex or edge through this dao since it started. Changes are
+     * tracked only while there is a committed changes listener.
+     * @return
+     */
+    public boolean hasUncommittedChanges() {
+        return janusGraphClient.hasUncommittedChanges();
+    }
+
+    /**
+     * Records the given component as changed by the current transaction, for a change not made through this dao such
+     * as the removal of its vertex, or for the change of one of its data vertices.
+     * @param componentId
+     */
+    public void trackChange(String componentId) {
+        if (componentId != null && janusGraphClient.isTrackingChanges()) {
+            janusGraphClient.addUncommittedChange(componentId);
+        }
+    }
+
+    /**
+     * Records the change of the given vertex by the current transaction. The change of a data vertex is recorded as a
+     * change of its component by the operation writing it, see {@link #trackChange(String)}.
+     */
+    private void trackChange(Vertex vertex) {
+        if (vertex == null || !janusGraphClient.isTrackingChanges()) {
+            return;
+        }
+        janusGraphClient.addUncommittedChange(null);
+        Object label = vertex.property(GraphPropertyEnum.LABEL.getProperty()).orElse(null);
+        if (VertexTypeEnum.TOPOLOGY_TEMPLATE.getName().equals(label) || VertexTypeEnum.NODE_TYPE.getName().equals(label)) {
+            janusGraphClient.addUncommittedChange((String) vertex.property(GraphPropertyEnum.UNIQUE_ID.getProperty()).orElse(null));
+        }
+    }
+
+    private void trackChange(Edge edge) {
+        if (janusGraphClient.isTrackingChanges()) {
+            trackChange(edge.outVertex());
+            trackChange(edge.inVertex());
+        }
+    }
+
     /**
      * 
      * @param graphVertex
@@ -91,6 +144,7 @@ public class JanusGraphDao {
                 setVertexProperties(vertex, graphVertex);
 
                 graphVertex.setVertex(vertex);
+                trackChange(vertex);
 
                 return Either.left(graphVertex);
 
@@ -245,7 +299,7 @@ public class JanusGraphDao {
         Map<String, ? extends ToscaDataDefinition> json = graphVertex.getJson();
         if (json != null) {
             String jsonStr = JsonParserUtils.toJson(json);
-            vertex.property(GraphPropertyEnum.JSON.getProperty(), jsonStr);
+            vertex.property(GraphPropertyEnum.JSON.getProperty(), JsonPropertyCodec.encode(jsonStr));
 
         }
         Map<String, Object> jsonMetadata = graphVertex.getMetadataJson();
@@ -291,8 +345,8 @@ public class JanusGraphDao {
                 break;
             case JSON:
                 if (parseFlag == JsonParseFlagEnum.ParseAll || parseFlag == JsonParseFlagEnum.ParseJson) {
-                    String json = (String) entry.getValue();
-                    Map<String, ? extends ToscaDataDefinition> jsonObj = JsonParserUtils.toMap(json, label.getClassOfJson());
+                    String json = decodeJson(graphVertex, (String) entry.getValue());
+                    Map<String, ? extends ToscaDataDefinition> jsonObj = JsonParserUtils.toLazyMap(json, label.getClassOfJson());
                     graphVertex.setJson(jsonObj);
                 }
                 break;
@@ -310,6 +364,15 @@ public class JanusGraphDao {
         }
     }
 
+    private String decodeJson(GraphVertex graphVertex, String json) {
+        try {
+            return JsonPropertyCodec.decode(json);
+        } catch (IOException e) {
+            logger.debug("Failed to decode the json of vertex {}", graphVertex.getUniqueId(), e);
+            return null;
+        }
+    }
+
     public JanusGraphOperationStatus createEdge(GraphVertex from, GraphVertex to, EdgeLabelEnum label, Map<EdgePropertyEnum, Object> properties) {
         return createEdge(from.getVertex(), to.getVertex(), label, properties);
     }
@@ -327,6 +390,7 @@ public class JanusGraphDao {
             return JanusGraphOperationStatus.NOT_FOUND;
         }
         Edge edge = from.addEdge(label.name(), to);
+        trackChange(edge);
         JanusGraphOperationStatus status;
         try {
             setEdgeProperties(edge, properties);
@@ -633,9 +697,69 @@ public class JanusGraphDao {
      * @return
      */
     public Either<List<GraphVertex>, JanusGraphOperationStatus> getChildrenVertices(GraphVertex parentVertex, EdgeLabelEnum edgeLabel, JsonParseFlagEnum parseFlag) {
+        List<GraphVertex> prefetched = parentVertex.takePrefetchedChildren(edgeLabel, parseFlag);
+        if (prefetched != null) {
+            return prefetched.isEmpty() ? Either.right(JanusGraphOperationStatus.NOT_FOUND) : Either.left(prefetched);
+        }
         return getAdjacentVertices(parentVertex, edgeLabel, parseFlag, Direction.OUT);
     }
 
+    /**
+     * Fetches the children vertices of all the received edge labels at once: the edges are read by a single
+     * adjacency query and the properties of all the children are loaded by a single multi vertex query.
+     *
+     * @param parentVertex
+     * @param edgeLabels
+     * @param parseFlag
+     * @return the children vertices per edge label, a label without children is mapped to an empty list
+     */
+    public Either<Map<EdgeLabelEnum, List<GraphVertex>>, JanusGraphOperationStatus> getChildrenVertices(GraphVertex parentVertex, Set<EdgeLabelEnum> edgeLabels, JsonParseFlagEnum parseFlag) {
+        Map<EdgeLabelEnum, List<GraphVertex>> children = new EnumMap<>(EdgeLabelEnum.class);
+        if (isEmpty(edgeLabels)) {
+            return Either.left(children);
+        }
+        try {
+            Either<JanusGraph, JanusGraphOperationStatus> graphRes = janusGraphClient.getGraph();
+            if (graphRes.isRight()) {
+                logger.error("Failed to retrieve graph. status is {}", graphRes);
+                return Either.right(graphRes.right().value());
+            }
+            String[] labels = edgeLabels.stream().map(EdgeLabelEnum::name).toArray(String[]::new);
+            Map<JanusGraphVertex, EdgeLabelEnum> childrenLabels = new LinkedHashMap<>();
+            for (JanusGraphEdge edge : parentVertex.getVertex().query().direction(Direction.OUT).labels(labels).edges()) {
+                childrenLabels.put((JanusGraphVertex) edge.inVertex(), EdgeLabelEnum.getEdgeLabelEnum(edge.label()));
+            }
+            edgeLabels.forEach(label -> children.put(label, new ArrayList<>()));
+            if (childrenLabels.isEmpty()) {
+                return Either.left(children);
+            }
+            // loads the properties of all the children into the transaction cache in one round trip
+            graphRes.left().value().multiQuery(childrenLabels.keySet().toArray(new JanusGraphVertex[0])).properties();
+            childrenLabels.forEach((vertex, label) -> children.get(label).add(createAndFill(vertex, parseFlag)));
+            return Either.left(children);
+        } catch (Exception e) {
+            logger.error("Failed to fetch the children of vertex {} by labels {}", parentVertex.getUniqueId(), edgeLabels, e);
+            return Either.right(JanusGraphClient.handleJanusGraphException(e));
+        }
+    }
+
+    /**
+     * Fetches the children vertices of the received edge labels in one batch and keeps them in the parent vertex, so
+     * the following {@link #getChildVertex(GraphVertex, EdgeLabelEnum, JsonParseFlagEnum)} calls with the same parse
+     * flag are served without another read. Nothing is kept if the batch fetch fails.
+     */
+    public void prefetchChildrenVertices(GraphVertex parentVertex, Set<EdgeLabelEnum> edgeLabels, JsonParseFlagEnum parseFlag) {
+        if (parentVertex == null || parentVertex.getVertex() == null) {
+            return;
+        }
+        Either<Map<EdgeLabelEnum, List<GraphVertex>>, JanusGraphOperationStatus> children = getChildrenVertices(parentVertex, edgeLabels, parseFlag);
+        if (children.isLeft()) {
+            parentVertex.setPrefetchedChildren(children.left().value(), parseFlag);
+        } else {
+            logger.debug("Failed to prefetch the children of vertex {}, status {}", parentVertex.getUniqueId(), children.right().value());
+        }
+    }
+
     public Either<List<GraphVertex>, JanusGraphOperationStatus> getParentVertices(GraphVertex parentVertex, EdgeLabelEnum edgeLabel, JsonParseFlagEnum parseFlag) {
         return getAdjacentVertices(parentVertex, edgeLabel, parseFlag, Direction.IN);
     }
@@ -791,6 +915,7 @@ public class JanusGraphDao {
             if (result.isLeft()) {
                 Edge edge = result.left().value();
                 CommonUtility.addRecordToLog(logger, LogLevelEnum.TRACE, "Going to delete an edge with the label {} belonging to the vertex {} ", label.name(), vertex.getUniqueId());
+                trackChange(edge);
                 edge.remove();
                 result = Either.left(edge);
             } else {
@@ -864,6 +989,7 @@ public class JanusGraphDao {
 
                 if (currVertexUniqueId != null && currVertexUniqueId.equals(uniqueIdTo)) {
                     CommonUtility.addRecordToLog(logger, LogLevelEnum.TRACE, "Going to delete an edge with the label {} between vertices {} and {}. ", label.name(), uniqueIdFrom, uniqueIdTo);
+                    trackChange(edge);
                     edge.remove();
                     result = Either.left(edge);
                     if (!deleteAll) {
@@ -889,6 +1015,7 @@ public class JanusGraphDao {
 
             while (edges.hasNext()) {
                 Edge edge = edges.next();
+                trackChange(edge);
                 edge.remove();
             }
         } catch (Exception e) {
@@ -909,6 +1036,7 @@ public class JanusGraphDao {
         try {
             graphVertex.updateMetadataJsonWithCurrentMetadataProperties();
             setVertexProperties(graphVertex.getVertex(), graphVertex);
+            trackChange(graphVertex.getVertex());
 
         } catch (Exception e) {
             CommonUtility.addRecordToLog(logger, LogLevelEnum.DEBUG, "Failed to update metadata of vertex with uniqueId {}. ", graphVertex.getUniqueId(), e);
@@ -974,6 +1102,7 @@ public class JanusGraphDao {
 
         JanusGraphOperationStatus result = createEdge(fromVertex, toVertex, newLabel, prevEdge);
         if (result == JanusGraphOperationStatus.OK) {
+            trackChange(prevEdge);
             prevEdge.remove();
         }
         return result;
@@ -1021,6 +1150,7 @@ public class JanusGraphDao {
                     jsonMetadataMap.put(property.getKey().getProperty(), property.getValue());
                 }
                 vertex.property(GraphPropertyEnum.METADATA.getProperty(), JsonParserUtils.toJson(jsonMetadataMap));
+                trackChange(vertex);
             }
         } catch (Exception e) {
             CommonUtility.addRecordToLog(logger, LogLevelEnum.DEBUG, "Exception occurred during update vertex metadata properties with json{}. {}", vertex.property(GraphPropertyEnum.UNIQUE_ID.getProperty()), e.getMessage());
@@ -1044,6 +1174,7 @@ public class JanusGraphDao {
                     secondVertex = edge.inVertex();
                     reverseDirection = Direction.IN;
                 }
+                trackChange(edge);
                 edge.remove();
                 CommonUtility.addRecordToLog(logger, LogLevelEnum.TRACE, "Edge  {} with direction {} was removed from {}", label.name(), direction, vertex.getVertex());
 
@@ -50,10 +50,18 @@ public class JsonParserUtils {
     }
 
     public static <T> String toJson(T object) throws IOException {
+        if (object instanceof LazyJsonMap) {
+            return ((LazyJsonMap<?>) object).toJson();
+        }
         return mapper.writer()
                      .writeValueAsString(object);
     }
 
+    public static <T> T toObject(String json, Class<T> clazz) throws IOException {
+        return mapper.readerFor(clazz)
+                     .readValue(json);
+    }
+
     public static Map<String, Object> toMap(String json) {
         if (Strings.isNullOrEmpty(json)) {
             return null;
@@ -89,6 +97,25 @@ public class JsonParserUtils {
         }
         return object;
     }
+
+    /**
+     * Same as {@link #toMap(String, Class)}, except that the values are deserialized only on their first access.
+     *
+     * @see LazyJsonMap
+     */
+    public static <T extends ToscaDataDefinition> Map<String, T> toLazyMap(String json, Class<T> clazz) {
+        if (Strings.isNullOrEmpty(json)) {
+            return null;
+        }
+        try {
+            return new LazyJsonMap<>(json, clazz, mapper);
+        }
+        catch (Exception e) {
+            log.debug("Failed to parse json {} to map", json, e);
+        }
+        return null;
+    }
+
     public static <T> List<T> toList(String json, Class<T> clazz) {
         if (Strings.isNullOrEmpty(json)) {
             return null;
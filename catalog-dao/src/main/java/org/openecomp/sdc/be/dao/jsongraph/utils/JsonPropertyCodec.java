@@ -0,0 +1,137 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.jsongraph.utils;
+
+import org.openecomp.sdc.be.config.Configuration;
+import org.openecomp.sdc.be.config.Configuration.JanusGraphJsonCompressionConfig;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Encodes the json property of the graph vertices.
+ * <p>
+ * A json property is stored either as plain json or, when the compression is enabled and the json is large enough,
+ * as {@value #DEFLATE_V1_MARKER} followed by the base64 of the deflated json. The marker can't start a json document,
+ * so plain json properties written before the compression was enabled are read as they are.
+ */
+public final class JsonPropertyCodec {
+
+    static final String DEFLATE_V1_MARKER = "~deflate1~";
+
+    private JsonPropertyCodec() {
+        // No instances allowed
+    }
+
+    /**
+     * Encodes the json according to the janusGraphJsonCompression configuration.
+     */
+    public static String encode(String json) throws IOException {
+        JanusGraphJsonCompressionConfig compressionConfig = getCompressionConfig();
+        if (compressionConfig == null || !compressionConfig.isEnabled()) {
+            return json;
+        }
+        return encode(json, compressionConfig.getMinSizeBytes());
+    }
+
+    /**
+     * Compresses the json if it is at least minSizeBytes long.
+     */
+    public static String encode(String json, int minSizeBytes) throws IOException {
+        if (json == null || isEncoded(json)) {
+            return json;
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < minSizeBytes) {
+            return json;
+        }
+        return DEFLATE_V1_MARKER + Base64.getEncoder().encodeToString(deflate(bytes));
+    }
+
+    /**
+     * @return the json of a stored json property, whether it was compressed or not
+     */
+    public static String decode(String value) throws IOException {
+        if (!isEncoded(value)) {
+            return value;
+        }
+        byte[] deflated;
+        try {
+            deflated = Base64.getDecoder().decode(value.substring(DEFLATE_V1_MARKER.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid compressed json property", e);
+        }
+        return new String(inflate(deflated), StandardCharsets.UTF_8);
+    }
+
+    public static boolean isEncoded(String value) {
+        return value != null && value.startsWith(DEFLATE_V1_MARKER);
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Truncated compressed json property");
+                }
+                out.write(buffer, 0, inflated);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("Invalid compressed json property", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static JanusGraphJsonCompressionConfig getCompressionConfig() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        Configuration configuration = configurationManager == null ? null : configurationManager.getConfiguration();
+        return configuration == null ? null : configuration.getJanusGraphJsonCompression();
+    }
+}
@@ -0,0 +1,268 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.jsongraph.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openecomp.sdc.be.datatypes.tosca.ToscaDataDefinition;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Map of tosca data definitions backed by the json it was read from.
+ * <p>
+ * Only the top level keys of the json are indexed when the map is created, every value is deserialized on its
+ * first access. {@link #toJson()} returns the original json as long as no value was accessed and the map was not
+ * modified, otherwise the values that were never accessed are written back as they were read. A value which fails to
+ * parse throws a {@link JsonValueParseException} on every access and is kept as it was read, so it is written back
+ * unchanged.
+ */
+public class LazyJsonMap<T extends ToscaDataDefinition> extends AbstractMap<String, T> {
+
+    private static final Logger log = Logger.getLogger(LazyJsonMap.class.getName());
+
+    private final String json;
+    private final ObjectMapper mapper;
+    private final ObjectReader valueReader;
+    /**
+     * Values by key, a value not accessed yet is kept as its {@link RawValue}.
+     */
+    private final Map<String, Object> entries = new LinkedHashMap<>();
+    private boolean changed = false;
+    private final EntrySet entrySet = new EntrySet();
+
+    LazyJsonMap(String json, Class<T> valueClass, ObjectMapper mapper) throws IOException {
+        this.json = json;
+        this.mapper = mapper;
+        this.valueReader = mapper.readerFor(valueClass);
+        index();
+    }
+
+    private void index() throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Json is not an object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                int start = (int) parser.getTokenLocation().getCharOffset();
+                if (valueToken.isStructStart()) {
+                    parser.skipChildren();
+                } else {
+                    // makes sure the whole scalar value was read
+                    parser.getText();
+                }
+                int end = (int) parser.getCurrentLocation().getCharOffset();
+                entries.put(key, new RawValue(json.substring(start, end)));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T materialize(Map.Entry<String, Object> entry) {
+        Object value = entry.getValue();
+        if (value instanceof RawValue) {
+            T parsed = parse(entry.getKey(), (RawValue) value);
+            entry.setValue(parsed);
+            changed = true;
+            return parsed;
+        }
+        return (T) value;
+    }
+
+    private T parse(String key, RawValue value) {
+        try {
+            return valueReader.readValue(value.json);
+        } catch (IOException e) {
+            log.debug("Failed to parse the value of {} from json {}", key, value.json, e);
+            throw new JsonValueParseException("Failed to parse the value of " + key, e);
+        }
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(Object key) {
+        Object value = entries.get(key);
+        if (value instanceof RawValue) {
+            T parsed = parse((String) key, (RawValue) value);
+            entries.put((String) key, parsed);
+            changed = true;
+            return parsed;
+        }
+        return (T) value;
+    }
+
+    @Override
+    public T put(String key, T value) {
+        T previous = get(key);
+        entries.put(key, value);
+        changed = true;
+        return previous;
+    }
+
+    @Override
+    public T remove(Object key) {
+        if (!entries.containsKey(key)) {
+            return null;
+        }
+        T previous = get(key);
+        entries.remove(key);
+        changed = true;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        changed = true;
+    }
+
+    @Override
+    public Set<Entry<String, T>> entrySet() {
+        return entrySet;
+    }
+
+    /**
+     * @return the json of this map, without serializing the values that were never accessed
+     */
+    public String toJson() throws IOException {
+        if (!changed) {
+            return json;
+        }
+        StringWriter writer = new StringWriter(json.length());
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+            generator.writeStartObject();
+            for (Map.Entry<String, Object> entry : entries.entrySet()) {
+                generator.writeFieldName(entry.getKey());
+                if (entry.getValue() instanceof RawValue) {
+                    generator.writeRawValue(((RawValue) entry.getValue()).json);
+                } else {
+                    generator.writeRawValue(mapper.writeValueAsString(entry.getValue()));
+                }
+            }
+            generator.writeEndObject();
+        }
+        return writer.toString();
+    }
+
+    private static final class RawValue {
+
+        private final String json;
+
+        private RawValue(String json) {
+            this.json = json;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, T>> {
+
+        @Override
+        public Iterator<Entry<String, T>> iterator() {
+            Iterator<Map.Entry<String, Object>> iterator = entries.entrySet().iterator();
+            return new Iterator<Entry<String, T>>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Entry<String, T> next() {
+                    return new LazyEntry(iterator.next());
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    changed = true;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+    }
+
+    private final class LazyEntry implements Entry<String, T> {
+
+        private final Map.Entry<String, Object> entry;
+
+        private LazyEntry(Map.Entry<String, Object> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public String getKey() {
+            return entry.getKey();
+        }
+
+        @Override
+        public T getValue() {
+            return materialize(entry);
+        }
+
+        @Override
+        public T setValue(T value) {
+            T previous = materialize(entry);
+            entry.setValue(value);
+            changed = true;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return Objects.equals(getKey(), other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+    }
+}
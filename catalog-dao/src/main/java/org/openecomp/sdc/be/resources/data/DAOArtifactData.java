@@ -54,6 +54,13 @@ public class DAOArtifactData {
 	@Column
 	private ByteBuffer data;
 
+	/*
+	 * SHA-256 of the payload stored in the artifact_payloads table, set instead of data for deduplicated artifacts
+	 */
+	@Column(name = "payload_hash")
+	@Setter
+	private String payloadHash;
+
 
 	public DAOArtifactData(String id) {
 
@@ -0,0 +1,99 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.resources.data;
+
+import com.datastax.driver.core.utils.Bytes;
+import com.datastax.driver.mapping.annotations.Column;
+import com.datastax.driver.mapping.annotations.PartitionKey;
+import com.datastax.driver.mapping.annotations.Table;
+import com.datastax.driver.mapping.annotations.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An artifact payload shared by all the artifacts having the same content. Large payloads are split into chunks
+ * stored in the artifact_payload_chunks table, one partition per chunk.
+ */
+@Getter
+@NoArgsConstructor
+@Table(keyspace = "sdcartifact", name = "artifact_payloads")
+public class DAOArtifactPayloadData {
+
+	@PartitionKey
+	@Column(name = "hash")
+	@Setter
+	private String hash;
+
+	/*
+	 * The payload itself, null when the payload is split into chunks
+	 */
+	@Column
+	private ByteBuffer data;
+
+	/*
+	 * Base64 encoded MD5 of the payload
+	 */
+	@Column
+	@Setter
+	private String checksum;
+
+	@Column(name = "payload_size")
+	@Setter
+	private Long size;
+
+	@Column(name = "chunk_size")
+	@Setter
+	private Integer chunkSize;
+
+	@Column(name = "chunk_count")
+	@Setter
+	private Integer chunkCount;
+
+	public DAOArtifactPayloadData(String hash, byte[] data) {
+		this.hash = hash;
+		if (data != null) {
+			this.data = ByteBuffer.wrap(data);
+			this.size = (long) data.length;
+		}
+	}
+
+	@Transient
+	public boolean isChunked() {
+		return chunkCount != null && chunkCount > 0;
+	}
+
+	@Transient
+	public byte[] getDataAsArray() {
+		if (data != null) {
+			return Bytes.getArray(data);
+		}
+		return null;
+	}
+
+	public void setData(ByteBuffer data) {
+		if (data != null) {
+			this.data = data.duplicate();
+		}
+	}
+}
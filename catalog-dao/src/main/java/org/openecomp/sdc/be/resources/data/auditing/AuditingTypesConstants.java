@@ -50,5 +50,7 @@ public interface AuditingTypesConstants {
     String EXTERNAL_API_EVENT_TYPE = "externalapievent";
     String ENVIRONMENT_ENGINE_EVENT_TYPE = "environmentengineevent";
     String FEATURE_TOGGLE_STATE = "featuretogglestate";
+    String COMPONENT_LOCK = "component_locks";
+    String CATALOG_VERSION = "catalog_version";
 
 }
@@ -24,17 +24,30 @@ import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.mapping.MappingManager;
+import com.google.common.cache.CacheBuilder;
 import fj.data.Either;
+import mockit.Deencapsulation;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.openecomp.sdc.be.resources.data.DAOArtifactData;
+import org.openecomp.sdc.be.resources.data.DAOArtifactPayloadData;
 import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
 
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+
 public class ArtifactCassandraDaoTest {
 
 	@InjectMocks
@@ -80,6 +93,8 @@ public class ArtifactCassandraDaoTest {
 	public void testGetArtifact() throws Exception {
 		String artifactId = "";
 		Either<DAOArtifactData, CassandraOperationStatus> result;
+		Mockito.when(client.getById(artifactId, DAOArtifactData.class, null))
+				.thenReturn(Either.right(CassandraOperationStatus.CLUSTER_NOT_CONNECTED));
 
 		// default test
 		result = testSubject.getArtifact(artifactId);
@@ -142,4 +157,195 @@ public class ArtifactCassandraDaoTest {
 		// default test
 		result = testSubject.getCountOfArtifactById(uniqeId);
 	}
+
+	@Test
+	public void testGetExistingArtifactIdsReturnsGeneralErrorOnDriverFailure() throws Exception {
+		Mockito.when(client.isConnected()).thenReturn(true);
+		Mockito.when(client.connect(AuditingTypesConstants.ARTIFACT_KEYSPACE)).thenReturn(Either.left(ImmutablePair.of(null,mappingManager)));
+		Mockito.when(mappingManager.createAccessor(ArtifactAccessor.class)).thenReturn(artifactAccessor);
+		Mockito.when(artifactAccessor.getExistingArtifactIds(Mockito.anyList())).thenThrow(new RuntimeException("mock"));
+		testSubject.init();
+
+		Either<Set<String>, CassandraOperationStatus> result = testSubject.getExistingArtifactIds(Arrays.asList("a", "b"));
+
+		Assert.assertTrue(result.isRight());
+		Assert.assertEquals(CassandraOperationStatus.GENERAL_ERROR, result.right().value());
+	}
+
+	@Test
+	public void testSaveArtifactReferencesSharedPayload() throws Exception {
+		initWithPayloadDeduplication();
+		byte[] payload = "heat_template_version: 2013-05-23".getBytes();
+		String hash = DigestUtils.sha256Hex(payload);
+		ResultSet noHash = mockResultSet(null);
+		Mockito.when(artifactAccessor.getPayloadHashById(Mockito.anyString())).thenReturn(noHash);
+		Mockito.when(client.save(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(CassandraOperationStatus.OK);
+
+		Assert.assertEquals(CassandraOperationStatus.OK, testSubject.saveArtifact(new DAOArtifactData("id1", payload)));
+		Assert.assertEquals(CassandraOperationStatus.OK, testSubject.saveArtifact(new DAOArtifactData("id2", payload)));
+
+		// the payload is written again even though it is stored, as another backend may have deleted it
+		ArgumentCaptor<DAOArtifactPayloadData> payloadRows = ArgumentCaptor.forClass(DAOArtifactPayloadData.class);
+		Mockito.verify(client, Mockito.times(2)).save(payloadRows.capture(),
+				Mockito.eq(DAOArtifactPayloadData.class), Mockito.eq(mappingManager));
+		for (DAOArtifactPayloadData payloadRow : payloadRows.getAllValues()) {
+			Assert.assertEquals(hash, payloadRow.getHash());
+		}
+		ArgumentCaptor<DAOArtifactData> artifactRows = ArgumentCaptor.forClass(DAOArtifactData.class);
+		Mockito.verify(client, Mockito.times(2)).save(artifactRows.capture(), Mockito.eq(DAOArtifactData.class),
+				Mockito.eq(mappingManager));
+		for (DAOArtifactData artifactRow : artifactRows.getAllValues()) {
+			Assert.assertEquals(hash, artifactRow.getPayloadHash());
+			Assert.assertNull(artifactRow.getData());
+		}
+		Mockito.verify(artifactAccessor).addPayloadReference(hash, "id1");
+		Mockito.verify(artifactAccessor).addPayloadReference(hash, "id2");
+	}
+
+	@Test
+	public void testGetArtifactResolvesSharedPayload() throws Exception {
+		initWithPayloadDeduplication();
+		Deencapsulation.setField(testSubject, "payloadCache", CacheBuilder.newBuilder().maximumSize(10).build());
+		byte[] payload = "payload".getBytes();
+		DAOArtifactData artifactRow = new DAOArtifactData("id");
+		artifactRow.setPayloadHash("hash");
+		Mockito.when(client.getById("id", DAOArtifactData.class, mappingManager)).thenReturn(Either.left(artifactRow));
+		Mockito.when(client.getById("hash", DAOArtifactPayloadData.class, mappingManager))
+				.thenReturn(Either.left(new DAOArtifactPayloadData("hash", payload)));
+
+		Assert.assertArrayEquals(payload, testSubject.getArtifact("id").left().value().getDataAsArray());
+		Assert.assertArrayEquals(payload, testSubject.getArtifact("id").left().value().getDataAsArray());
+		Mockito.verify(client, Mockito.times(1)).getById("hash", DAOArtifactPayloadData.class, mappingManager);
+	}
+
+	@Test
+	public void testDeleteArtifactDeletesUnreferencedPayload() throws Exception {
+		initWithPayloadDeduplication();
+		ResultSet hash = mockResultSet("hash");
+		Mockito.when(artifactAccessor.getPayloadHashById("id")).thenReturn(hash);
+		ResultSet noReferences = mockCount(0L);
+		Mockito.when(artifactAccessor.getNumOfPayloadReferences("hash")).thenReturn(noReferences);
+		Mockito.when(client.delete(Mockito.anyString(), Mockito.any(), Mockito.any())).thenReturn(CassandraOperationStatus.OK);
+
+		Assert.assertEquals(CassandraOperationStatus.OK, testSubject.deleteArtifact("id"));
+		Mockito.verify(artifactAccessor).removePayloadReference("hash", "id");
+		Mockito.verify(client).delete("hash", DAOArtifactPayloadData.class, mappingManager);
+	}
+
+	@Test
+	public void testSaveArtifactSplitsLargePayloadInChunks() throws Exception {
+		initWithPayloadDeduplication();
+		Deencapsulation.setField(testSubject, "chunkSize", 4);
+		byte[] payload = "0123456789".getBytes();
+		String hash = DigestUtils.sha256Hex(payload);
+		ResultSet noHash = mockResultSet(null);
+		Mockito.when(artifactAccessor.getPayloadHashById(Mockito.anyString())).thenReturn(noHash);
+		Mockito.when(client.save(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(CassandraOperationStatus.OK);
+
+		Assert.assertEquals(CassandraOperationStatus.OK, testSubject.saveArtifact(new DAOArtifactData("id", payload)));
+
+		ArgumentCaptor<ByteBuffer> chunks = ArgumentCaptor.forClass(ByteBuffer.class);
+		Mockito.verify(artifactAccessor, Mockito.times(3)).savePayloadChunk(Mockito.eq(hash), Mockito.anyInt(), chunks.capture());
+		Assert.assertEquals(2, chunks.getAllValues().get(2).remaining());
+		ArgumentCaptor<DAOArtifactPayloadData> payloadRow = ArgumentCaptor.forClass(DAOArtifactPayloadData.class);
+		Mockito.verify(client).save(payloadRow.capture(), Mockito.eq(DAOArtifactPayloadData.class), Mockito.eq(mappingManager));
+		Assert.assertNull(payloadRow.getValue().getData());
+		Assert.assertEquals(Integer.valueOf(3), payloadRow.getValue().getChunkCount());
+		Assert.assertEquals(Long.valueOf(10), payloadRow.getValue().getSize());
+	}
+
+	@Test
+	public void testGetArtifactStreamReadsOnlyRequestedChunks() throws Exception {
+		initWithPayloadDeduplication();
+		DAOArtifactData artifactRow = new DAOArtifactData("id");
+		artifactRow.setPayloadHash("hash");
+		DAOArtifactPayloadData payloadRow = new DAOArtifactPayloadData("hash", null);
+		payloadRow.setSize(10L);
+		payloadRow.setChunkSize(4);
+		payloadRow.setChunkCount(3);
+		payloadRow.setChecksum("checksum");
+		Mockito.when(client.getById("id", DAOArtifactData.class, mappingManager)).thenReturn(Either.left(artifactRow));
+		Mockito.when(client.getById("hash", DAOArtifactPayloadData.class, mappingManager)).thenReturn(Either.left(payloadRow));
+		ResultSet chunk1 = mockChunk("4567");
+		ResultSet chunk2 = mockChunk("89");
+		Mockito.when(artifactAccessor.getPayloadChunk("hash", 1)).thenReturn(chunk1);
+		Mockito.when(artifactAccessor.getPayloadChunk("hash", 2)).thenReturn(chunk2);
+
+		ArtifactPayloadStream payload = testSubject.getArtifactStream("id").left().value();
+		Assert.assertEquals(10, payload.getSize());
+		Assert.assertEquals("checksum", payload.getChecksum());
+		try (InputStream range = payload.openStream(5, 4)) {
+			ByteArrayOutputStream read = new ByteArrayOutputStream();
+			for (int b = range.read(); b != -1; b = range.read()) {
+				read.write(b);
+			}
+			Assert.assertEquals("5678", read.toString(StandardCharsets.UTF_8.name()));
+		}
+		Mockito.verify(artifactAccessor, Mockito.never()).getPayloadChunk("hash", 0);
+	}
+
+	@Test
+	public void testDeleteArtifactReleasesSharedPayloadWithoutDeduplication() throws Exception {
+		Mockito.when(client.isConnected()).thenReturn(true);
+		Mockito.when(client.connect(AuditingTypesConstants.ARTIFACT_KEYSPACE)).thenReturn(Either.left(ImmutablePair.of(null,mappingManager)));
+		Mockito.when(mappingManager.createAccessor(ArtifactAccessor.class)).thenReturn(artifactAccessor);
+		ResultSet reference = mockResultSet("hash");
+		Mockito.when(artifactAccessor.getAnyPayloadReference()).thenReturn(reference);
+		testSubject.init();
+		ResultSet hash = mockResultSet("hash");
+		Mockito.when(artifactAccessor.getPayloadHashById("id")).thenReturn(hash);
+		ResultSet noReferences = mockCount(0L);
+		Mockito.when(artifactAccessor.getNumOfPayloadReferences("hash")).thenReturn(noReferences);
+		Mockito.when(client.delete(Mockito.anyString(), Mockito.any(), Mockito.any())).thenReturn(CassandraOperationStatus.OK);
+
+		Assert.assertEquals(CassandraOperationStatus.OK, testSubject.deleteArtifact("id"));
+		Mockito.verify(artifactAccessor).removePayloadReference("hash", "id");
+		Mockito.verify(client).delete("hash", DAOArtifactPayloadData.class, mappingManager);
+	}
+
+	@Test
+	public void testSaveArtifactWithoutDeduplicationOrSharedPayloadsDoesNotReadThePayloadHash() throws Exception {
+		Mockito.when(client.isConnected()).thenReturn(true);
+		Mockito.when(client.connect(AuditingTypesConstants.ARTIFACT_KEYSPACE)).thenReturn(Either.left(ImmutablePair.of(null,mappingManager)));
+		Mockito.when(mappingManager.createAccessor(ArtifactAccessor.class)).thenReturn(artifactAccessor);
+		ResultSet noReference = mockResultSet(null);
+		Mockito.when(artifactAccessor.getAnyPayloadReference()).thenReturn(noReference);
+		testSubject.init();
+		Mockito.when(client.save(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(CassandraOperationStatus.OK);
+
+		Assert.assertEquals(CassandraOperationStatus.OK, testSubject.saveArtifact(new DAOArtifactData("id", "payload".getBytes())));
+		Mockito.verify(artifactAccessor, Mockito.never()).getPayloadHashById(Mockito.anyString());
+	}
+
+	private void initWithPayloadDeduplication() {
+		Mockito.when(client.isConnected()).thenReturn(true);
+		Mockito.when(client.connect(AuditingTypesConstants.ARTIFACT_KEYSPACE)).thenReturn(Either.left(ImmutablePair.of(null,mappingManager)));
+		Mockito.when(mappingManager.createAccessor(ArtifactAccessor.class)).thenReturn(artifactAccessor);
+		testSubject.init();
+		Deencapsulation.setField(testSubject, "payloadDeduplication", true);
+	}
+
+	private ResultSet mockResultSet(String value) {
+		ResultSet resultSet = Mockito.mock(ResultSet.class);
+		Row row = Mockito.mock(Row.class);
+		Mockito.when(row.getString(0)).thenReturn(value);
+		Mockito.when(resultSet.one()).thenReturn(value == null ? null : row);
+		return resultSet;
+	}
+
+	private ResultSet mockChunk(String data) {
+		ResultSet resultSet = Mockito.mock(ResultSet.class);
+		Row row = Mockito.mock(Row.class);
+		Mockito.when(row.getBytes(0)).thenReturn(ByteBuffer.wrap(data.getBytes()));
+		Mockito.when(resultSet.one()).thenReturn(row);
+		return resultSet;
+	}
+
+	private ResultSet mockCount(long count) {
+		ResultSet resultSet = Mockito.mock(ResultSet.class);
+		Row row = Mockito.mock(Row.class);
+		Mockito.when(row.getLong(0)).thenReturn(count);
+		Mockito.when(resultSet.one()).thenReturn(row);
+		return resultSet;
+	}
 }
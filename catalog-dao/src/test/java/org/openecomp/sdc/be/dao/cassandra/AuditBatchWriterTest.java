@@ -0,0 +1,211 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra;
+
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.mapping.Mapper;
+import com.datastax.driver.mapping.MappingManager;
+import mockit.Deencapsulation;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.openecomp.sdc.be.config.Configuration.AuditWriterConfig;
+import org.openecomp.sdc.be.config.Configuration.AuditWriterConfig.OverflowPolicy;
+import org.openecomp.sdc.be.resources.data.auditing.DistributionStatusEvent;
+import org.openecomp.sdc.be.resources.data.auditing.ResourceAdminEvent;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AuditBatchWriterTest {
+
+	@Rule
+	public TemporaryFolder spillFolder = new TemporaryFolder();
+
+	@Mock
+	Session session;
+
+	@Mock
+	MappingManager manager;
+
+	@Mock
+	Mapper<Object> mapper;
+
+	@Mock
+	ResultSetFuture resultSetFuture;
+
+	private AuditWriterConfig config;
+
+	@Before
+	public void setUp() throws Exception {
+		MockitoAnnotations.initMocks(this);
+		Mockito.doReturn(mapper).when(manager).mapper(Mockito.any());
+		Mockito.when(mapper.saveQuery(Mockito.any())).thenReturn(new SimpleStatement("INSERT"));
+		Mockito.when(session.executeAsync(Mockito.any(SimpleStatement.class))).thenReturn(resultSetFuture);
+		config = new AuditWriterConfig();
+		config.setAsync(true);
+		config.setSpillDirectory(spillFolder.getRoot().getAbsolutePath());
+	}
+
+	@Test
+	public void testEventsAreWrittenWithIndividualAsyncWrites() throws Exception {
+		AuditBatchWriter testSubject = new AuditBatchWriter(session, manager, config);
+		assertEquals(CassandraOperationStatus.OK, testSubject.submit(new DistributionStatusEvent()));
+		assertEquals(CassandraOperationStatus.OK, testSubject.submit(new ResourceAdminEvent()));
+		assertEquals(CassandraOperationStatus.OK, testSubject.submit(new DistributionStatusEvent()));
+
+		testSubject.start();
+		testSubject.shutdown();
+
+		Mockito.verify(session, Mockito.times(3)).executeAsync(Mockito.any(SimpleStatement.class));
+		Mockito.verify(resultSetFuture, Mockito.times(3)).getUninterruptibly();
+		Mockito.verify(mapper, Mockito.never()).save(Mockito.any());
+		assertEquals(3, testSubject.getWrittenEvents());
+		assertEquals(0, testSubject.getQueueDepth());
+	}
+
+	@Test
+	public void testFailedWriteIsWrittenAgain() throws Exception {
+		Mockito.when(resultSetFuture.getUninterruptibly()).thenThrow(new RuntimeException("timeout"));
+		AuditBatchWriter testSubject = new AuditBatchWriter(session, manager, config);
+		DistributionStatusEvent event = new DistributionStatusEvent();
+		testSubject.submit(event);
+
+		testSubject.start();
+		testSubject.shutdown();
+
+		Mockito.verify(mapper).save(event);
+		assertEquals(0, testSubject.getFailedEvents());
+		assertEquals(1, testSubject.getWrittenEvents());
+	}
+
+	@Test
+	public void testEventIsCountedAsFailedOnlyWhenWritingItAgainFails() throws Exception {
+		Mockito.when(session.executeAsync(Mockito.any(SimpleStatement.class))).thenThrow(new RuntimeException("unavailable"));
+		Mockito.doThrow(new RuntimeException("unavailable")).when(mapper).save(Mockito.any());
+		AuditBatchWriter testSubject = new AuditBatchWriter(session, manager, config);
+		testSubject.submit(new DistributionStatusEvent());
+
+		testSubject.start();
+		testSubject.shutdown();
+
+		assertEquals(1, testSubject.getFailedEvents());
+		assertEquals(0, testSubject.getWrittenEvents());
+	}
+
+	@Test
+	public void testDropPolicyWhenQueueIsFull() throws Exception {
+		config.setQueueSize(1);
+		config.setOverflowPolicy(OverflowPolicy.DROP);
+		AuditBatchWriter testSubject = new AuditBatchWriter(session, manager, config);
+
+		assertEquals(CassandraOperationStatus.OK, testSubject.submit(new DistributionStatusEvent()));
+		assertEquals(CassandraOperationStatus.GENERAL_ERROR, testSubject.submit(new DistributionStatusEvent()));
+		assertEquals(1, testSubject.getDroppedEvents());
+		assertEquals(1, testSubject.getQueueDepth());
+	}
+
+	@Test
+	public void testBlockPolicyWritesOnCallerWhenQueueStaysFull() throws Exception {
+		config.setQueueSize(1);
+		config.setOverflowPolicy(OverflowPolicy.BLOCK);
+		config.setBlockTimeoutMs(10);
+		AuditBatchWriter testSubject = new AuditBatchWriter(session, manager, config);
+		DistributionStatusEvent event = new DistributionStatusEvent();
+
+		testSubject.submit(new DistributionStatusEvent());
+		assertEquals(CassandraOperationStatus.OK, testSubject.submit(event));
+		Mockito.verify(mapper).save(event);
+		assertEquals(1, testSubject.getWrittenEvents());
+	}
+
+	@Test
+	public void testSpillPolicyWritesEventToFile() throws Exception {
+		config.setQueueSize(1);
+		config.setOverflowPolicy(OverflowPolicy.SPILL);
+		AuditBatchWriter testSubject = new AuditBatchWriter(session, manager, config);
+		DistributionStatusEvent event = new DistributionStatusEvent();
+		event.setDid("did");
+
+		testSubject.submit(new DistributionStatusEvent());
+		assertEquals(CassandraOperationStatus.OK, testSubject.submit(event));
+
+		File spillFile = new File(spillFolder.getRoot(), "sdc-audit-spill.log");
+		List<String> lines = Files.readAllLines(spillFile.toPath());
+		assertEquals(1, lines.size());
+		assertTrue(lines.get(0).startsWith(DistributionStatusEvent.class.getName()));
+		assertTrue(lines.get(0).contains("\"did\""));
+		assertEquals(1, testSubject.getSpilledEvents());
+	}
+
+	@Test
+	public void testSpillFileIsReadableByOwnerOnly() throws Exception {
+		Assume.assumeTrue(spillFolder.getRoot().toPath().getFileSystem().supportedFileAttributeViews().contains("posix"));
+		config.setQueueSize(1);
+		config.setOverflowPolicy(OverflowPolicy.SPILL);
+		AuditBatchWriter testSubject = new AuditBatchWriter(session, manager, config);
+
+		testSubject.submit(new DistributionStatusEvent());
+		testSubject.submit(new DistributionStatusEvent());
+
+		File spillFile = new File(spillFolder.getRoot(), "sdc-audit-spill.log");
+		assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(spillFile.toPath())));
+	}
+
+	@Test
+	public void testSpillPolicyDropsEventWhenDirectoryIsWritableByOthers() throws Exception {
+		Assume.assumeTrue(spillFolder.getRoot().toPath().getFileSystem().supportedFileAttributeViews().contains("posix"));
+		Files.setPosixFilePermissions(spillFolder.getRoot().toPath(), PosixFilePermissions.fromString("rwxrwxrwx"));
+		config.setQueueSize(1);
+		config.setOverflowPolicy(OverflowPolicy.SPILL);
+		AuditBatchWriter testSubject = new AuditBatchWriter(session, manager, config);
+
+		testSubject.submit(new DistributionStatusEvent());
+		assertEquals(CassandraOperationStatus.GENERAL_ERROR, testSubject.submit(new DistributionStatusEvent()));
+		assertEquals(1, testSubject.getDroppedEvents());
+		assertTrue(!new File(spillFolder.getRoot(), "sdc-audit-spill.log").exists());
+	}
+
+	@Test
+	public void testReplayOnlyReadsKnownAuditEventClasses() throws Exception {
+		config.setOverflowPolicy(OverflowPolicy.SPILL);
+		AuditBatchWriter testSubject = new AuditBatchWriter(session, manager, config);
+
+		Object event = Deencapsulation.invoke(testSubject, "fromSpillLine",
+				DistributionStatusEvent.class.getName() + "\t{\"did\":\"did\"}");
+		assertTrue(event instanceof DistributionStatusEvent);
+		assertEquals("did", ((DistributionStatusEvent) event).getDid());
+		assertNull(Deencapsulation.invoke(testSubject, "fromSpillLine", File.class.getName() + "\t{}"));
+	}
+}
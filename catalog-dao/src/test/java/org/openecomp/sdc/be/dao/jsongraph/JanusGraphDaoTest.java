@@ -42,10 +42,14 @@ import org.openecomp.sdc.be.utils.DAOConfDependentTest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 public class JanusGraphDaoTest extends DAOConfDependentTest{
 	
 	
@@ -272,6 +276,46 @@ public class JanusGraphDaoTest extends DAOConfDependentTest{
 		result = dao.getChildrenVertices(parentVertex, edgeLabel, parseFlag);
 	}
 
+	@Test
+	public void testGetChildrenVerticesByLabels() throws Exception {
+		GraphVertex parentVertex = createVertex(VertexTypeEnum.TOPOLOGY_TEMPLATE, "parent");
+		GraphVertex propertiesVertex = createVertex(VertexTypeEnum.PROPERTIES, "properties");
+		GraphVertex inputsVertex = createVertex(VertexTypeEnum.INPUTS, "inputs");
+		dao.createEdge(parentVertex, propertiesVertex, EdgeLabelEnum.PROPERTIES, null);
+		dao.createEdge(parentVertex, inputsVertex, EdgeLabelEnum.INPUTS, null);
+
+		Either<Map<EdgeLabelEnum, List<GraphVertex>>, JanusGraphOperationStatus> result = dao.getChildrenVertices(parentVertex,
+				EnumSet.of(EdgeLabelEnum.PROPERTIES, EdgeLabelEnum.INPUTS, EdgeLabelEnum.GROUPS), JsonParseFlagEnum.ParseAll);
+
+		assertTrue(result.isLeft());
+		assertEquals("properties", result.left().value().get(EdgeLabelEnum.PROPERTIES).get(0).getUniqueId());
+		assertEquals("inputs", result.left().value().get(EdgeLabelEnum.INPUTS).get(0).getUniqueId());
+		assertTrue(result.left().value().get(EdgeLabelEnum.GROUPS).isEmpty());
+	}
+
+	@Test
+	public void testPrefetchedChildrenAreServedOnce() throws Exception {
+		GraphVertex parentVertex = createVertex(VertexTypeEnum.TOPOLOGY_TEMPLATE, "parent");
+		GraphVertex propertiesVertex = createVertex(VertexTypeEnum.PROPERTIES, "properties");
+		dao.createEdge(parentVertex, propertiesVertex, EdgeLabelEnum.PROPERTIES, null);
+
+		dao.prefetchChildrenVertices(parentVertex, EnumSet.of(EdgeLabelEnum.PROPERTIES, EdgeLabelEnum.GROUPS), JsonParseFlagEnum.ParseJson);
+
+		List<GraphVertex> prefetched = parentVertex.takePrefetchedChildren(EdgeLabelEnum.PROPERTIES, JsonParseFlagEnum.ParseJson);
+		assertEquals(1, prefetched.size());
+		assertEquals(null, parentVertex.takePrefetchedChildren(EdgeLabelEnum.PROPERTIES, JsonParseFlagEnum.ParseJson));
+		assertEquals(JanusGraphOperationStatus.NOT_FOUND,
+				dao.getChildVertex(parentVertex, EdgeLabelEnum.GROUPS, JsonParseFlagEnum.ParseJson).right().value());
+		assertEquals("properties", dao.getChildVertex(parentVertex, EdgeLabelEnum.PROPERTIES, JsonParseFlagEnum.ParseJson)
+				.left().value().getUniqueId());
+	}
+
+	private GraphVertex createVertex(VertexTypeEnum label, String uniqueId) {
+		GraphVertex graphVertex = new GraphVertex(label);
+		graphVertex.setUniqueId(uniqueId);
+		return dao.createVertex(graphVertex).left().value();
+	}
+
 	@Test
 	public void testUpdateVertexMetadataPropertiesWithJson() throws Exception {
 		
@@ -0,0 +1,71 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.jsongraph.utils;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class JsonPropertyCodecTest {
+
+	private static final String JSON = "{\"prop1\":{\"name\":\"prop1\",\"type\":\"string\",\"description\":\"été\"}}";
+
+	@Test
+	public void testCompressedJsonIsDecoded() throws Exception {
+		String encoded = JsonPropertyCodec.encode(JSON, 0);
+
+		assertTrue(JsonPropertyCodec.isEncoded(encoded));
+		assertEquals(JSON, JsonPropertyCodec.decode(encoded));
+	}
+
+	@Test
+	public void testSmallJsonIsNotCompressed() throws Exception {
+		assertSame(JSON, JsonPropertyCodec.encode(JSON, JSON.length() * 2));
+	}
+
+	@Test
+	public void testPlainJsonIsDecodedAsIs() throws Exception {
+		assertFalse(JsonPropertyCodec.isEncoded(JSON));
+		assertSame(JSON, JsonPropertyCodec.decode(JSON));
+	}
+
+	@Test
+	public void testEncodedJsonIsNotEncodedTwice() throws Exception {
+		String encoded = JsonPropertyCodec.encode(JSON, 0);
+		assertSame(encoded, JsonPropertyCodec.encode(encoded, 0));
+	}
+
+	@Test
+	public void testCompressionIsDisabledWithoutConfiguration() throws Exception {
+		assertSame(JSON, JsonPropertyCodec.encode(JSON));
+	}
+
+	@Test(expected = IOException.class)
+	public void testTruncatedCompressedJson() throws Exception {
+		String encoded = JsonPropertyCodec.encode(JSON, 0);
+		JsonPropertyCodec.decode(encoded.substring(0, encoded.length() / 2));
+	}
+}
@@ -0,0 +1,116 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.jsongraph.utils;
+
+import org.junit.Test;
+import org.openecomp.sdc.be.datatypes.elements.PropertyDataDefinition;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class LazyJsonMapTest {
+
+	private static final String JSON = "{\"prop1\":{\"name\":\"prop1\",\"type\":\"string\"},\"prop2\":{\"name\":\"prop2\",\"type\":\"integer\",\"value\":\"5\"}}";
+
+	@Test
+	public void testUnchangedMapReturnsOriginalJson() throws Exception {
+		Map<String, PropertyDataDefinition> map = JsonParserUtils.toLazyMap(JSON, PropertyDataDefinition.class);
+
+		assertEquals(2, map.size());
+		assertTrue(map.containsKey("prop2"));
+		assertSame(JSON, JsonParserUtils.toJson(map));
+	}
+
+	@Test
+	public void testValuesAreParsedOnAccess() throws Exception {
+		Map<String, PropertyDataDefinition> map = JsonParserUtils.toLazyMap(JSON, PropertyDataDefinition.class);
+
+		assertEquals("integer", map.get("prop2").getType());
+		assertEquals("5", map.get("prop2").getValue());
+		assertSame(map.get("prop1"), map.get("prop1"));
+		assertNull(map.get("prop3"));
+	}
+
+	@Test
+	public void testModifiedMapIsSerializedLikeEagerMap() throws Exception {
+		Map<String, PropertyDataDefinition> lazyMap = JsonParserUtils.toLazyMap(JSON, PropertyDataDefinition.class);
+		Map<String, PropertyDataDefinition> eagerMap = JsonParserUtils.toMap(JSON, PropertyDataDefinition.class);
+
+		lazyMap.get("prop1").setValue("changed");
+		eagerMap.get("prop1").setValue("changed");
+		PropertyDataDefinition prop3 = new PropertyDataDefinition();
+		prop3.setName("prop3");
+		lazyMap.put("prop3", prop3);
+		eagerMap.put("prop3", prop3);
+		lazyMap.remove("prop2");
+		eagerMap.remove("prop2");
+
+		String lazyJson = JsonParserUtils.toJson(lazyMap);
+		assertEquals(JsonParserUtils.toJson(eagerMap), lazyJson);
+		assertEquals(eagerMap, JsonParserUtils.toMap(lazyJson, PropertyDataDefinition.class));
+	}
+
+	@Test
+	public void testUntouchedEntriesAreWrittenBackAsRead() throws Exception {
+		Map<String, PropertyDataDefinition> map = JsonParserUtils.toLazyMap(JSON, PropertyDataDefinition.class);
+		map.get("prop1").setValue("changed");
+
+		Map<String, PropertyDataDefinition> reread = JsonParserUtils.toMap(JsonParserUtils.toJson(map), PropertyDataDefinition.class);
+		assertEquals("changed", reread.get("prop1").getValue());
+		assertEquals("5", reread.get("prop2").getValue());
+	}
+
+	@Test
+	public void testEntriesIterationAndCopy() throws Exception {
+		Map<String, PropertyDataDefinition> map = JsonParserUtils.toLazyMap(JSON, PropertyDataDefinition.class);
+
+		Map<String, PropertyDataDefinition> copy = new HashMap<>(map);
+		assertEquals(JsonParserUtils.toMap(JSON, PropertyDataDefinition.class), copy);
+	}
+
+	@Test
+	public void testCorruptValueThrowsAndIsWrittenBackAsRead() throws Exception {
+		String corruptValue = "{\"type\":{\"corrupt\":true}}";
+		Map<String, PropertyDataDefinition> map = JsonParserUtils.toLazyMap(
+				"{\"prop1\":{\"name\":\"prop1\"},\"prop2\":" + corruptValue + "}", PropertyDataDefinition.class);
+		map.get("prop1").setValue("changed");
+
+		try {
+			map.get("prop2");
+			fail("A corrupt value must not be read as null");
+		} catch (JsonValueParseException e) {
+			assertTrue(e.getMessage().contains("prop2"));
+		}
+		assertTrue(JsonParserUtils.toJson(map).contains("\"prop2\":" + corruptValue));
+	}
+
+	@Test
+	public void testInvalidJson() throws Exception {
+		assertNull(JsonParserUtils.toLazyMap("[1, 2]", PropertyDataDefinition.class));
+		assertNull(JsonParserUtils.toLazyMap("", PropertyDataDefinition.class));
+	}
+}
@@ -43,28 +43,36 @@ import org.springframework.stereotype.Component;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Cache of all the data types, refreshed by a polling task.
+ * <p>
+ * The cached data types are held by an immutable snapshot which is replaced as a whole on every change, so readers
+ * never wait for a refresh. A refresh compares the creation and modification times of the data type nodes with the
+ * cached ones and re-fetches only the new or modified data types and the data types derived from them. The polling
+ * task can be triggered right away by {@link #refreshDataTypes()} once data types were imported.
+ */
 @Component("application-datatype-cache")
 public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefinition>, Runnable {
 
     private static final String APPLICATION_DATA_TYPES_CACHE = "ApplicationDataTypesCache";
-	private final ReentrantReadWriteLock rwl = new ReentrantReadWriteLock();
-    private final Lock r = rwl.readLock();
-    private final Lock w = rwl.writeLock();
 
-    private Map<String, DataTypeDefinition> data = new HashMap<>();
+    private volatile DataTypesSnapshot snapshot = DataTypesSnapshot.EMPTY;
 
     private ScheduledExecutorService scheduledPollingService = Executors.newScheduledThreadPool(1,
             new BasicThreadFactory.Builder().namingPattern("ApplicationDataTypeCacheThread-%d").build());
@@ -162,42 +170,34 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
 
     @Override
     public Either<Map<String, DataTypeDefinition>, JanusGraphOperationStatus> getAll() {
-
-        try {
-
-            r.lock();
-            if (data == null || data.isEmpty()) {
-                return getAllDataTypesFromGraph();
-            }
-
-            return Either.left(data);
-
-        } finally {
-            r.unlock();
+        Map<String, DataTypeDefinition> data = snapshot.dataTypesByName;
+        if (data.isEmpty()) {
+            return getAllDataTypesFromGraph();
         }
+        return Either.left(data);
     }
 
     @Override
     public Either<DataTypeDefinition, JanusGraphOperationStatus> get(String uniqueId) {
+        DataTypeDefinition dataTypeDefinition = snapshot.dataTypesByUid.get(uniqueId);
+        if (dataTypeDefinition == null) {
+            return propertyOperation.getDataTypeByUid(uniqueId);
+        }
+        return Either.left(dataTypeDefinition);
+    }
 
+    /**
+     * Refreshes the cache right away instead of waiting for the next polling, to be called once data types were
+     * created or updated. Does nothing if the cache is disabled.
+     */
+    public void refreshDataTypes() {
+        if (scheduledFuture == null) {
+            return;
+        }
         try {
-            r.lock();
-
-            if (data == null || data.isEmpty()) {
-                return propertyOperation
-                        .getDataTypeByUid(uniqueId);
-            } else {
-                DataTypeDefinition dataTypeDefinition = data.values().stream()
-                        .filter(p -> p.getUniqueId().equals(uniqueId)).findFirst().orElse(null);
-                if (dataTypeDefinition == null) {
-                    return propertyOperation
-                            .getDataTypeByUid(uniqueId);
-                } else {
-                    return Either.left(dataTypeDefinition);
-                }
-            }
-        } finally {
-            r.unlock();
+            scheduledPollingService.execute(this);
+        } catch (RejectedExecutionException e) {
+            log.debug("Failed to schedule the refresh of the data types cache", e);
         }
     }
 
@@ -229,23 +229,21 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
                                     p -> new ImmutablePair<>(p.getDataTypeDataDefinition().getCreationTime(),
                                             p.getDataTypeDataDefinition().getModificationTime())));
 
-                    Map<String, ImmutablePair<Long, Long>> currentDataTypeToModificationTime = new HashMap<>();
-                    try {
-                        r.lock();
-                        if (data != null) {
-                            currentDataTypeToModificationTime = data.values().stream().collect(Collectors.toMap(
+                    DataTypesSnapshot currentSnapshot = snapshot;
+                    Map<String, ImmutablePair<Long, Long>> currentDataTypeToModificationTime = currentSnapshot.dataTypesByName
+                            .values().stream().collect(Collectors.toMap(
                                     DataTypeDataDefinition::getName,
                                     p -> new ImmutablePair<>(p.getCreationTime(), p.getModificationTime())));
 
-                        }
-                    } finally {
-                        r.unlock();
-                    }
-
                     boolean isChanged = compareDataTypes(dataTypeNameToModificationTime,
                             currentDataTypeToModificationTime);
                     if (isChanged) {
-                        replaceAllData();
+                        if (currentSnapshot.dataTypesByName.isEmpty()) {
+                            replaceAllData();
+                        } else {
+                            replaceChangedData(currentSnapshot, list, dataTypeNameToModificationTime,
+                                    currentDataTypeToModificationTime);
+                        }
                     }
 
                 }
@@ -306,6 +304,87 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
         return false;
     }
 
+    private static boolean isUpdated(ImmutablePair<Long, Long> creationAndModificationTimes,
+            ImmutablePair<Long, Long> currentEntry) {
+        if (currentEntry == null) {
+            return true;
+        }
+        long creationTime = creationAndModificationTimes.getLeft() == null ? 0 : creationAndModificationTimes.getLeft();
+        long modificationTime = creationAndModificationTimes.getRight() == null ? 0 : creationAndModificationTimes.getRight();
+        long currentCreationTime = currentEntry.getLeft() == null ? 0 : currentEntry.getLeft();
+        long currentModificationTime = currentEntry.getRight() == null ? 0 : currentEntry.getRight();
+        return creationTime > currentCreationTime || modificationTime > currentModificationTime;
+    }
+
+    /**
+     * Re-fetches the new and updated data types, along with the data types derived from them since those hold their
+     * parent definition, and drops the deleted ones. Falls back to a full reload if a data type can't be fetched.
+     */
+    private void replaceChangedData(DataTypesSnapshot currentSnapshot, List<DataTypeData> dataTypeNodes,
+            Map<String, ImmutablePair<Long, Long>> dataTypeNameToModificationTime,
+            Map<String, ImmutablePair<Long, Long>> currentDataTypeToModificationTime) {
+        Map<String, DataTypeDataDefinition> nodesByName = dataTypeNodes.stream().map(DataTypeData::getDataTypeDataDefinition)
+                .collect(Collectors.toMap(DataTypeDataDefinition::getName, Function.identity()));
+
+        Set<String> toFetch = dataTypeNameToModificationTime.entrySet().stream()
+                .filter(entry -> isUpdated(entry.getValue(), currentDataTypeToModificationTime.get(entry.getKey())))
+                .map(Entry::getKey)
+                .collect(Collectors.toSet());
+        addDerivedDataTypes(toFetch, nodesByName);
+
+        Map<String, DataTypeDefinition> newData = new HashMap<>(currentSnapshot.dataTypesByName);
+        newData.keySet().retainAll(nodesByName.keySet());
+        newData.keySet().removeAll(toFetch);
+
+        List<String> fetchOrder = toFetch.stream()
+                .sorted(Comparator.comparingInt(name -> getDerivationDepth(name, nodesByName)))
+                .collect(Collectors.toList());
+        log.debug("Data types {} were added or updated, fetching them", fetchOrder);
+        for (String name : fetchOrder) {
+            Either<DataTypeDefinition, JanusGraphOperationStatus> dataType = propertyOperation
+                    .getAndAddDataTypeByUid(nodesByName.get(name).getUniqueId(), newData);
+            if (dataType.isRight()) {
+                log.debug("Failed to fetch data type {}. Status is {}, reloading all the data types", name,
+                        dataType.right().value());
+                replaceAllData();
+                return;
+            }
+        }
+        replaceSnapshot(newData);
+    }
+
+    private static void addDerivedDataTypes(Set<String> dataTypeNames, Map<String, DataTypeDataDefinition> nodesByName) {
+        boolean added = !dataTypeNames.isEmpty();
+        while (added) {
+            added = false;
+            for (DataTypeDataDefinition node : nodesByName.values()) {
+                if (node.getDerivedFromName() != null && dataTypeNames.contains(node.getDerivedFromName())
+                        && dataTypeNames.add(node.getName())) {
+                    added = true;
+                }
+            }
+        }
+    }
+
+    private static int getDerivationDepth(String dataTypeName, Map<String, DataTypeDataDefinition> nodesByName) {
+        int depth = 0;
+        Set<String> visited = new HashSet<>();
+        DataTypeDataDefinition node = nodesByName.get(dataTypeName);
+        while (node != null && node.getDerivedFromName() != null && visited.add(node.getName())) {
+            depth++;
+            node = nodesByName.get(node.getDerivedFromName());
+        }
+        return depth;
+    }
+
+    private void replaceSnapshot(Map<String, DataTypeDefinition> newData) {
+        snapshot = new DataTypesSnapshot(newData);
+        // send notification on data types change
+        onDataChangeEventEmit(newData);
+        BeEcompErrorManager.getInstance().logInternalFlowError("ReplaceDataTypesCache",
+                "Succeed to replace the data types cache", ErrorSeverity.INFO);
+    }
+
     private void replaceAllData() {
 
         Either<Map<String, DataTypeDefinition>, JanusGraphOperationStatus> allDataTypes = propertyOperation
@@ -315,21 +394,7 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
             JanusGraphOperationStatus status = allDataTypes.right().value();
             log.debug("Failed to fetch all data types from db. Status is {}", status);
         } else {
-
-            try {
-                w.lock();
-
-                data = allDataTypes.left().value();
-                // send notification on data types change
-                onDataChangeEventEmit(data);
-
-                BeEcompErrorManager.getInstance().logInternalFlowError("ReplaceDataTypesCache",
-                        "Succeed to replace the data types cache", ErrorSeverity.INFO);
-
-            } finally {
-                w.unlock();
-            }
-
+            replaceSnapshot(allDataTypes.left().value());
         }
 
     }
@@ -340,6 +405,25 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
         applicationEventPublisher.publishEvent(dataTypesCacheChangedEvent);
     }
 
+    /**
+     * Immutable view of the cached data types, never modified once published.
+     */
+    private static final class DataTypesSnapshot {
+
+        private static final DataTypesSnapshot EMPTY = new DataTypesSnapshot(Collections.emptyMap());
+
+        private final Map<String, DataTypeDefinition> dataTypesByName;
+        private final Map<String, DataTypeDefinition> dataTypesByUid;
+
+        private DataTypesSnapshot(Map<String, DataTypeDefinition> dataTypesByName) {
+            this.dataTypesByName = dataTypesByName;
+            Map<String, DataTypeDefinition> byUid = new HashMap<>();
+            dataTypesByName.values().stream().filter(dataType -> dataType.getUniqueId() != null)
+                    .forEach(dataType -> byUid.put(dataType.getUniqueId(), dataType));
+            this.dataTypesByUid = byUid;
+        }
+    }
+
     /**
      * Custom event to notify all interested in cached data changes
      */
@@ -0,0 +1,394 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.cache;
+
+import fj.data.Either;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.cassandra.CatalogVersionCassandraDao;
+import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
+import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.catalog.CatalogFilter;
+import org.openecomp.sdc.be.model.jsonjanusgraph.operations.TopologyTemplateOperation;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.be.model.operations.impl.DaoStatusConverter;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * In memory index of the catalog and archive entries, shared by all the requests handled by this backend.
+ * <p>
+ * The index is versioned by the catalog version kept in Cassandra, which every backend moves forward by one for every
+ * transaction changing components, on the committing thread so that the request sees its own changes. The changed
+ * components are then re-read by a single worker thread, or by the next read if it comes first, as long as the
+ * versions since the one the index is at were all moved forward by this backend. Any other change, such as one
+ * committed by another backend, leaves the index behind the catalog version and the index is rebuilt on the next read.
+ * A backend stopping between the commit of a transaction and the move of the catalog version leaves the other backends
+ * behind until the next change, which is why the index is disabled by default.
+ * <p>
+ * The index is replaced as a whole: the rebuilt or changed entries are built aside and swapped in once complete, so
+ * the reads never wait for a change to be applied and never see one applied partly. Nothing is written to the graph
+ * to version the catalog.
+ */
+@Component("catalog-index")
+public class CatalogIndex {
+
+    private static final Logger log = Logger.getLogger(CatalogIndex.class.getName());
+    private static final Snapshot NOT_BUILT = new Snapshot(Long.MIN_VALUE, new Section(), new Section());
+
+    private final JanusGraphDao janusGraphDao;
+    private final TopologyTemplateOperation topologyTemplateOperation;
+    private final CatalogVersionCassandraDao catalogVersionCassandraDao;
+    private final ConcurrentNavigableMap<Long, Set<String>> pendingChanges = new ConcurrentSkipListMap<>();
+    private final Set<String> unversionedComponentIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean applyScheduled = new AtomicBoolean();
+    private final AtomicReference<CompletableFuture<StorageOperationStatus>> rebuildInProgress = new AtomicReference<>();
+    private Executor changesExecutor;
+    private boolean enabled = false;
+    private volatile Snapshot snapshot = NOT_BUILT;
+
+    public CatalogIndex(@Qualifier("janusgraph-dao") JanusGraphDao janusGraphDao, TopologyTemplateOperation topologyTemplateOperation,
+                        CatalogVersionCassandraDao catalogVersionCassandraDao) {
+        this.janusGraphDao = janusGraphDao;
+        this.topologyTemplateOperation = topologyTemplateOperation;
+        this.catalogVersionCassandraDao = catalogVersionCassandraDao;
+    }
+
+    @PostConstruct
+    public void init() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        if (configurationManager == null || !Boolean.TRUE.equals(configurationManager.getConfiguration().getCatalogIndexEnabled())) {
+            log.debug("Catalog index is disabled");
+            return;
+        }
+        enable(Executors.newSingleThreadExecutor(
+            new BasicThreadFactory.Builder().namingPattern("CatalogIndexThread-%d").daemon(true).build()));
+    }
+
+    void enable(Executor changesExecutor) {
+        this.changesExecutor = changesExecutor;
+        janusGraphDao.addCommittedChangesListener(this::onCommittedChanges);
+        enabled = true;
+        log.debug("Catalog index is enabled");
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (changesExecutor instanceof ExecutorService) {
+            ((ExecutorService) changesExecutor).shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the version the catalog currently is at, which is the version the index serves.
+     */
+    public Either<Long, StorageOperationStatus> getVersion() {
+        return catalogVersionCassandraDao.getVersion().right().map(DaoStatusConverter::convertCassandraStatusToStorageStatus);
+    }
+
+    /**
+     * Returns the catalog or archive entries matching the given filter, catching up with the catalog first if the
+     * index is behind it.
+     */
+    public Either<List<CatalogComponent>, StorageOperationStatus> getComponents(boolean isCatalog, CatalogFilter filter) {
+        Either<Long, CassandraOperationStatus> catalogVersion = catalogVersionCassandraDao.getVersion();
+        if (catalogVersion.isRight()) {
+            return Either.right(DaoStatusConverter.convertCassandraStatusToStorageStatus(catalogVersion.right().value()));
+        }
+        if (snapshot.version < catalogVersion.left().value()) {
+            applyPendingChanges(catalogVersion.left().value());
+        }
+        if (snapshot.version < catalogVersion.left().value()) {
+            StorageOperationStatus status = rebuild(catalogVersion.left().value());
+            if (status != StorageOperationStatus.OK) {
+                return Either.right(status);
+            }
+        }
+        Snapshot current = snapshot;
+        return Either.left((isCatalog ? current.catalog : current.archive).find(filter));
+    }
+
+    public synchronized void invalidate() {
+        snapshot = NOT_BUILT;
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current.catalog.components.size() + current.archive.components.size();
+    }
+
+    /**
+     * Rebuilds the index for the given catalog version, or waits for the rebuild already in progress and rebuilds
+     * again only if that one was for an older version.
+     */
+    private StorageOperationStatus rebuild(long catalogVersion) {
+        while (snapshot.version < catalogVersion) {
+            CompletableFuture<StorageOperationStatus> inProgress = rebuildInProgress.get();
+            if (inProgress != null) {
+                StorageOperationStatus status = inProgress.join();
+                if (status != StorageOperationStatus.OK) {
+                    return status;
+                }
+                continue;
+            }
+            CompletableFuture<StorageOperationStatus> rebuild = new CompletableFuture<>();
+            if (rebuildInProgress.compareAndSet(null, rebuild)) {
+                StorageOperationStatus status = StorageOperationStatus.GENERAL_ERROR;
+                try {
+                    status = load(catalogVersion);
+                } finally {
+                    rebuildInProgress.set(null);
+                    rebuild.complete(status);
+                }
+                return status;
+            }
+        }
+        return StorageOperationStatus.OK;
+    }
+
+    private StorageOperationStatus load(long catalogVersion) {
+        Either<List<CatalogComponent>, StorageOperationStatus> catalogComponents = topologyTemplateOperation.getElementCatalogData(true, null);
+        if (catalogComponents.isRight()) {
+            return catalogComponents.right().value();
+        }
+        Either<List<CatalogComponent>, StorageOperationStatus> archiveComponents = topologyTemplateOperation.getElementCatalogData(false, null);
+        if (archiveComponents.isRight()) {
+            return archiveComponents.right().value();
+        }
+        Snapshot rebuilt = new Snapshot(catalogVersion, new Section(catalogComponents.left().value()),
+            new Section(archiveComponents.left().value()));
+        synchronized (this) {
+            if (snapshot.version < catalogVersion) {
+                snapshot = rebuilt;
+            }
+        }
+        pendingChanges.headMap(catalogVersion, true).clear();
+        log.debug("Catalog index was rebuilt for catalog version {}, {} entries", catalogVersion, size());
+        return StorageOperationStatus.OK;
+    }
+
+    /**
+     * Moves the catalog version forward for the components changed by a committed transaction, on the committing
+     * thread, and schedules the re-read of the changed components.
+     */
+    void onCommittedChanges(Set<String> changedComponentIds) {
+        if (changedComponentIds.isEmpty() && unversionedComponentIds.isEmpty()) {
+            return;
+        }
+        Set<String> componentIds = new HashSet<>(changedComponentIds);
+        if (!unversionedComponentIds.isEmpty()) {
+            Set<String> unversioned = new HashSet<>(unversionedComponentIds);
+            unversionedComponentIds.removeAll(unversioned);
+            componentIds.addAll(unversioned);
+        }
+        Either<Long, CassandraOperationStatus> catalogVersion = catalogVersionCassandraDao.incrementVersion();
+        if (catalogVersion.isRight()) {
+            log.debug("Failed to move the catalog version forward for the changes of {}, status is {}. Keeping them for the next "
+                + "changes and invalidating the catalog index", componentIds, catalogVersion.right().value());
+            unversionedComponentIds.addAll(componentIds);
+            invalidate();
+            return;
+        }
+        if (snapshot == NOT_BUILT) {
+            return;
+        }
+        pendingChanges.put(catalogVersion.left().value(), componentIds);
+        if (applyScheduled.compareAndSet(false, true)) {
+            changesExecutor.execute(this::applyPendingChanges);
+        }
+    }
+
+    /**
+     * Applies all the components changed since the last run at once, on the worker thread.
+     */
+    void applyPendingChanges() {
+        applyScheduled.set(false);
+        try {
+            applyPendingChanges(Long.MAX_VALUE);
+        } finally {
+            janusGraphDao.rollback();
+        }
+    }
+
+    /**
+     * Re-reads the components changed in the versions following the one the index is at, up to the given version, and
+     * swaps in the updated entries unless the index was replaced meanwhile.
+     */
+    private void applyPendingChanges(long catalogVersion) {
+        Snapshot current = snapshot;
+        if (current == NOT_BUILT) {
+            return;
+        }
+        pendingChanges.headMap(current.version, true).clear();
+        Set<String> componentIds = new HashSet<>();
+        long version = current.version;
+        for (Map.Entry<Long, Set<String>> change : pendingChanges.headMap(catalogVersion, true).entrySet()) {
+            if (change.getKey() != version + 1) {
+                break;
+            }
+            componentIds.addAll(change.getValue());
+            version = change.getKey();
+        }
+        if (componentIds.isEmpty()) {
+            return;
+        }
+        try {
+            Either<List<CatalogComponent>, StorageOperationStatus> catalogComponents = topologyTemplateOperation
+                .getElementCatalogDataByIds(true, componentIds);
+            Either<List<CatalogComponent>, StorageOperationStatus> archiveComponents = topologyTemplateOperation
+                .getElementCatalogDataByIds(false, componentIds);
+            if (catalogComponents.isRight() || archiveComponents.isRight()) {
+                log.debug("Failed to fetch the changed components {}, the catalog index is rebuilt on the next read", componentIds);
+                return;
+            }
+            Snapshot changed = new Snapshot(version, current.catalog.replace(componentIds, catalogComponents.left().value()),
+                current.archive.replace(componentIds, archiveComponents.left().value()));
+            synchronized (this) {
+                if (snapshot != current) {
+                    return;
+                }
+                snapshot = changed;
+            }
+            pendingChanges.headMap(version, true).clear();
+        } catch (Exception e) {
+            log.debug("Failed to apply the changes of {}, the catalog index is rebuilt on the next read", componentIds, e);
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final long version;
+        private final Section catalog;
+        private final Section archive;
+
+        private Snapshot(long version, Section catalog, Section archive) {
+            this.version = version;
+            this.catalog = catalog;
+            this.archive = archive;
+        }
+    }
+
+    /**
+     * Entries of the catalog or of the archive, not changed once the section is in use.
+     */
+    private static final class Section {
+
+        private final Map<String, CatalogComponent> components;
+        private final Map<String, Set<String>> componentIdsByKey;
+
+        private Section() {
+            this(Collections.emptyList());
+        }
+
+        private Section(Collection<CatalogComponent> components) {
+            this.components = new HashMap<>();
+            this.componentIdsByKey = new HashMap<>();
+            components.forEach(this::add);
+        }
+
+        private Section(Section section) {
+            this.components = new HashMap<>(section.components);
+            this.componentIdsByKey = new HashMap<>();
+            section.componentIdsByKey.forEach((indexKey, ids) -> componentIdsByKey.put(indexKey, new HashSet<>(ids)));
+        }
+
+        /**
+         * Returns a copy of this section where the given components are replaced by their current entries.
+         */
+        private Section replace(Collection<String> componentIds, Collection<CatalogComponent> currentComponents) {
+            Section section = new Section(this);
+            section.removeAll(componentIds);
+            currentComponents.forEach(section::add);
+            return section;
+        }
+
+        private void add(CatalogComponent component) {
+            components.put(component.getUniqueId(), component);
+            for (String indexKey : CatalogFilter.getIndexKeys(component)) {
+                componentIdsByKey.computeIfAbsent(indexKey, k -> new HashSet<>()).add(component.getUniqueId());
+            }
+        }
+
+        private void removeAll(Collection<String> componentIds) {
+            for (String componentId : componentIds) {
+                CatalogComponent component = components.remove(componentId);
+                if (component != null) {
+                    for (String indexKey : CatalogFilter.getIndexKeys(component)) {
+                        Set<String> ids = componentIdsByKey.get(indexKey);
+                        if (ids != null) {
+                            ids.remove(componentId);
+                            if (ids.isEmpty()) {
+                                componentIdsByKey.remove(indexKey);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        private List<CatalogComponent> find(CatalogFilter filter) {
+            Collection<String> candidates = null;
+            for (String indexKey : filter.getIndexKeys()) {
+                Set<String> ids = componentIdsByKey.getOrDefault(indexKey, Collections.emptySet());
+                if (candidates == null || ids.size() < candidates.size()) {
+                    candidates = ids;
+                }
+            }
+            if (candidates == null) {
+                return components.values().stream().filter(filter::matches).collect(Collectors.toList());
+            }
+            List<CatalogComponent> result = new ArrayList<>();
+            for (String componentId : candidates) {
+                CatalogComponent component = components.get(componentId);
+                if (component != null && filter.matches(component)) {
+                    result.add(component);
+                }
+            }
+            return result;
+        }
+    }
+}
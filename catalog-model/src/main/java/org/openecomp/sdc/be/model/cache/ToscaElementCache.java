@@ -0,0 +1,280 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import org.openecomp.sdc.be.config.Configuration.ApplicationL1CacheCatalogInfo;
+import org.openecomp.sdc.be.config.Configuration.ApplicationL2CacheConfig;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
+import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
+import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
+import org.openecomp.sdc.be.dao.jsongraph.utils.JsonParserUtils;
+import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
+import org.openecomp.sdc.be.model.ComponentParametersView;
+import org.openecomp.sdc.be.model.LifecycleStateEnum;
+import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.ToscaElement;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * In memory cache of tosca elements read from the graph, shared by all the requests handled by this backend.
+ * <p>
+ * Only certified or archived elements are cached since those can not be edited anymore. Every entry keeps the
+ * metadata properties of the component vertex it was read with, so an entry is served only as long as the vertex
+ * read by the caller still carries the same metadata (distribution status, highest version, archive flags, etc.).
+ * An entry is keyed by the component id, the parse flag and the {@link ComponentParametersView} filter the element
+ * was fetched with.
+ * <p>
+ * An element is cached as its json, and every hit is parsed into a new element, so no caller ever shares the lists
+ * and maps of an element with the cache or with another caller. The components changed by a committed transaction,
+ * including the ones whose data vertices were changed, are evicted once it is committed. An element read by a
+ * transaction which already changed the graph, or read while a transaction changing any component was committed, is
+ * not cached, so only committed elements are cached.
+ */
+@Component("tosca-element-cache")
+public class ToscaElementCache {
+
+    private static final Logger log = Logger.getLogger(ToscaElementCache.class.getName());
+    private static final int DEFAULT_MAX_SIZE = 600;
+
+    private final JanusGraphDao janusGraphDao;
+    private final AtomicLong generation = new AtomicLong();
+    private boolean enabled = false;
+    private Cache<CacheKey, CacheEntry> cache = CacheBuilder.newBuilder().maximumSize(0).build();
+
+    public ToscaElementCache(@Qualifier("janusgraph-dao") JanusGraphDao janusGraphDao) {
+        this.janusGraphDao = janusGraphDao;
+    }
+
+    @PostConstruct
+    public void init() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        ApplicationL2CacheConfig l2CacheConfig = configurationManager == null ? null
+            : configurationManager.getConfiguration().getApplicationL2Cache();
+        if (l2CacheConfig == null || !l2CacheConfig.isEnabled() || l2CacheConfig.getCatalogL1Cache() == null
+            || !Boolean.TRUE.equals(l2CacheConfig.getCatalogL1Cache().getEnabled())) {
+            log.debug("Tosca element cache is disabled");
+            return;
+        }
+        init(getMaxSize(l2CacheConfig.getCatalogL1Cache()));
+    }
+
+    void init(long maxSize) {
+        cache = CacheBuilder.newBuilder().maximumSize(maxSize).recordStats().build();
+        janusGraphDao.addCommittedChangesListener(this::invalidate);
+        enabled = true;
+        log.debug("Tosca element cache is enabled with max size {}", maxSize);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the generation of the cache, to be taken before reading an element which may be cached with
+     * {@link #put} once read.
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Returns a new copy of the cached element of the given component vertex if it was cached for the same filter and
+     * the component vertex was not modified since.
+     */
+    public Optional<ToscaElement> get(GraphVertex componentV, ComponentParametersView filters, JsonParseFlagEnum parseFlag) {
+        if (!isCacheable(componentV, parseFlag)) {
+            return Optional.empty();
+        }
+        CacheKey key = new CacheKey(componentV.getUniqueId(), parseFlag, filters);
+        CacheEntry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!entry.metadataProperties.equals(componentV.getMetadataProperties())) {
+            log.debug("Tosca element {} was modified since it was cached, evicting it", componentV.getUniqueId());
+            cache.invalidate(key);
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(JsonParserUtils.toObject(entry.toscaElementJson, entry.toscaElementClass));
+        } catch (Exception e) {
+            log.debug("Failed to parse the cached tosca element {}, evicting it", componentV.getUniqueId(), e);
+            cache.invalidate(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Caches a copy of the given element, unless the current transaction changed the graph or any component was
+     * changed since the given generation was taken.
+     */
+    public void put(GraphVertex componentV, ComponentParametersView filters, JsonParseFlagEnum parseFlag,
+                    ToscaElement toscaElement, long readGeneration) {
+        if (toscaElement == null || !isCacheable(componentV, parseFlag)) {
+            return;
+        }
+        if (janusGraphDao.hasUncommittedChanges()) {
+            log.debug("Tosca element {} was read by a transaction with uncommitted changes, not caching it", componentV.getUniqueId());
+            return;
+        }
+        String toscaElementJson;
+        try {
+            toscaElementJson = JsonParserUtils.toJson(toscaElement);
+        } catch (Exception e) {
+            log.debug("Failed to serialize tosca element {}, not caching it", componentV.getUniqueId(), e);
+            return;
+        }
+        CacheKey key = new CacheKey(componentV.getUniqueId(), parseFlag, filters);
+        cache.put(key, new CacheEntry(toscaElementJson, toscaElement.getClass(), componentV.getMetadataProperties()));
+        if (generation.get() != readGeneration) {
+            // a component was changed while the element was read, it may be stale
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Drops all the cached views of the given component.
+     */
+    public void invalidate(String componentId) {
+        if (componentId != null) {
+            invalidate(Collections.singleton(componentId));
+        }
+    }
+
+    /**
+     * Drops all the cached views of the given components.
+     */
+    public void invalidate(Collection<String> componentIds) {
+        if (enabled && !componentIds.isEmpty()) {
+            generation.incrementAndGet();
+            cache.asMap().keySet().removeIf(key -> componentIds.contains(key.componentId));
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    private boolean isCacheable(GraphVertex componentV, JsonParseFlagEnum parseFlag) {
+        if (!enabled || parseFlag == null || componentV == null || componentV.getUniqueId() == null) {
+            return false;
+        }
+        return LifecycleStateEnum.CERTIFIED.name().equals(componentV.getMetadataProperty(GraphPropertyEnum.STATE))
+            || Boolean.TRUE.equals(componentV.getMetadataProperty(GraphPropertyEnum.IS_ARCHIVED));
+    }
+
+    private static long getMaxSize(ApplicationL1CacheCatalogInfo catalogCacheInfo) {
+        long maxSize = 0;
+        maxSize += catalogCacheInfo.getResourcesSizeInCache() == null ? 0 : catalogCacheInfo.getResourcesSizeInCache();
+        maxSize += catalogCacheInfo.getServicesSizeInCache() == null ? 0 : catalogCacheInfo.getServicesSizeInCache();
+        maxSize += catalogCacheInfo.getProductsSizeInCache() == null ? 0 : catalogCacheInfo.getProductsSizeInCache();
+        return maxSize > 0 ? maxSize : DEFAULT_MAX_SIZE;
+    }
+
+    private static final class CacheEntry {
+
+        private final String toscaElementJson;
+        private final Class<? extends ToscaElement> toscaElementClass;
+        private final Map<GraphPropertyEnum, Object> metadataProperties;
+
+        private CacheEntry(String toscaElementJson, Class<? extends ToscaElement> toscaElementClass,
+                           Map<GraphPropertyEnum, Object> metadataProperties) {
+            this.toscaElementJson = toscaElementJson;
+            this.toscaElementClass = toscaElementClass;
+            this.metadataProperties = metadataProperties == null ? new EnumMap<>(GraphPropertyEnum.class)
+                : new EnumMap<>(metadataProperties);
+        }
+    }
+
+    private static final class CacheKey {
+
+        private final String componentId;
+        private final JsonParseFlagEnum parseFlag;
+        private final long filtersMask;
+
+        private CacheKey(String componentId, JsonParseFlagEnum parseFlag, ComponentParametersView filters) {
+            this.componentId = componentId;
+            this.parseFlag = parseFlag;
+            this.filtersMask = toFiltersMask(filters);
+        }
+
+        private static long toFiltersMask(ComponentParametersView filters) {
+            boolean[] flags = {filters.isIgnoreUsers(), filters.isIgnoreGroups(), filters.isIgnoreComponentInstances(),
+                filters.isIgnoreComponentInstancesProperties(), filters.isIgnoreComponentInstancesAttributes(),
+                filters.isIgnoreProperties(), filters.isIgnoreAttributes(), filters.isIgnoreCapabilities(),
+                filters.isIgnoreRequirements(), filters.isIgnoreCategories(), filters.isIgnoreAllVersions(),
+                filters.isIgnoreAdditionalInformation(), filters.isIgnoreArtifacts(), filters.isIgnoreInterfaces(),
+                filters.isIgnoreInterfaceInstances(), filters.isIgnoreComponentInstancesInterfaces(),
+                filters.isIgnoreDerivedFrom(), filters.isIgnoreInputs(), filters.isIgnoreOutputs(),
+                filters.isIgnoreComponentInstancesInputs(), filters.isIgnoreComponentInstancesOutputs(),
+                filters.isIgnoreCapabiltyProperties(), filters.isIgnoreServicePath(), filters.isIgnorePolicies(),
+                filters.isIgnoreNodeFilterRequirements(), filters.isIgnoreNodeFilter(),
+                filters.isIgnoreSubstitutionFilter(), filters.isIgnoreDataType()};
+            long mask = 0;
+            for (int i = 0; i < flags.length; i++) {
+                if (flags[i]) {
+                    mask |= 1L << i;
+                }
+            }
+            return mask;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return filtersMask == cacheKey.filtersMask && componentId.equals(cacheKey.componentId)
+                && parseFlag == cacheKey.parseFlag;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(componentId, parseFlag, filtersMask);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.catalog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.commons.collections.CollectionUtils;
+import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
+import org.openecomp.sdc.be.datatypes.enums.OriginTypeEnum;
+import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
+
+/**
+ * The criteria a {@link CatalogComponent} has to meet to be listed in a catalog query. A criterion left null matches
+ * every component.
+ */
+@Getter
+@Setter
+public class CatalogFilter {
+
+    private static final String COMPONENT_TYPE = "componentType=";
+    private static final String CATEGORY = "category=";
+    private static final String SUB_CATEGORY = "subCategory=";
+    private static final String LIFECYCLE_STATE = "lifecycleState=";
+    private static final String DISTRIBUTION_STATUS = "distributionStatus=";
+    private static final String HIGHEST_VERSION = "highestVersion=";
+
+    private ComponentTypeEnum componentType;
+    private String categoryNormalizedName;
+    private String subCategoryNormalizedName;
+    private String lifecycleState;
+    private String distributionStatus;
+    private Boolean highestVersion;
+    private List<ResourceTypeEnum> excludeTypes;
+
+    /**
+     * A filter matching all the components but the resources of the given types.
+     */
+    public static CatalogFilter excluding(List<OriginTypeEnum> excludeTypes) {
+        CatalogFilter filter = new CatalogFilter();
+        filter.setExcludeTypes(Optional.ofNullable(excludeTypes).orElse(Collections.emptyList()).stream()
+            .filter(type -> type != OriginTypeEnum.SERVICE)
+            .map(type -> ResourceTypeEnum.getTypeByName(type.name()))
+            .collect(Collectors.toList()));
+        return filter;
+    }
+
+    public boolean matches(CatalogComponent component) {
+        return matches(componentType, component.getComponentType())
+            && matches(categoryNormalizedName, component.getCategoryNormalizedName())
+            && matches(subCategoryNormalizedName, component.getSubCategoryNormalizedName())
+            && matches(lifecycleState, component.getLifecycleState())
+            && matches(distributionStatus, component.getDistributionStatus())
+            && matches(highestVersion, component.getIsHighestVersion())
+            && !isExcluded(component);
+    }
+
+    /**
+     * The index keys of the criteria set on this filter, a component matching the filter is indexed under all of them.
+     */
+    public List<String> getIndexKeys() {
+        List<String> indexKeys = new ArrayList<>();
+        addIndexKey(indexKeys, COMPONENT_TYPE, componentType);
+        addIndexKey(indexKeys, CATEGORY, categoryNormalizedName);
+        addIndexKey(indexKeys, SUB_CATEGORY, subCategoryNormalizedName);
+        addIndexKey(indexKeys, LIFECYCLE_STATE, lifecycleState);
+        addIndexKey(indexKeys, DISTRIBUTION_STATUS, distributionStatus);
+        addIndexKey(indexKeys, HIGHEST_VERSION, highestVersion);
+        return indexKeys;
+    }
+
+    /**
+     * The index keys a component is listed under.
+     */
+    public static List<String> getIndexKeys(CatalogComponent component) {
+        List<String> indexKeys = new ArrayList<>();
+        addIndexKey(indexKeys, COMPONENT_TYPE, component.getComponentType());
+        addIndexKey(indexKeys, CATEGORY, component.getCategoryNormalizedName());
+        addIndexKey(indexKeys, SUB_CATEGORY, component.getSubCategoryNormalizedName());
+        addIndexKey(indexKeys, LIFECYCLE_STATE, component.getLifecycleState());
+        addIndexKey(indexKeys, DISTRIBUTION_STATUS, component.getDistributionStatus());
+        addIndexKey(indexKeys, HIGHEST_VERSION, component.getIsHighestVersion());
+        return indexKeys;
+    }
+
+    public List<ResourceTypeEnum> getExcludeTypes() {
+        return excludeTypes == null ? Collections.emptyList() : excludeTypes;
+    }
+
+    private boolean isExcluded(CatalogComponent component) {
+        if (CollectionUtils.isEmpty(excludeTypes) || component.getResourceType() == null) {
+            return false;
+        }
+        return excludeTypes.contains(ResourceTypeEnum.getType(component.getResourceType()));
+    }
+
+    private static boolean matches(Object expected, Object actual) {
+        return expected == null || expected.equals(actual);
+    }
+
+    private static void addIndexKey(List<String> indexKeys, String dimension, Object value) {
+        if (value != null) {
+            indexKeys.add(dimension + value);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CatalogFilter that = (CatalogFilter) o;
+        return componentType == that.componentType && Objects.equals(categoryNormalizedName, that.categoryNormalizedName)
+            && Objects.equals(subCategoryNormalizedName, that.subCategoryNormalizedName)
+            && Objects.equals(lifecycleState, that.lifecycleState)
+            && Objects.equals(distributionStatus, that.distributionStatus)
+            && Objects.equals(highestVersion, that.highestVersion) && Objects.equals(getExcludeTypes(), that.getExcludeTypes());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(componentType, categoryNormalizedName, subCategoryNormalizedName, lifecycleState,
+            distributionStatus, highestVersion, getExcludeTypes());
+    }
+}
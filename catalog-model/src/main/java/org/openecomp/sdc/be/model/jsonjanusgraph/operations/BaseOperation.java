@@ -308,6 +308,7 @@ public abstract class BaseOperation {
             log.debug("No edges {} from vertex {} to vertex {}", label, toscaElementVertex.getUniqueId(), dataVertex.getUniqueId());
             return Either.right(JanusGraphOperationStatus.GENERAL_ERROR);
         }
+        janusGraphDao.trackChange(toscaElementVertex.getUniqueId());
         switch (edgeCount) {
         case 0:
             // error
@@ -1089,6 +1090,7 @@ public abstract class BaseOperation {
             }
         }
         if (result == null) {
+            janusGraphDao.trackChange(toscaElement.getUniqueId());
             if (edgeCounter > 1 && edgeToDelete!=null) {
                 edgeToDelete.remove();
             } else {
@@ -191,6 +191,48 @@ public class NodeTypeOperation extends ToscaElementOperation {
     // -------------------------------------------------------------
     @Override
     public Either<ToscaElement, StorageOperationStatus> getToscaElement(GraphVertex componentV, ComponentParametersView componentParametersView) {
+        janusGraphDao.prefetchChildrenVertices(componentV, getDataLabels(componentParametersView), JsonParseFlagEnum.ParseJson);
+        try {
+            return getToscaElementFromGraph(componentV, componentParametersView);
+        } finally {
+            componentV.clearPrefetchedChildren();
+        }
+    }
+
+    /**
+     * Returns the labels of the data vertices read by {@link #getToscaElement(GraphVertex, ComponentParametersView)}
+     * for the received filter.
+     */
+    private Set<EdgeLabelEnum> getDataLabels(ComponentParametersView componentParametersView) {
+        Set<EdgeLabelEnum> labels = EnumSet.noneOf(EdgeLabelEnum.class);
+        if (!componentParametersView.isIgnoreProperties()) {
+            labels.add(EdgeLabelEnum.PROPERTIES);
+        }
+        if (!componentParametersView.isIgnoreAttributes()) {
+            labels.add(EdgeLabelEnum.ATTRIBUTES);
+        }
+        if (!componentParametersView.isIgnoreRequirements()) {
+            labels.add(EdgeLabelEnum.REQUIREMENTS);
+        }
+        if (!componentParametersView.isIgnoreCapabilities()) {
+            labels.add(EdgeLabelEnum.CAPABILITIES);
+        }
+        if (!componentParametersView.isIgnoreArtifacts()) {
+            labels.addAll(EnumSet.of(EdgeLabelEnum.ARTIFACTS, EdgeLabelEnum.DEPLOYMENT_ARTIFACTS, EdgeLabelEnum.TOSCA_ARTIFACTS));
+        }
+        if (!componentParametersView.isIgnoreAdditionalInformation()) {
+            labels.add(EdgeLabelEnum.ADDITIONAL_INFORMATION);
+        }
+        if (!componentParametersView.isIgnoreInterfaces()) {
+            labels.add(EdgeLabelEnum.INTERFACE_ARTIFACTS);
+        }
+        if (!componentParametersView.isIgnoreCapabiltyProperties()) {
+            labels.add(EdgeLabelEnum.CAPABILITIES_PROPERTIES);
+        }
+        return labels;
+    }
+
+    private Either<ToscaElement, StorageOperationStatus> getToscaElementFromGraph(GraphVertex componentV, ComponentParametersView componentParametersView) {
         NodeType toscaElement;
         toscaElement = convertToComponent(componentV);
         JanusGraphOperationStatus status = null;
@@ -727,6 +769,7 @@ public class NodeTypeOperation extends ToscaElementOperation {
             log.debug("Failed to disassociate interface artifacts for {} error {}", toscaElementVertex.getUniqueId(), status);
             Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(status));
         }
+        janusGraphDao.trackChange(toscaElementVertex.getUniqueId());
         toscaElementVertex.getVertex().remove();
         log.trace("Tosca element vertex for {} was removed", toscaElementVertex.getUniqueId());
 
@@ -618,6 +618,85 @@ public class TopologyTemplateOperation extends ToscaElementOperation {
     // -------------------------------------------------------------
 
     public Either<ToscaElement, StorageOperationStatus> getToscaElement(GraphVertex componentV, ComponentParametersView componentParametersView) {
+        janusGraphDao.prefetchChildrenVertices(componentV, getDataLabels(componentParametersView), JsonParseFlagEnum.ParseJson);
+        try {
+            return getToscaElementFromGraph(componentV, componentParametersView);
+        } finally {
+            componentV.clearPrefetchedChildren();
+        }
+    }
+
+    /**
+     * Returns the labels of the data vertices read by {@link #getToscaElement(GraphVertex, ComponentParametersView)}
+     * for the received filter.
+     */
+    private Set<EdgeLabelEnum> getDataLabels(ComponentParametersView componentParametersView) {
+        Set<EdgeLabelEnum> labels = EnumSet.noneOf(EdgeLabelEnum.class);
+        if (!componentParametersView.isIgnoreArtifacts()) {
+            labels.addAll(EnumSet.of(EdgeLabelEnum.ARTIFACTS, EdgeLabelEnum.DEPLOYMENT_ARTIFACTS, EdgeLabelEnum.TOSCA_ARTIFACTS,
+                EdgeLabelEnum.SERVICE_API_ARTIFACTS, EdgeLabelEnum.INST_DEPLOYMENT_ARTIFACTS, EdgeLabelEnum.INSTANCE_ARTIFACTS));
+        }
+        if (!componentParametersView.isIgnoreComponentInstancesProperties()) {
+            labels.add(EdgeLabelEnum.INST_PROPERTIES);
+        }
+        if (!componentParametersView.isIgnoreComponentInstancesAttributes()) {
+            labels.add(EdgeLabelEnum.INST_ATTRIBUTES);
+        }
+        if (!componentParametersView.isIgnoreCapabilities()) {
+            labels.addAll(EnumSet.of(EdgeLabelEnum.CALCULATED_CAPABILITIES, EdgeLabelEnum.FULLFILLED_CAPABILITIES, EdgeLabelEnum.CAPABILITIES));
+        }
+        if (!componentParametersView.isIgnoreRequirements()) {
+            labels.addAll(EnumSet.of(EdgeLabelEnum.CALCULATED_REQUIREMENTS, EdgeLabelEnum.FULLFILLED_REQUIREMENTS, EdgeLabelEnum.REQUIREMENTS));
+        }
+        if (!componentParametersView.isIgnoreAdditionalInformation()) {
+            labels.add(EdgeLabelEnum.ADDITIONAL_INFORMATION);
+        }
+        if (!componentParametersView.isIgnoreGroups()) {
+            labels.add(EdgeLabelEnum.GROUPS);
+        }
+        if (!componentParametersView.isIgnorePolicies()) {
+            labels.add(EdgeLabelEnum.POLICIES);
+        }
+        if (!componentParametersView.isIgnoreComponentInstances()) {
+            labels.add(EdgeLabelEnum.INST_GROUPS);
+        }
+        if (!componentParametersView.isIgnoreInputs()) {
+            labels.addAll(EnumSet.of(EdgeLabelEnum.INPUTS, EdgeLabelEnum.CAPABILITIES));
+        }
+        if (!componentParametersView.isIgnoreOutputs()) {
+            labels.add(EdgeLabelEnum.OUTPUTS);
+        }
+        if (!componentParametersView.isIgnoreProperties()) {
+            labels.add(EdgeLabelEnum.PROPERTIES);
+        }
+        if (!componentParametersView.isIgnoreComponentInstancesInputs()) {
+            labels.add(EdgeLabelEnum.INST_INPUTS);
+        }
+        if (!componentParametersView.isIgnoreCapabiltyProperties()) {
+            labels.addAll(EnumSet.of(EdgeLabelEnum.CALCULATED_CAP_PROPERTIES, EdgeLabelEnum.CAPABILITIES_PROPERTIES));
+        }
+        if (!componentParametersView.isIgnoreServicePath()) {
+            labels.add(EdgeLabelEnum.FORWARDING_PATH);
+        }
+        if (!componentParametersView.isIgnoreNodeFilter()) {
+            labels.add(EdgeLabelEnum.NODE_FILTER_TEMPLATE);
+        }
+        if (!componentParametersView.isIgnoreSubstitutionFilter()) {
+            labels.add(EdgeLabelEnum.SUBSTITUTION_FILTER_TEMPLATE);
+        }
+        if (!componentParametersView.isIgnoreInterfaces()) {
+            labels.add(EdgeLabelEnum.INTERFACE);
+        }
+        if (!componentParametersView.isIgnoreComponentInstancesInterfaces()) {
+            labels.add(EdgeLabelEnum.INST_INTERFACES);
+        }
+        if (!componentParametersView.isIgnoreDataType()) {
+            labels.add(EdgeLabelEnum.DATA_TYPES);
+        }
+        return labels;
+    }
+
+    private Either<ToscaElement, StorageOperationStatus> getToscaElementFromGraph(GraphVertex componentV, ComponentParametersView componentParametersView) {
         TopologyTemplate toscaElement;
 
         toscaElement = convertToTopologyTemplate(componentV);
@@ -1329,6 +1408,7 @@ public class TopologyTemplateOperation extends ToscaElementOperation {
             log.debug("Failed to disassociate instances interfaces for {} error {}", toscaElementVertex.getUniqueId(), status);
             return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(status));
         }
+        janusGraphDao.trackChange(toscaElementVertex.getUniqueId());
         toscaElementVertex.getVertex().remove();
         log.trace("Tosca element vertex for {} was removed", toscaElementVertex.getUniqueId());
 
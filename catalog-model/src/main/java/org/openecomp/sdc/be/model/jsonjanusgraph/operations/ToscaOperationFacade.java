@@ -59,6 +59,7 @@ import org.openecomp.sdc.be.dao.jsongraph.HealingJanusGraphDao;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
+import org.openecomp.sdc.be.dao.jsongraph.utils.JsonValueParseException;
 import org.openecomp.sdc.be.datatypes.elements.ArtifactDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.AttributeDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.CapabilityDataDefinition;
@@ -109,7 +110,10 @@ import org.openecomp.sdc.be.model.RequirementDefinition;
 import org.openecomp.sdc.be.model.Resource;
 import org.openecomp.sdc.be.model.Service;
 import org.openecomp.sdc.be.model.User;
+import org.openecomp.sdc.be.model.cache.CatalogIndex;
+import org.openecomp.sdc.be.model.cache.ToscaElementCache;
 import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.catalog.CatalogFilter;
 import org.openecomp.sdc.be.model.jsonjanusgraph.config.ContainerInstanceTypesData;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.TopologyTemplate;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.ToscaElement;
@@ -152,6 +156,10 @@ public class ToscaOperationFacade {
     private HealingJanusGraphDao janusGraphDao;
     @Autowired
     private ContainerInstanceTypesData containerInstanceTypesData;
+    @Autowired
+    private ToscaElementCache toscaElementCache;
+    @Autowired
+    private CatalogIndex catalogIndex;
 
     private static final Logger log = Logger.getLogger(ToscaOperationFacade.class.getName());
     // endregion
@@ -181,7 +189,7 @@ public class ToscaOperationFacade {
             return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(getVertexEither.right().value()));
 
         }
-        return getToscaElementByOperation(getVertexEither.left().value(), filters);
+        return getToscaElementByOperation(getVertexEither.left().value(), filters, filters.detectParseFlag());
     }
 
     public <T extends Component> Either<T, StorageOperationStatus> getToscaElement(String componentId, JsonParseFlagEnum parseFlag) {
@@ -193,7 +201,7 @@ public class ToscaOperationFacade {
             return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(getVertexEither.right().value()));
 
         }
-        return getToscaElementByOperation(getVertexEither.left().value());
+        return getToscaElementByOperation(getVertexEither.left().value(), new ComponentParametersView(), parseFlag);
     }
 
     public <T extends Component> Either<T, StorageOperationStatus> getToscaElement(GraphVertex componentVertex) {
@@ -240,6 +248,15 @@ public class ToscaOperationFacade {
 
     private <T extends Component> Either<T, StorageOperationStatus> getToscaElementByOperation(GraphVertex componentV,
         ComponentParametersView filters) {
+        return getToscaElementByOperation(componentV, filters, null);
+    }
+
+    /**
+     * Fetches the tosca element of the given vertex, using the tosca element cache when the vertex was read by this
+     * facade with a known parse flag. A new component is converted from the tosca element on every call.
+     */
+    private <T extends Component> Either<T, StorageOperationStatus> getToscaElementByOperation(GraphVertex componentV,
+        ComponentParametersView filters, JsonParseFlagEnum parseFlag) {
         if (componentV == null) {
             log.debug("Unexpected null value for `componentV`");
             return Either.right(StorageOperationStatus.GENERAL_ERROR);
@@ -253,14 +270,28 @@ public class ToscaOperationFacade {
 
             Either<ToscaElement, StorageOperationStatus> toscaElement;
             String componentId = componentV.getUniqueId();
-            if (toscaOperation != null) {
-                log.debug("Need to fetch tosca element for id {}", componentId);
-                toscaElement = toscaOperation.getToscaElement(componentV, filters);
-            } else {
-                log.debug("not supported tosca type {} for id {}", label, componentId);
-                toscaElement = Either.right(StorageOperationStatus.BAD_REQUEST);
+            try {
+                Optional<ToscaElement> cachedToscaElement = toscaElementCache.get(componentV, filters, parseFlag);
+                if (cachedToscaElement.isPresent()) {
+                    log.debug("Tosca element for id {} was found in cache", componentId);
+                    toscaElement = Either.left(cachedToscaElement.get());
+                } else if (toscaOperation != null) {
+                    log.debug("Need to fetch tosca element for id {}", componentId);
+                    long cacheGeneration = toscaElementCache.getGeneration();
+                    toscaElement = toscaOperation.getToscaElement(componentV, filters);
+                    if (toscaElement.isLeft()) {
+                        toscaElementCache.put(componentV, filters, parseFlag, toscaElement.left().value(), cacheGeneration);
+                    }
+                } else {
+                    log.debug("not supported tosca type {} for id {}", label, componentId);
+                    toscaElement = Either.right(StorageOperationStatus.BAD_REQUEST);
+                }
+                return toscaElement.left().map(ModelConverter::convertFromToscaElement);
+            } catch (JsonValueParseException e) {
+                // the json of the data vertices is parsed on access, a corrupt value fails the read like a corrupt json
+                log.error("Failed to parse the json of tosca element {}", componentId, e);
+                return Either.right(StorageOperationStatus.GENERAL_ERROR);
             }
-            return toscaElement.left().map(ModelConverter::convertFromToscaElement);
         }
     }
 
@@ -292,6 +323,7 @@ public class ToscaOperationFacade {
 
     // region - ToscaElement Delete
     public StorageOperationStatus markComponentToDelete(Component componentToDelete) {
+        toscaElementCache.invalidate(componentToDelete.getUniqueId());
 
         if (Boolean.TRUE.equals(componentToDelete.getIsDeleted())
             && Boolean.FALSE.equals(componentToDelete.isHighestVersion())) {
@@ -319,6 +351,7 @@ public class ToscaOperationFacade {
     }
 
     public <T extends Component> Either<T, StorageOperationStatus> deleteToscaComponent(String componentId) {
+        toscaElementCache.invalidate(componentId);
 
         Either<GraphVertex, JanusGraphOperationStatus> getVertexEither = janusGraphDao
             .getVertexById(componentId, JsonParseFlagEnum.ParseAll);
@@ -735,6 +768,7 @@ public class ToscaOperationFacade {
 
     public <T extends Component> Either<T, StorageOperationStatus> updateToscaElement(T componentToUpdate, ComponentParametersView filterResult) {
         String componentId = componentToUpdate.getUniqueId();
+        toscaElementCache.invalidate(componentId);
         Either<GraphVertex, JanusGraphOperationStatus> getVertexEither = janusGraphDao
             .getVertexById(componentId, JsonParseFlagEnum.ParseAll);
         if (getVertexEither.isRight()) {
@@ -899,9 +933,26 @@ public class ToscaOperationFacade {
     }
 
     public Either<List<CatalogComponent>, StorageOperationStatus> getCatalogOrArchiveComponents(boolean isCatalog, List<OriginTypeEnum> excludeTypes) {
-        List<ResourceTypeEnum> excludedResourceTypes = Optional.ofNullable(excludeTypes).orElse(Collections.emptyList()).stream().filter(type -> !type.equals(OriginTypeEnum.SERVICE)).map(type -> ResourceTypeEnum.getTypeByName(type.name()))
-                .collect(Collectors.toList());
-        return topologyTemplateOperation.getElementCatalogData(isCatalog, excludedResourceTypes);
+        return getCatalogOrArchiveComponents(isCatalog, CatalogFilter.excluding(excludeTypes));
+    }
+
+    public Either<List<CatalogComponent>, StorageOperationStatus> getCatalogOrArchiveComponents(boolean isCatalog, CatalogFilter filter) {
+        if (catalogIndex.isEnabled()) {
+            return catalogIndex.getComponents(isCatalog, filter);
+        }
+        return topologyTemplateOperation.getElementCatalogData(isCatalog, filter.getExcludeTypes())
+                .left()
+                .map(components -> components.stream().filter(filter::matches).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the version of the catalog served by the catalog index, empty when the catalog is not indexed.
+     */
+    public Either<Optional<Long>, StorageOperationStatus> getCatalogVersion() {
+        if (!catalogIndex.isEnabled()) {
+            return Either.left(Optional.empty());
+        }
+        return catalogIndex.getVersion().left().map(Optional::of);
     }
 
     // endregion
@@ -0,0 +1,64 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.operations.impl;
+
+import fj.data.Either;
+import org.openecomp.sdc.be.config.Configuration.ComponentLockConfig;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.cassandra.ComponentLockCassandraDao;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+
+/**
+ * Component leases shared by all the backends, kept in Cassandra with lightweight transactions.
+ */
+public class CassandraComponentLeaseService extends ComponentLeaseService {
+
+    private final ComponentLockCassandraDao componentLockCassandraDao;
+
+    public CassandraComponentLeaseService(ComponentLockCassandraDao componentLockCassandraDao, ComponentLockConfig config) {
+        this(componentLockCassandraDao, config, DEFAULT_MAX_LEASE_AGE_IN_SEC);
+    }
+
+    public CassandraComponentLeaseService(ComponentLockCassandraDao componentLockCassandraDao, ComponentLockConfig config,
+                                          long maxLeaseAgeInSec) {
+        super(config, maxLeaseAgeInSec);
+        this.componentLockCassandraDao = componentLockCassandraDao;
+    }
+
+    @Override
+    protected Either<Boolean, StorageOperationStatus> acquire(String lockId, long token) {
+        return toStorageStatus(componentLockCassandraDao.acquire(lockId, owner, token, leaseTtlInSec));
+    }
+
+    @Override
+    protected Either<Boolean, StorageOperationStatus> renew(String lockId, long token) {
+        return toStorageStatus(componentLockCassandraDao.renew(lockId, owner, token, leaseTtlInSec));
+    }
+
+    @Override
+    protected Either<Boolean, StorageOperationStatus> release(String lockId, long token) {
+        return toStorageStatus(componentLockCassandraDao.release(lockId, owner, token));
+    }
+
+    private static Either<Boolean, StorageOperationStatus> toStorageStatus(Either<Boolean, CassandraOperationStatus> result) {
+        return result.right().map(DaoStatusConverter::convertCassandraStatusToStorageStatus);
+    }
+}
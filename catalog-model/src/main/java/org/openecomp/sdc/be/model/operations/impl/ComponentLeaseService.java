@@ -0,0 +1,293 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.operations.impl;
+
+import fj.data.Either;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.openecomp.sdc.be.config.Configuration.ComponentLockConfig;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+/**
+ * Component locks kept as leases with a time to live instead of lock vertices in the graph.
+ * <p>
+ * Every lease taken by this backend is renewed by a heartbeat until it is released, so a lease expires only when its
+ * backend is gone, or once it was held for longer than the max lease age. A lease held that long is released like a
+ * stale lock vertex is, so a lock forgotten by its holder does not stay taken forever. Every lease carries a token
+ * telling it apart from the other leases taken by this backend, and a lease is renewed or released only as long as it
+ * still has the same owner and token. The token is not a fencing token, the lease store does not order the tokens of
+ * different backends. A lock held by this backend is refused locally, without going to the lease store.
+ */
+public abstract class ComponentLeaseService {
+
+    private static final Logger log = Logger.getLogger(ComponentLeaseService.class.getName());
+    static final long DEFAULT_MAX_LEASE_AGE_IN_SEC = 1800;
+
+    protected final String owner;
+    protected final int leaseTtlInSec;
+    private final int heartbeatIntervalInSec;
+    private final long lockWaitTimeoutMs;
+    private final long lockRetryIntervalMs;
+    private final long maxLeaseAgeMs;
+    private final Map<String, Lease> heldLeases = new ConcurrentHashMap<>();
+    private final AtomicLong lastToken = new AtomicLong();
+    private ScheduledExecutorService heartbeatService;
+
+    private final AtomicLong acquiredLocks = new AtomicLong();
+    private final AtomicLong contendedLocks = new AtomicLong();
+    private final AtomicLong failedLocks = new AtomicLong();
+    private final AtomicLong lostLeases = new AtomicLong();
+    private final AtomicLong expiredLeases = new AtomicLong();
+    private final AtomicLong totalLockWaitMs = new AtomicLong();
+    private final AtomicLong maxLockWaitMs = new AtomicLong();
+
+    protected ComponentLeaseService(ComponentLockConfig config) {
+        this(config, DEFAULT_MAX_LEASE_AGE_IN_SEC);
+    }
+
+    /**
+     * @param maxLeaseAgeInSec how long a lease may be held before it is released by the heartbeat, like the
+     *                         janusGraphLockTimeout of the lock vertices
+     */
+    protected ComponentLeaseService(ComponentLockConfig config, long maxLeaseAgeInSec) {
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "_" + UUID.randomUUID();
+        this.leaseTtlInSec = Math.max(1, config.getLeaseTtlInSec());
+        this.heartbeatIntervalInSec = Math.max(1, Math.min(config.getHeartbeatIntervalInSec(), leaseTtlInSec / 2));
+        this.lockWaitTimeoutMs = Math.max(0, config.getLockWaitTimeoutMs());
+        this.lockRetryIntervalMs = Math.max(1, config.getLockRetryIntervalMs());
+        this.maxLeaseAgeMs = TimeUnit.SECONDS.toMillis(Math.max(0, maxLeaseAgeInSec));
+    }
+
+    /**
+     * Takes the lease of the given lock.
+     */
+    protected abstract Either<Boolean, StorageOperationStatus> acquire(String lockId, long token);
+
+    /**
+     * Extends the lease of the given lock by its time to live, as long as it is still held with the given token.
+     */
+    protected abstract Either<Boolean, StorageOperationStatus> renew(String lockId, long token);
+
+    /**
+     * Drops the lease of the given lock, as long as it is still held with the given token.
+     */
+    protected abstract Either<Boolean, StorageOperationStatus> release(String lockId, long token);
+
+    public void start() {
+        heartbeatService = Executors.newSingleThreadScheduledExecutor(
+            new BasicThreadFactory.Builder().namingPattern("ComponentLeaseHeartbeat-%d").daemon(true).build());
+        heartbeatService.scheduleWithFixedDelay(this::renewHeldLeases, heartbeatIntervalInSec, heartbeatIntervalInSec,
+            TimeUnit.SECONDS);
+        log.info("Component lease service started. owner {}, lease ttl {} seconds, heartbeat every {} seconds, max lease "
+            + "age {} seconds", owner, leaseTtlInSec, heartbeatIntervalInSec, TimeUnit.MILLISECONDS.toSeconds(maxLeaseAgeMs));
+    }
+
+    public void shutdown() {
+        if (heartbeatService != null) {
+            heartbeatService.shutdownNow();
+            heartbeatService = null;
+        }
+        heldLeases.keySet().forEach(this::unlock);
+    }
+
+    public StorageOperationStatus lock(String lockId) {
+        long start = System.currentTimeMillis();
+        long deadline = start + lockWaitTimeoutMs;
+        StorageOperationStatus status = tryLock(lockId);
+        while (status == StorageOperationStatus.FAILED_TO_LOCK_ELEMENT && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(lockRetryIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            status = tryLock(lockId);
+        }
+        recordLockWait(lockId, status, System.currentTimeMillis() - start);
+        return status;
+    }
+
+    private StorageOperationStatus tryLock(String lockId) {
+        Lease lease = new Lease(lockId, nextToken());
+        if (heldLeases.putIfAbsent(lockId, lease) != null) {
+            log.debug("Lock {} is already held by this backend", lockId);
+            return StorageOperationStatus.FAILED_TO_LOCK_ELEMENT;
+        }
+        Either<Boolean, StorageOperationStatus> result = acquire(lockId, lease.getToken());
+        if (result.isLeft() && result.left().value()) {
+            log.debug("Lock {} acquired with token {}", lockId, lease.getToken());
+            return StorageOperationStatus.OK;
+        }
+        heldLeases.remove(lockId, lease);
+        if (result.isRight()) {
+            log.debug("Failed to acquire lock {}. status is {}", lockId, result.right().value());
+            return result.right().value();
+        }
+        log.debug("Lock {} is held by another backend", lockId);
+        return StorageOperationStatus.FAILED_TO_LOCK_ELEMENT;
+    }
+
+    public StorageOperationStatus unlock(String lockId) {
+        Lease lease = heldLeases.remove(lockId);
+        if (lease == null) {
+            log.debug("Lock {} is not held by this backend", lockId);
+            return StorageOperationStatus.NOT_FOUND;
+        }
+        Either<Boolean, StorageOperationStatus> result = release(lockId, lease.getToken());
+        if (result.isRight()) {
+            log.debug("Failed to release lock {}. status is {}", lockId, result.right().value());
+            return result.right().value();
+        }
+        if (!result.left().value()) {
+            log.debug("Lease of lock {} with token {} was already lost", lockId, lease.getToken());
+            return StorageOperationStatus.NOT_FOUND;
+        }
+        log.debug("Lock {} released", lockId);
+        return StorageOperationStatus.OK;
+    }
+
+    public Optional<Lease> getLease(String lockId) {
+        return Optional.ofNullable(heldLeases.get(lockId));
+    }
+
+    void renewHeldLeases() {
+        long now = System.currentTimeMillis();
+        for (Lease lease : heldLeases.values()) {
+            if (now - lease.getAcquireTime() >= maxLeaseAgeMs) {
+                releaseExpiredLease(lease);
+                continue;
+            }
+            try {
+                Either<Boolean, StorageOperationStatus> result = renew(lease.getLockId(), lease.getToken());
+                if (result.isRight()) {
+                    log.debug("Failed to renew the lease of lock {}. status is {}", lease.getLockId(), result.right().value());
+                } else if (!result.left().value() && heldLeases.remove(lease.getLockId(), lease)) {
+                    lostLeases.incrementAndGet();
+                    log.warn("Lease of lock {} with token {} was lost", lease.getLockId(), lease.getToken());
+                }
+            } catch (Exception e) {
+                log.debug("Failed to renew the lease of lock {}", lease.getLockId(), e);
+            }
+        }
+    }
+
+    private void releaseExpiredLease(Lease lease) {
+        if (!heldLeases.remove(lease.getLockId(), lease)) {
+            return;
+        }
+        expiredLeases.incrementAndGet();
+        log.warn("Lease of lock {} with token {} was held for more than {} seconds and is released", lease.getLockId(),
+            lease.getToken(), TimeUnit.MILLISECONDS.toSeconds(maxLeaseAgeMs));
+        try {
+            Either<Boolean, StorageOperationStatus> result = release(lease.getLockId(), lease.getToken());
+            if (result.isRight()) {
+                log.debug("Failed to release the lease of lock {}. status is {}", lease.getLockId(), result.right().value());
+            }
+        } catch (Exception e) {
+            log.debug("Failed to release the lease of lock {}", lease.getLockId(), e);
+        }
+    }
+
+    private long nextToken() {
+        return lastToken.incrementAndGet();
+    }
+
+    private void recordLockWait(String lockId, StorageOperationStatus status, long waitMs) {
+        if (status == StorageOperationStatus.OK) {
+            acquiredLocks.incrementAndGet();
+        } else if (status == StorageOperationStatus.FAILED_TO_LOCK_ELEMENT) {
+            contendedLocks.incrementAndGet();
+        } else {
+            failedLocks.incrementAndGet();
+        }
+        totalLockWaitMs.addAndGet(waitMs);
+        maxLockWaitMs.accumulateAndGet(waitMs, Math::max);
+        log.debug("Lock {} took {} milliseconds. status is {}", lockId, waitMs, status);
+    }
+
+    public int getHeldLeases() {
+        return heldLeases.size();
+    }
+
+    public long getAcquiredLocks() {
+        return acquiredLocks.get();
+    }
+
+    public long getContendedLocks() {
+        return contendedLocks.get();
+    }
+
+    public long getFailedLocks() {
+        return failedLocks.get();
+    }
+
+    public long getLostLeases() {
+        return lostLeases.get();
+    }
+
+    public long getExpiredLeases() {
+        return expiredLeases.get();
+    }
+
+    public long getTotalLockWaitMs() {
+        return totalLockWaitMs.get();
+    }
+
+    public long getMaxLockWaitMs() {
+        return maxLockWaitMs.get();
+    }
+
+    public static final class Lease {
+
+        private final String lockId;
+        private final long token;
+        private final long acquireTime = System.currentTimeMillis();
+
+        Lease(String lockId, long token) {
+            this.lockId = lockId;
+            this.token = token;
+        }
+
+        public String getLockId() {
+            return lockId;
+        }
+
+        /**
+         * The token of the lease, different from the token of any other lease taken by this backend.
+         */
+        public long getToken() {
+            return token;
+        }
+
+        public long getAcquireTime() {
+            return acquireTime;
+        }
+    }
+}
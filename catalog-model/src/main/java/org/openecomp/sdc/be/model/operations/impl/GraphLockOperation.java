@@ -20,6 +20,12 @@
 
 package org.openecomp.sdc.be.model.operations.impl;
 
+import java.util.Optional;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.openecomp.sdc.be.config.Configuration.ComponentLockConfig;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.dao.cassandra.ComponentLockCassandraDao;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphGenericDao;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
 import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
@@ -28,17 +34,78 @@ import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
 import org.openecomp.sdc.common.log.wrappers.Logger;
 import org.springframework.stereotype.Component;
 
+/**
+ * Locks the components while they are edited. By default a lock is a vertex in the graph, the componentLock
+ * configuration may switch the locks to leases kept in Cassandra or in memory instead.
+ */
 @Component("graph-lock-operation")
 public class GraphLockOperation implements IGraphLockOperation {
     private static final Logger log = Logger.getLogger(GraphLockOperation.class.getName());
+    private static final String LOCK_ID_PREFIX = "lock_";
 
     @javax.annotation.Resource
     private JanusGraphGenericDao janusGraphGenericDao;
 
+    @javax.annotation.Resource
+    private ComponentLockCassandraDao componentLockCassandraDao;
+
+    private ComponentLeaseService componentLeaseService;
+
     public GraphLockOperation() {
         super();
     }
 
+    @PostConstruct
+    public void init() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        ComponentLockConfig lockConfig = configurationManager == null ? null
+            : configurationManager.getConfiguration().getComponentLock();
+        if (lockConfig == null || lockConfig.getType() == null || lockConfig.getType() == ComponentLockConfig.LockType.GRAPH) {
+            log.debug("Components are locked with lock vertices in the graph");
+            return;
+        }
+        Long lockTimeout = configurationManager.getConfiguration().getJanusGraphLockTimeout();
+        long maxLeaseAgeInSec = lockTimeout == null || lockTimeout <= 0 ? ComponentLeaseService.DEFAULT_MAX_LEASE_AGE_IN_SEC
+            : lockTimeout;
+        if (lockConfig.getType() == ComponentLockConfig.LockType.CASSANDRA) {
+            componentLeaseService = new CassandraComponentLeaseService(componentLockCassandraDao, lockConfig, maxLeaseAgeInSec);
+        } else {
+            componentLeaseService = new LocalComponentLeaseService(lockConfig, maxLeaseAgeInSec);
+        }
+        componentLeaseService.start();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (componentLeaseService != null) {
+            componentLeaseService.shutdown();
+        }
+    }
+
+    void setComponentLeaseService(ComponentLeaseService componentLeaseService) {
+        this.componentLeaseService = componentLeaseService;
+    }
+
+    public Optional<ComponentLeaseService> getComponentLeaseService() {
+        return Optional.ofNullable(componentLeaseService);
+    }
+
+    private static String getLockId(String id, NodeTypeEnum nodeType) {
+        return LOCK_ID_PREFIX + nodeType.getName() + "_" + id;
+    }
+
+    /**
+     * Commits the graph transaction of the caller before its lease is released, like releasing a lock vertex does,
+     * so the changes made under the lock are visible to the next one taking it.
+     */
+    private StorageOperationStatus releaseLease(String id, NodeTypeEnum nodeType) {
+        JanusGraphOperationStatus commitStatus = janusGraphGenericDao.commit();
+        if (commitStatus != JanusGraphOperationStatus.OK) {
+            log.debug("Failed to commit before releasing the lock of {}. status is {}", id, commitStatus);
+        }
+        return componentLeaseService.unlock(getLockId(id, nodeType));
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -47,6 +114,9 @@ public class GraphLockOperation implements IGraphLockOperation {
     @Override
     public StorageOperationStatus lockComponent(String componentId, NodeTypeEnum nodeType) {
         log.info("lock resource with id {}", componentId);
+        if (componentLeaseService != null) {
+            return componentLeaseService.lock(getLockId(componentId, nodeType));
+        }
         JanusGraphOperationStatus lockElementStatus = null;
         try {
             lockElementStatus = janusGraphGenericDao.lockElement(componentId, nodeType);
@@ -66,6 +136,9 @@ public class GraphLockOperation implements IGraphLockOperation {
      */
     @Override
     public StorageOperationStatus unlockComponent(String componentId, NodeTypeEnum nodeType) {
+        if (componentLeaseService != null) {
+            return releaseLease(componentId, nodeType);
+        }
         JanusGraphOperationStatus lockElementStatus = janusGraphGenericDao
             .releaseElement(componentId, nodeType);
         return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(lockElementStatus);
@@ -73,6 +146,9 @@ public class GraphLockOperation implements IGraphLockOperation {
 
     @Override
     public StorageOperationStatus unlockComponentByName(String name, String componentId, NodeTypeEnum nodeType) {
+        if (componentLeaseService != null) {
+            return releaseLease(name, nodeType);
+        }
         JanusGraphOperationStatus
             lockElementStatus = janusGraphGenericDao.releaseElement(name, nodeType);
         return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(lockElementStatus);
@@ -81,6 +157,9 @@ public class GraphLockOperation implements IGraphLockOperation {
     @Override
     public StorageOperationStatus lockComponentByName(String name, NodeTypeEnum nodeType) {
         log.info("lock resource with name {}", name);
+        if (componentLeaseService != null) {
+            return componentLeaseService.lock(getLockId(name, nodeType));
+        }
         JanusGraphOperationStatus lockElementStatus = null;
         try {
 
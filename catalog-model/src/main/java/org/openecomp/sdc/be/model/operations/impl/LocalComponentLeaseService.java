@@ -0,0 +1,91 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.operations.impl;
+
+import fj.data.Either;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openecomp.sdc.be.config.Configuration.ComponentLockConfig;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+
+/**
+ * Component leases kept in memory, for a deployment with a single backend only.
+ */
+public class LocalComponentLeaseService extends ComponentLeaseService {
+
+    private final Map<String, LocalLease> leases = new ConcurrentHashMap<>();
+
+    public LocalComponentLeaseService(ComponentLockConfig config) {
+        super(config);
+    }
+
+    public LocalComponentLeaseService(ComponentLockConfig config, long maxLeaseAgeInSec) {
+        super(config, maxLeaseAgeInSec);
+    }
+
+    @Override
+    protected Either<Boolean, StorageOperationStatus> acquire(String lockId, long token) {
+        LocalLease newLease = new LocalLease(token, expirationTime());
+        LocalLease lease = leases.compute(lockId,
+            (id, current) -> current == null || current.isExpired() ? newLease : current);
+        return Either.left(lease == newLease);
+    }
+
+    @Override
+    protected Either<Boolean, StorageOperationStatus> renew(String lockId, long token) {
+        LocalLease lease = leases.computeIfPresent(lockId,
+            (id, current) -> current.token == token && !current.isExpired() ? new LocalLease(token, expirationTime()) : current);
+        return Either.left(lease != null && lease.token == token && !lease.isExpired());
+    }
+
+    @Override
+    protected Either<Boolean, StorageOperationStatus> release(String lockId, long token) {
+        boolean[] released = {false};
+        leases.computeIfPresent(lockId, (id, current) -> {
+            if (current.token == token) {
+                released[0] = !current.isExpired();
+                return null;
+            }
+            return current.isExpired() ? null : current;
+        });
+        return Either.left(released[0]);
+    }
+
+    private long expirationTime() {
+        return System.nanoTime() + TimeUnit.SECONDS.toNanos(leaseTtlInSec);
+    }
+
+    private static final class LocalLease {
+
+        private final long token;
+        private final long expirationTime;
+
+        private LocalLease(long token, long expirationTime) {
+            this.token = token;
+            this.expirationTime = expirationTime;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - expirationTime > 0;
+        }
+    }
+}
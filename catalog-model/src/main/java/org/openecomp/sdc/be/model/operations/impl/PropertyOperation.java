@@ -1898,12 +1898,14 @@ public class PropertyOperation extends AbstractOperation implements IPropertyOpe
 	}
 
 	/**
-	 * Build Data type object from graph by unique id
+	 * Build Data type object from graph by unique id and add it to the received data types by name. The parent data
+	 * type is taken from the received data types when it is already there.
 	 * 
 	 * @param uniqueId
+	 * @param allDataTypes
 	 * @return
 	 */
-	private Either<DataTypeDefinition, JanusGraphOperationStatus> getAndAddDataTypeByUid(String uniqueId, Map<String, DataTypeDefinition> allDataTypes) {
+	public Either<DataTypeDefinition, JanusGraphOperationStatus> getAndAddDataTypeByUid(String uniqueId, Map<String, DataTypeDefinition> allDataTypes) {
 
 		Either<DataTypeDefinition, JanusGraphOperationStatus> result = null;
 
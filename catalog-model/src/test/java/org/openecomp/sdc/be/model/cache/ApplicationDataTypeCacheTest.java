@@ -30,17 +30,24 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphGenericDao;
+import org.openecomp.sdc.be.datatypes.elements.DataTypeDataDefinition;
 import org.openecomp.sdc.be.model.DataTypeDefinition;
 import org.openecomp.sdc.be.model.operations.impl.PropertyOperation;
 import org.openecomp.sdc.be.resources.data.DataTypeData;
 import org.openecomp.sdc.be.unittests.utils.ModelConfDependentTest;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import org.springframework.context.ApplicationEventPublisher;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
 public class ApplicationDataTypeCacheTest extends ModelConfDependentTest{
 
 	@InjectMocks
@@ -191,4 +198,82 @@ public class ApplicationDataTypeCacheTest extends ModelConfDependentTest{
 		// default test
 		Deencapsulation.invoke(testSubject, "replaceAllData");
 	}
+
+	@Test
+	public void testRunFetchesOnlyChangedDataTypesAndTheirDerivedTypes() throws Exception {
+		DataTypeDataDefinition root = createDataTypeNode("root", null, 1L);
+		DataTypeDataDefinition derived = createDataTypeNode("derived", "root", 1L);
+		DataTypeDataDefinition other = createDataTypeNode("other", null, 1L);
+		Map<String, DataTypeDefinition> cached = new HashMap<>();
+		Arrays.asList(root, derived, other).forEach(node -> cached.put(node.getName(), new DataTypeDefinition(node)));
+		Mockito.when(propertyOperation.getAllDataTypes()).thenReturn(Either.left(cached));
+		Mockito.when(propertyOperation.getJanusGraphGenericDao()).thenReturn(Mockito.mock(JanusGraphGenericDao.class));
+		Deencapsulation.invoke(testSubject, "replaceAllData");
+		DataTypeDefinition cachedOther = testSubject.getAll().left().value().get("other");
+
+		DataTypeDataDefinition updatedRoot = createDataTypeNode("root", null, 2L);
+		DataTypeDataDefinition added = createDataTypeNode("added", null, 2L);
+		List<DataTypeData> nodes = Arrays.asList(new DataTypeData(updatedRoot), new DataTypeData(derived),
+				new DataTypeData(other), new DataTypeData(added));
+		Mockito.when(propertyOperation.getAllDataTypeNodes()).thenReturn(Either.left(nodes));
+		Mockito.when(propertyOperation.getAndAddDataTypeByUid(Mockito.anyString(), Mockito.anyMap())).thenAnswer(invocation -> {
+			String uniqueId = invocation.getArgument(0);
+			Map<String, DataTypeDefinition> dataTypes = invocation.getArgument(1);
+			DataTypeDataDefinition node = nodes.stream().map(DataTypeData::getDataTypeDataDefinition)
+					.filter(n -> n.getUniqueId().equals(uniqueId)).findFirst().get();
+			DataTypeDefinition dataType = new DataTypeDefinition(node);
+			dataType.setDerivedFrom(dataTypes.get(node.getDerivedFromName()));
+			dataTypes.put(node.getName(), dataType);
+			return Either.left(dataType);
+		});
+
+		testSubject.run();
+
+		Mockito.verify(propertyOperation, Mockito.times(1)).getAllDataTypes();
+		Mockito.verify(propertyOperation, Mockito.times(3)).getAndAddDataTypeByUid(Mockito.anyString(), Mockito.anyMap());
+		Map<String, DataTypeDefinition> data = testSubject.getAll().left().value();
+		assertEquals(4, data.size());
+		assertSame(cachedOther, data.get("other"));
+		assertSame(data.get("root"), data.get("derived").getDerivedFrom());
+		assertEquals(Long.valueOf(2L), data.get("root").getModificationTime());
+		assertSame(data.get("added"), testSubject.get("added.datatype").left().value());
+	}
+
+	@Test
+	public void testRunDropsDeletedDataTypes() throws Exception {
+		DataTypeDataDefinition kept = createDataTypeNode("kept", null, 1L);
+		DataTypeDataDefinition deleted = createDataTypeNode("deleted", null, 1L);
+		Map<String, DataTypeDefinition> cached = new HashMap<>();
+		Arrays.asList(kept, deleted).forEach(node -> cached.put(node.getName(), new DataTypeDefinition(node)));
+		Mockito.when(propertyOperation.getAllDataTypes()).thenReturn(Either.left(cached));
+		Mockito.when(propertyOperation.getJanusGraphGenericDao()).thenReturn(Mockito.mock(JanusGraphGenericDao.class));
+		Deencapsulation.invoke(testSubject, "replaceAllData");
+		Map<String, DataTypeDefinition> before = testSubject.getAll().left().value();
+
+		List<DataTypeData> nodes = Arrays.asList(new DataTypeData(kept));
+		Mockito.when(propertyOperation.getAllDataTypeNodes()).thenReturn(Either.left(nodes));
+		testSubject.run();
+
+		Map<String, DataTypeDefinition> after = testSubject.getAll().left().value();
+		assertEquals(1, after.size());
+		assertEquals(2, before.size());
+		assertNotSame(before, after);
+		Mockito.verify(propertyOperation, Mockito.never()).getAndAddDataTypeByUid(Mockito.anyString(), Mockito.anyMap());
+	}
+
+	@Test
+	public void testRefreshDataTypesWhenCacheIsNotStarted() throws Exception {
+		testSubject.refreshDataTypes();
+		Mockito.verifyZeroInteractions(propertyOperation);
+	}
+
+	private DataTypeDataDefinition createDataTypeNode(String name, String derivedFromName, Long modificationTime) {
+		DataTypeDataDefinition node = new DataTypeDataDefinition();
+		node.setName(name);
+		node.setUniqueId(name + ".datatype");
+		node.setDerivedFromName(derivedFromName);
+		node.setCreationTime(1L);
+		node.setModificationTime(modificationTime);
+		return node;
+	}
 }
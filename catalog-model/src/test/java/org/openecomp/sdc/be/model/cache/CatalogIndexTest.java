@@ -0,0 +1,199 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import fj.data.Either;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.cassandra.CatalogVersionCassandraDao;
+import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
+import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
+import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
+import org.openecomp.sdc.be.model.LifecycleStateEnum;
+import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.catalog.CatalogFilter;
+import org.openecomp.sdc.be.model.jsonjanusgraph.operations.TopologyTemplateOperation;
+
+class CatalogIndexTest {
+
+    private JanusGraphDao janusGraphDao;
+    private TopologyTemplateOperation topologyTemplateOperation;
+    private CatalogVersionCassandraDao catalogVersionCassandraDao;
+    private CatalogIndex testSubject;
+
+    @BeforeEach
+    void setUp() {
+        janusGraphDao = mock(JanusGraphDao.class);
+        topologyTemplateOperation = mock(TopologyTemplateOperation.class);
+        catalogVersionCassandraDao = mock(CatalogVersionCassandraDao.class);
+        testSubject = new CatalogIndex(janusGraphDao, topologyTemplateOperation, catalogVersionCassandraDao);
+        testSubject.enable(Runnable::run);
+        when(catalogVersionCassandraDao.getVersion()).thenReturn(Either.left(1L));
+        when(topologyTemplateOperation.getElementCatalogData(true, null)).thenReturn(Either.left(Arrays.asList(
+            createComponent("vf1", ComponentTypeEnum.RESOURCE, "network"),
+            createComponent("vf2", ComponentTypeEnum.RESOURCE, "generic"),
+            createComponent("service1", ComponentTypeEnum.SERVICE, "network"))));
+        when(topologyTemplateOperation.getElementCatalogData(false, null)).thenReturn(Either.left(Collections.emptyList()));
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        assertFalse(new CatalogIndex(janusGraphDao, topologyTemplateOperation, catalogVersionCassandraDao).isEnabled());
+        assertTrue(testSubject.isEnabled());
+    }
+
+    @Test
+    void testComponentsAreFilteredByIndexKeys() {
+        CatalogFilter filter = new CatalogFilter();
+        filter.setCategoryNormalizedName("network");
+        filter.setComponentType(ComponentTypeEnum.RESOURCE);
+
+        List<CatalogComponent> components = testSubject.getComponents(true, filter).left().value();
+        assertEquals(1, components.size());
+        assertEquals("vf1", components.get(0).getUniqueId());
+        assertEquals(3, testSubject.getComponents(true, new CatalogFilter()).left().value().size());
+        assertTrue(testSubject.getComponents(false, new CatalogFilter()).left().value().isEmpty());
+    }
+
+    @Test
+    void testExcludedResourceTypesAreFilteredOut() {
+        CatalogFilter filter = new CatalogFilter();
+        filter.setExcludeTypes(Collections.singletonList(ResourceTypeEnum.VF));
+
+        List<CatalogComponent> components = testSubject.getComponents(true, filter).left().value();
+        assertEquals(1, components.size());
+        assertEquals("service1", components.get(0).getUniqueId());
+    }
+
+    @Test
+    void testIndexIsBuiltOnceForTheSameCatalogVersion() {
+        testSubject.getComponents(true, new CatalogFilter());
+        testSubject.getComponents(true, new CatalogFilter());
+
+        verify(topologyTemplateOperation, times(1)).getElementCatalogData(true, null);
+    }
+
+    @Test
+    void testCommittedChangesAreAppliedIncrementally() {
+        testSubject.getComponents(true, new CatalogFilter());
+        CatalogComponent archived = createComponent("vf2", ComponentTypeEnum.RESOURCE, "generic");
+        when(topologyTemplateOperation.getElementCatalogDataByIds(eq(true), anyCollection())).thenReturn(Either.left(Collections.emptyList()));
+        when(topologyTemplateOperation.getElementCatalogDataByIds(eq(false), anyCollection())).thenReturn(Either.left(Collections.singletonList(archived)));
+        when(catalogVersionCassandraDao.incrementVersion()).thenReturn(Either.left(2L));
+        testSubject.onCommittedChanges(Collections.singleton("vf2"));
+        when(catalogVersionCassandraDao.getVersion()).thenReturn(Either.left(2L));
+
+        assertEquals(2, testSubject.getComponents(true, new CatalogFilter()).left().value().size());
+        assertEquals(1, testSubject.getComponents(false, new CatalogFilter()).left().value().size());
+        verify(topologyTemplateOperation, times(1)).getElementCatalogData(true, null);
+        verify(janusGraphDao).rollback();
+    }
+
+    @Test
+    void testCatalogVersionIsMovedForwardBeforeTheChangesAreApplied() {
+        CatalogIndex index = new CatalogIndex(janusGraphDao, topologyTemplateOperation, catalogVersionCassandraDao);
+        index.enable(command -> { });
+        index.getComponents(true, new CatalogFilter());
+        when(topologyTemplateOperation.getElementCatalogDataByIds(eq(true), anyCollection())).thenReturn(Either.left(Collections.emptyList()));
+        when(topologyTemplateOperation.getElementCatalogDataByIds(eq(false), anyCollection())).thenReturn(Either.left(Collections.emptyList()));
+        when(catalogVersionCassandraDao.incrementVersion()).thenReturn(Either.left(2L));
+        index.onCommittedChanges(Collections.singleton("vf2"));
+        verify(catalogVersionCassandraDao).incrementVersion();
+        when(catalogVersionCassandraDao.getVersion()).thenReturn(Either.left(2L));
+
+        assertEquals(2, index.getComponents(true, new CatalogFilter()).left().value().size());
+        verify(topologyTemplateOperation, times(1)).getElementCatalogData(true, null);
+        verify(janusGraphDao, never()).rollback();
+    }
+
+    @Test
+    void testChangesFromAnotherVersionRebuildTheIndex() {
+        testSubject.getComponents(true, new CatalogFilter());
+        when(catalogVersionCassandraDao.incrementVersion()).thenReturn(Either.left(6L));
+        testSubject.onCommittedChanges(Collections.singleton("vf2"));
+        when(catalogVersionCassandraDao.getVersion()).thenReturn(Either.left(6L));
+
+        testSubject.getComponents(true, new CatalogFilter());
+        verify(topologyTemplateOperation, times(2)).getElementCatalogData(true, null);
+        verify(topologyTemplateOperation, times(0)).getElementCatalogDataByIds(anyBoolean(), anyCollection());
+    }
+
+    @Test
+    void testChangesOfAnotherBackendRebuildTheIndex() {
+        testSubject.getComponents(true, new CatalogFilter());
+        when(catalogVersionCassandraDao.getVersion()).thenReturn(Either.left(2L));
+
+        testSubject.getComponents(true, new CatalogFilter());
+        verify(topologyTemplateOperation, times(2)).getElementCatalogData(true, null);
+    }
+
+    @Test
+    void testChangesAreKeptWhenTheCatalogVersionCannotBeMovedForward() {
+        testSubject.getComponents(true, new CatalogFilter());
+        when(catalogVersionCassandraDao.incrementVersion()).thenReturn(Either.right(CassandraOperationStatus.GENERAL_ERROR));
+        testSubject.onCommittedChanges(Collections.singleton("vf2"));
+
+        verify(topologyTemplateOperation, never()).getElementCatalogDataByIds(anyBoolean(), anyCollection());
+        when(catalogVersionCassandraDao.incrementVersion()).thenReturn(Either.left(2L));
+        testSubject.onCommittedChanges(Collections.singleton("vf1"));
+        verify(catalogVersionCassandraDao, times(2)).incrementVersion();
+        testSubject.getComponents(true, new CatalogFilter());
+        verify(topologyTemplateOperation, times(2)).getElementCatalogData(true, null);
+    }
+
+    @Test
+    void testTransactionsWithoutChangedComponentsDoNotMoveTheCatalogVersion() {
+        testSubject.getComponents(true, new CatalogFilter());
+        testSubject.onCommittedChanges(Collections.emptySet());
+
+        verify(catalogVersionCassandraDao, never()).incrementVersion();
+    }
+
+    private CatalogComponent createComponent(String uniqueId, ComponentTypeEnum componentType, String category) {
+        CatalogComponent component = new CatalogComponent();
+        component.setUniqueId(uniqueId);
+        component.setName(uniqueId);
+        component.setComponentType(componentType);
+        component.setCategoryNormalizedName(category);
+        component.setLifecycleState(LifecycleStateEnum.CERTIFIED.name());
+        component.setIsHighestVersion(true);
+        if (componentType == ComponentTypeEnum.RESOURCE) {
+            component.setResourceType(ResourceTypeEnum.VF.name());
+        }
+        return component;
+    }
+}
@@ -0,0 +1,197 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
+import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
+import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
+import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
+import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
+import org.openecomp.sdc.be.datatypes.enums.JsonPresentationFields;
+import org.openecomp.sdc.be.model.ComponentParametersView;
+import org.openecomp.sdc.be.model.DistributionStatusEnum;
+import org.openecomp.sdc.be.model.LifecycleStateEnum;
+import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.ToscaElement;
+import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.TopologyTemplate;
+
+class ToscaElementCacheTest {
+
+    private static final String COMPONENT_ID = "componentId";
+
+    private JanusGraphDao janusGraphDao;
+    private ToscaElementCache testSubject;
+
+    @BeforeEach
+    void setUp() {
+        janusGraphDao = mock(JanusGraphDao.class);
+        testSubject = new ToscaElementCache(janusGraphDao);
+        testSubject.init(10);
+    }
+
+    @Test
+    void testCertifiedElementIsCached() {
+        GraphVertex componentV = createVertex(LifecycleStateEnum.CERTIFIED);
+        ToscaElement toscaElement = new TopologyTemplate();
+        toscaElement.setUUID("uuid");
+        put(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll, toscaElement);
+
+        ToscaElement cachedElement = testSubject.get(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll).get();
+        assertNotSame(toscaElement, cachedElement);
+        assertEquals("uuid", cachedElement.getUUID());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEveryHitIsANewCopy() {
+        GraphVertex componentV = createVertex(LifecycleStateEnum.CERTIFIED);
+        ToscaElement toscaElement = new TopologyTemplate();
+        toscaElement.setMetadataValue(JsonPresentationFields.TAGS, new ArrayList<>(Collections.singletonList("tag")));
+        put(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll, toscaElement);
+        ((List<String>) toscaElement.getMetadataValue(JsonPresentationFields.TAGS)).add("changedAfterPut");
+
+        ToscaElement firstHit = testSubject.get(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll).get();
+        ((List<String>) firstHit.getMetadataValue(JsonPresentationFields.TAGS)).add("changedByCaller");
+
+        ToscaElement secondHit = testSubject.get(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll).get();
+        assertNotSame(firstHit, secondHit);
+        assertEquals(Collections.singletonList("tag"), secondHit.getMetadataValue(JsonPresentationFields.TAGS));
+    }
+
+    @Test
+    void testElementReadWithUncommittedChangesIsNotCached() {
+        when(janusGraphDao.hasUncommittedChanges()).thenReturn(true);
+        GraphVertex componentV = createVertex(LifecycleStateEnum.CERTIFIED);
+        put(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll, new TopologyTemplate());
+
+        assertEquals(0, testSubject.size());
+    }
+
+    @Test
+    void testElementReadWhileComponentsChangedIsNotCached() {
+        GraphVertex componentV = createVertex(LifecycleStateEnum.CERTIFIED);
+        long readGeneration = testSubject.getGeneration();
+        testSubject.invalidate(Collections.singleton("otherComponentId"));
+        testSubject.put(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll, new TopologyTemplate(), readGeneration);
+
+        assertEquals(0, testSubject.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCommittedChangesEvictComponents() {
+        ArgumentCaptor<Consumer<Set<String>>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(janusGraphDao).addCommittedChangesListener(listener.capture());
+        GraphVertex componentV = createVertex(LifecycleStateEnum.CERTIFIED);
+        put(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll, new TopologyTemplate());
+
+        listener.getValue().accept(Collections.singleton(COMPONENT_ID));
+        assertFalse(testSubject.get(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll).isPresent());
+    }
+
+    @Test
+    void testCheckedOutElementIsNotCached() {
+        GraphVertex componentV = createVertex(LifecycleStateEnum.NOT_CERTIFIED_CHECKOUT);
+        put(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll, new TopologyTemplate());
+
+        assertFalse(testSubject.get(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll).isPresent());
+        assertEquals(0, testSubject.size());
+    }
+
+    @Test
+    void testElementIsCachedPerFilterAndParseFlag() {
+        GraphVertex componentV = createVertex(LifecycleStateEnum.CERTIFIED);
+        put(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll, new TopologyTemplate());
+
+        assertFalse(testSubject.get(componentV, new ComponentParametersView(true), JsonParseFlagEnum.ParseAll).isPresent());
+        assertFalse(testSubject.get(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseMetadata).isPresent());
+        assertFalse(testSubject.get(componentV, new ComponentParametersView(), null).isPresent());
+    }
+
+    @Test
+    void testModifiedVertexEvictsElement() {
+        GraphVertex componentV = createVertex(LifecycleStateEnum.CERTIFIED);
+        put(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll, new TopologyTemplate());
+
+        GraphVertex distributedV = createVertex(LifecycleStateEnum.CERTIFIED);
+        distributedV.addMetadataProperty(GraphPropertyEnum.DISTRIBUTION_STATUS, DistributionStatusEnum.DISTRIBUTED.name());
+        assertFalse(testSubject.get(distributedV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll).isPresent());
+        assertEquals(0, testSubject.size());
+    }
+
+    @Test
+    void testInvalidateRemovesAllViewsOfComponent() {
+        GraphVertex componentV = createVertex(LifecycleStateEnum.CERTIFIED);
+        put(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll, new TopologyTemplate());
+        put(componentV, new ComponentParametersView(true), JsonParseFlagEnum.ParseMetadata, new TopologyTemplate());
+        assertEquals(2, testSubject.size());
+
+        testSubject.invalidate(COMPONENT_ID);
+        assertEquals(0, testSubject.size());
+    }
+
+    @Test
+    void testDisabledCacheIsPassThrough() {
+        ToscaElementCache disabledCache = new ToscaElementCache(janusGraphDao);
+        GraphVertex componentV = createVertex(LifecycleStateEnum.CERTIFIED);
+        disabledCache.put(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll, new TopologyTemplate(),
+            disabledCache.getGeneration());
+
+        assertFalse(disabledCache.isEnabled());
+        assertFalse(disabledCache.get(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll).isPresent());
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        for (int i = 0; i < 20; i++) {
+            GraphVertex componentV = createVertex(LifecycleStateEnum.CERTIFIED);
+            componentV.setUniqueId(COMPONENT_ID + i);
+            put(componentV, new ComponentParametersView(), JsonParseFlagEnum.ParseAll, new TopologyTemplate());
+        }
+        assertTrue(testSubject.size() <= 10);
+    }
+
+    private void put(GraphVertex componentV, ComponentParametersView filters, JsonParseFlagEnum parseFlag, ToscaElement toscaElement) {
+        testSubject.put(componentV, filters, parseFlag, toscaElement, testSubject.getGeneration());
+    }
+
+    private GraphVertex createVertex(LifecycleStateEnum state) {
+        GraphVertex componentV = new GraphVertex(VertexTypeEnum.TOPOLOGY_TEMPLATE);
+        componentV.setUniqueId(COMPONENT_ID);
+        componentV.addMetadataProperty(GraphPropertyEnum.STATE, state.name());
+        return componentV;
+    }
+}
@@ -0,0 +1,159 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.operations.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import fj.data.Either;
+import org.junit.Before;
+import org.junit.Test;
+import org.openecomp.sdc.be.config.Configuration.ComponentLockConfig;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.cassandra.ComponentLockCassandraDao;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+
+public class ComponentLeaseServiceTest {
+
+    private static final String LOCK_ID = "lock_resource_id";
+
+    private ComponentLockConfig config;
+
+    @Before
+    public void setUp() {
+        config = new ComponentLockConfig();
+        config.setType(ComponentLockConfig.LockType.LOCAL);
+    }
+
+    @Test
+    public void testLockIsExclusiveUntilReleased() {
+        LocalComponentLeaseService testSubject = new LocalComponentLeaseService(config);
+
+        assertEquals(StorageOperationStatus.OK, testSubject.lock(LOCK_ID));
+        assertEquals(StorageOperationStatus.FAILED_TO_LOCK_ELEMENT, testSubject.lock(LOCK_ID));
+        assertEquals(StorageOperationStatus.OK, testSubject.unlock(LOCK_ID));
+        assertEquals(StorageOperationStatus.NOT_FOUND, testSubject.unlock(LOCK_ID));
+        assertEquals(StorageOperationStatus.OK, testSubject.lock(LOCK_ID));
+
+        assertEquals(2, testSubject.getAcquiredLocks());
+        assertEquals(1, testSubject.getContendedLocks());
+        assertEquals(1, testSubject.getHeldLeases());
+    }
+
+    @Test
+    public void testEveryLeaseHasItsOwnToken() {
+        LocalComponentLeaseService testSubject = new LocalComponentLeaseService(config);
+
+        testSubject.lock(LOCK_ID);
+        long firstToken = testSubject.getLease(LOCK_ID).get().getToken();
+        testSubject.unlock(LOCK_ID);
+        testSubject.lock(LOCK_ID);
+
+        assertNotEquals(firstToken, testSubject.getLease(LOCK_ID).get().getToken());
+    }
+
+    @Test
+    public void testLeaseHeldTooLongIsReleasedOnHeartbeat() {
+        ComponentLockCassandraDao componentLockCassandraDao = mock(ComponentLockCassandraDao.class);
+        when(componentLockCassandraDao.acquire(eq(LOCK_ID), anyString(), anyLong(), anyInt())).thenReturn(Either.left(true));
+        when(componentLockCassandraDao.release(eq(LOCK_ID), anyString(), anyLong())).thenReturn(Either.left(true));
+        CassandraComponentLeaseService testSubject = new CassandraComponentLeaseService(componentLockCassandraDao, config, 0);
+
+        assertEquals(StorageOperationStatus.OK, testSubject.lock(LOCK_ID));
+        long token = testSubject.getLease(LOCK_ID).get().getToken();
+        testSubject.renewHeldLeases();
+
+        verify(componentLockCassandraDao, never()).renew(anyString(), anyString(), anyLong(), anyInt());
+        verify(componentLockCassandraDao).release(eq(LOCK_ID), anyString(), eq(token));
+        assertFalse(testSubject.getLease(LOCK_ID).isPresent());
+        assertEquals(1, testSubject.getExpiredLeases());
+    }
+
+    @Test
+    public void testLockWaitsForTheLockToBeReleased() throws Exception {
+        config.setLockWaitTimeoutMs(5000);
+        config.setLockRetryIntervalMs(10);
+        LocalComponentLeaseService testSubject = new LocalComponentLeaseService(config);
+        assertEquals(StorageOperationStatus.OK, testSubject.lock(LOCK_ID));
+
+        Thread releasingThread = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            testSubject.unlock(LOCK_ID);
+        });
+        releasingThread.start();
+
+        assertEquals(StorageOperationStatus.OK, testSubject.lock(LOCK_ID));
+        releasingThread.join();
+        assertTrue(testSubject.getMaxLockWaitMs() > 0);
+    }
+
+    @Test
+    public void testLockHeldByAnotherBackendIsNotAcquired() {
+        ComponentLockCassandraDao componentLockCassandraDao = mock(ComponentLockCassandraDao.class);
+        when(componentLockCassandraDao.acquire(eq(LOCK_ID), anyString(), anyLong(), anyInt())).thenReturn(Either.left(false));
+        CassandraComponentLeaseService testSubject = new CassandraComponentLeaseService(componentLockCassandraDao, config);
+
+        assertEquals(StorageOperationStatus.FAILED_TO_LOCK_ELEMENT, testSubject.lock(LOCK_ID));
+        assertFalse(testSubject.getLease(LOCK_ID).isPresent());
+    }
+
+    @Test
+    public void testLockFailsWhenCassandraIsNotAvailable() {
+        ComponentLockCassandraDao componentLockCassandraDao = mock(ComponentLockCassandraDao.class);
+        when(componentLockCassandraDao.acquire(eq(LOCK_ID), anyString(), anyLong(), anyInt()))
+            .thenReturn(Either.right(CassandraOperationStatus.KEYSPACE_NOT_CONNECTED));
+        CassandraComponentLeaseService testSubject = new CassandraComponentLeaseService(componentLockCassandraDao, config);
+
+        assertEquals(StorageOperationStatus.STORAGE_NOT_AVAILABLE, testSubject.lock(LOCK_ID));
+        assertEquals(1, testSubject.getFailedLocks());
+    }
+
+    @Test
+    public void testLostLeaseIsDroppedOnHeartbeat() {
+        ComponentLockCassandraDao componentLockCassandraDao = mock(ComponentLockCassandraDao.class);
+        when(componentLockCassandraDao.acquire(eq(LOCK_ID), anyString(), anyLong(), anyInt())).thenReturn(Either.left(true));
+        when(componentLockCassandraDao.renew(eq(LOCK_ID), anyString(), anyLong(), anyInt())).thenReturn(Either.left(false));
+        CassandraComponentLeaseService testSubject = new CassandraComponentLeaseService(componentLockCassandraDao, config);
+
+        assertEquals(StorageOperationStatus.OK, testSubject.lock(LOCK_ID));
+        long token = testSubject.getLease(LOCK_ID).get().getToken();
+        testSubject.renewHeldLeases();
+
+        verify(componentLockCassandraDao).renew(eq(LOCK_ID), anyString(), eq(token), eq(60));
+        assertFalse(testSubject.getLease(LOCK_ID).isPresent());
+        assertEquals(1, testSubject.getLostLeases());
+        assertEquals(StorageOperationStatus.NOT_FOUND, testSubject.unlock(LOCK_ID));
+    }
+}
@@ -77,6 +77,10 @@ public class Configuration extends BasicConfiguration {
     private Long janusGraphReconnectIntervalInSeconds;
     private List<String> healthStatusExclude;
     private Long janusGraphHealthCheckReadTimeout;
+    private JanusGraphJsonCompressionConfig janusGraphJsonCompression;
+    private ComponentLockConfig componentLock;
+    private Boolean catalogIndexEnabled = false;
+    private Integer csarInnerComponentsExportThreads;
     private Long uebHealthCheckReconnectIntervalInSeconds;
     private Long uebHealthCheckReadTimeout;
     private List<Map<String, Map<String, String>>> defaultImports;
@@ -130,6 +134,8 @@ public class Configuration extends BasicConfiguration {
 
     private boolean disableAudit;
 
+    private AuditWriterConfig auditWriter;
+
     private Boolean consumerBusinessLogic;
 
     private Map<String, VfModuleProperty> vfModuleProperties;
@@ -288,6 +294,14 @@ public class Configuration extends BasicConfiguration {
         this.resourceNodeTypes = resourceNodeTypes;
     }
 
+    public AuditWriterConfig getAuditWriter() {
+        return auditWriter;
+    }
+
+    public void setAuditWriter(AuditWriterConfig auditWriter) {
+        this.auditWriter = auditWriter;
+    }
+
     public SwitchoverDetectorConfig getSwitchoverDetector() {
         return switchoverDetector;
     }
@@ -460,6 +474,38 @@ public class Configuration extends BasicConfiguration {
         this.janusGraphHealthCheckReadTimeout = janusGraphHealthCheckReadTimeout;
     }
 
+    public JanusGraphJsonCompressionConfig getJanusGraphJsonCompression() {
+        return janusGraphJsonCompression;
+    }
+
+    public void setJanusGraphJsonCompression(JanusGraphJsonCompressionConfig janusGraphJsonCompression) {
+        this.janusGraphJsonCompression = janusGraphJsonCompression;
+    }
+
+    public ComponentLockConfig getComponentLock() {
+        return componentLock;
+    }
+
+    public void setComponentLock(ComponentLockConfig componentLock) {
+        this.componentLock = componentLock;
+    }
+
+    public Boolean getCatalogIndexEnabled() {
+        return catalogIndexEnabled;
+    }
+
+    public void setCatalogIndexEnabled(Boolean catalogIndexEnabled) {
+        this.catalogIndexEnabled = catalogIndexEnabled;
+    }
+
+    public Integer getCsarInnerComponentsExportThreads() {
+        return csarInnerComponentsExportThreads;
+    }
+
+    public void setCsarInnerComponentsExportThreads(Integer csarInnerComponentsExportThreads) {
+        this.csarInnerComponentsExportThreads = csarInnerComponentsExportThreads;
+    }
+
     public Long getJanusGraphReconnectIntervalInSeconds() {
         return janusGraphReconnectIntervalInSeconds;
     }
@@ -749,6 +795,9 @@ public class Configuration extends BasicConfiguration {
         String truststorePath;
         String truststorePassword;
         int maxWaitSeconds = 120;
+        boolean artifactPayloadDeduplication;
+        int artifactPayloadCacheSizeMB = 32;
+        int artifactPayloadChunkSizeKB = 1024;
 
         public Integer getCassandraPort() { return cassandraPort != null ? cassandraPort : Configuration.CassandrConfig.CASSANDRA_DEFAULT_PORT; }
 
@@ -850,6 +899,30 @@ public class Configuration extends BasicConfiguration {
             this.maxWaitSeconds = maxWaitSeconds;
         }
 
+        public boolean isArtifactPayloadDeduplication() {
+            return artifactPayloadDeduplication;
+        }
+
+        public void setArtifactPayloadDeduplication(boolean artifactPayloadDeduplication) {
+            this.artifactPayloadDeduplication = artifactPayloadDeduplication;
+        }
+
+        public int getArtifactPayloadCacheSizeMB() {
+            return artifactPayloadCacheSizeMB;
+        }
+
+        public void setArtifactPayloadCacheSizeMB(int artifactPayloadCacheSizeMB) {
+            this.artifactPayloadCacheSizeMB = artifactPayloadCacheSizeMB;
+        }
+
+        public int getArtifactPayloadChunkSizeKB() {
+            return artifactPayloadChunkSizeKB;
+        }
+
+        public void setArtifactPayloadChunkSizeKB(int artifactPayloadChunkSizeKB) {
+            this.artifactPayloadChunkSizeKB = artifactPayloadChunkSizeKB;
+        }
+
         public static class KeyspaceConfig {
 
             String name;
@@ -1350,6 +1423,169 @@ public class Configuration extends BasicConfiguration {
 
     }
 
+    public static class JanusGraphJsonCompressionConfig {
+
+        boolean enabled;
+        int minSizeBytes = 8192;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMinSizeBytes() {
+            return minSizeBytes;
+        }
+
+        public void setMinSizeBytes(int minSizeBytes) {
+            this.minSizeBytes = minSizeBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "JanusGraphJsonCompressionConfig [enabled=" + enabled + ", minSizeBytes=" + minSizeBytes + "]";
+        }
+    }
+
+    public static class ComponentLockConfig {
+
+        public enum LockType {
+            GRAPH, CASSANDRA, LOCAL
+        }
+
+        LockType type = LockType.GRAPH;
+        int leaseTtlInSec = 60;
+        int heartbeatIntervalInSec = 20;
+        long lockWaitTimeoutMs = 0;
+        long lockRetryIntervalMs = 50;
+
+        public LockType getType() {
+            return type;
+        }
+
+        public void setType(LockType type) {
+            this.type = type;
+        }
+
+        public int getLeaseTtlInSec() {
+            return leaseTtlInSec;
+        }
+
+        public void setLeaseTtlInSec(int leaseTtlInSec) {
+            this.leaseTtlInSec = leaseTtlInSec;
+        }
+
+        public int getHeartbeatIntervalInSec() {
+            return heartbeatIntervalInSec;
+        }
+
+        public void setHeartbeatIntervalInSec(int heartbeatIntervalInSec) {
+            this.heartbeatIntervalInSec = heartbeatIntervalInSec;
+        }
+
+        public long getLockWaitTimeoutMs() {
+            return lockWaitTimeoutMs;
+        }
+
+        public void setLockWaitTimeoutMs(long lockWaitTimeoutMs) {
+            this.lockWaitTimeoutMs = lockWaitTimeoutMs;
+        }
+
+        public long getLockRetryIntervalMs() {
+            return lockRetryIntervalMs;
+        }
+
+        public void setLockRetryIntervalMs(long lockRetryIntervalMs) {
+            this.lockRetryIntervalMs = lockRetryIntervalMs;
+        }
+
+        @Override
+        public String toString() {
+            return "ComponentLockConfig [type=" + type + ", leaseTtlInSec=" + leaseTtlInSec + ", heartbeatIntervalInSec="
+                + heartbeatIntervalInSec + ", lockWaitTimeoutMs=" + lockWaitTimeoutMs + "]";
+        }
+    }
+
+    public static class AuditWriterConfig {
+
+        public enum OverflowPolicy {
+            BLOCK, DROP, SPILL
+        }
+
+        boolean async;
+        int queueSize = 10000;
+        int batchSize = 20;
+        long flushIntervalMs = 100;
+        OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        long blockTimeoutMs = 1000;
+        String spillDirectory;
+
+        public boolean isAsync() {
+            return async;
+        }
+
+        public void setAsync(boolean async) {
+            this.async = async;
+        }
+
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        public void setQueueSize(int queueSize) {
+            this.queueSize = queueSize;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getFlushIntervalMs() {
+            return flushIntervalMs;
+        }
+
+        public void setFlushIntervalMs(long flushIntervalMs) {
+            this.flushIntervalMs = flushIntervalMs;
+        }
+
+        public OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        public long getBlockTimeoutMs() {
+            return blockTimeoutMs;
+        }
+
+        public void setBlockTimeoutMs(long blockTimeoutMs) {
+            this.blockTimeoutMs = blockTimeoutMs;
+        }
+
+        public String getSpillDirectory() {
+            return spillDirectory;
+        }
+
+        public void setSpillDirectory(String spillDirectory) {
+            this.spillDirectory = spillDirectory;
+        }
+
+        @Override
+        public String toString() {
+            return "AuditWriterConfig [async=" + async + ", queueSize=" + queueSize + ", batchSize=" + batchSize
+                + ", flushIntervalMs=" + flushIntervalMs + ", overflowPolicy=" + overflowPolicy + "]";
+        }
+    }
+
     public static class ToscaValidatorsConfig {
 
         private Integer stringMaxLength;
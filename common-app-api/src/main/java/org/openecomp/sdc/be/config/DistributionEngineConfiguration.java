@@ -390,6 +390,8 @@ public class DistributionEngineConfiguration extends BasicConfiguration {
 		private Integer maxWaitingAfterSendingSeconds;
 		private Integer maxThreadPoolSize;
 		private Integer minThreadPoolSize;
+		private Integer maxPublisherBatchSize;
+		private Integer maxPublisherBatchAgeMs;
 
 		public Integer getMaxWaitingAfterSendingSeconds() {
 			return maxWaitingAfterSendingSeconds;
@@ -415,10 +417,28 @@ public class DistributionEngineConfiguration extends BasicConfiguration {
 			this.minThreadPoolSize = minThreadPoolSize;
 		}
 
+		public Integer getMaxPublisherBatchSize() {
+			return maxPublisherBatchSize;
+		}
+
+		public void setMaxPublisherBatchSize(Integer maxPublisherBatchSize) {
+			this.maxPublisherBatchSize = maxPublisherBatchSize;
+		}
+
+		public Integer getMaxPublisherBatchAgeMs() {
+			return maxPublisherBatchAgeMs;
+		}
+
+		public void setMaxPublisherBatchAgeMs(Integer maxPublisherBatchAgeMs) {
+			this.maxPublisherBatchAgeMs = maxPublisherBatchAgeMs;
+		}
+
 		@Override
 		public String toString() {
 			return "DistributionNotificationTopicConfig [maxWaitingAfterSendingSeconds=" + maxWaitingAfterSendingSeconds
-					+ ", maxThreadPoolSize=" + maxThreadPoolSize + ", minThreadPoolSize=" + minThreadPoolSize + "]";
+					+ ", maxThreadPoolSize=" + maxThreadPoolSize + ", minThreadPoolSize=" + minThreadPoolSize
+					+ ", maxPublisherBatchSize=" + maxPublisherBatchSize + ", maxPublisherBatchAgeMs="
+					+ maxPublisherBatchAgeMs + "]";
 		}
 
 	}
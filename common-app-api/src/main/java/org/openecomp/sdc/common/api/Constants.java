@@ -44,6 +44,9 @@ public final class Constants {
 	public static final String CONTENT_LENGTH_HEADER = "Content-Length";
 	public static final String CONTENT_DISPOSITION_HEADER = "Content-Disposition";
 	public static final String CONTENT_TYPE_HEADER = "Content-Type";
+	public static final String RANGE_HEADER = "Range";
+	public static final String CONTENT_RANGE_HEADER = "Content-Range";
+	public static final String ACCEPT_RANGES_HEADER = "Accept-Ranges";
 	public static final String ORIGIN_HEADER = "HTTP_IV_REMOTE_ADDRESS";
 	public static final String ACCESS_HEADER = "HTTP_CSP_WSTYPE";
 	public static final String X_ECOMP_REQUEST_ID_HEADER = "X-ECOMP-RequestID";
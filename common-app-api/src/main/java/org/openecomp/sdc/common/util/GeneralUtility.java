@@ -29,6 +29,7 @@ import org.slf4j.MDC;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -147,6 +148,20 @@ public class GeneralUtility {
 
 	}
 
+	/**
+	 * Same as {@link #calculateMD5Base64EncodedByByteArray(byte[])} but reads the payload from a stream instead of
+	 * holding it in memory.
+	 *
+	 * @param payload
+	 * @return
+	 * @throws IOException
+	 */
+	public static String calculateMD5Base64EncodedByInputStream(InputStream payload) throws IOException {
+		String decodedMd5 = org.apache.commons.codec.digest.DigestUtils.md5Hex(payload);
+		byte[] encodeMd5 = Base64.encodeBase64(decodedMd5.getBytes());
+		return new String(encodeMd5);
+	}
+
 	/**
 	 * 
 	 * @param data
@@ -31,9 +31,11 @@ import org.openecomp.sdc.common.errors.CoreException;
 import org.openecomp.sdc.datatypes.configuration.ImplementationConfiguration;
 import org.openecomp.sdc.heat.datatypes.manifest.FileData;
 import org.openecomp.sdc.heat.datatypes.manifest.ManifestFile;
+import org.openecomp.sdc.heat.datatypes.model.HeatOrchestrationTemplate;
 import org.openecomp.sdc.heat.datatypes.model.Resource;
 import org.onap.sdc.tosca.datatypes.model.NodeTemplate;
 import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
+import org.onap.sdc.tosca.services.YamlUtil;
 import org.openecomp.sdc.tosca.services.ToscaUtil;
 import org.openecomp.sdc.translator.datatypes.heattotosca.to.TranslatedHeatResource;
 import org.openecomp.sdc.translator.datatypes.heattotosca.unifiedmodel.composition.UnifiedCompositionEntity;
@@ -59,6 +61,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TranslationContext {
 
@@ -76,6 +79,8 @@ public class TranslationContext {
   private static Map<String, ImplementationConfiguration> supportedConsolidationPortResources;
 
   private final FileContentHandler files = new FileContentHandler();
+  //Key - heat file name, value - the parsed heat file, shared by all the translation steps reading it
+  private final Map<String, HeatOrchestrationTemplate> heatOrchestrationTemplates = new ConcurrentHashMap<>();
   private final Map<String, FileData.Type> manifestFiles = new HashMap<>();
   //Key - file name, value - file type
   private final Set<String> nestedHeatsFiles = new HashSet<>();
@@ -281,6 +286,7 @@ public class TranslationContext {
 
   public void setFiles(Map<String, byte[]> files) {
     this.files.setFiles(files);
+    heatOrchestrationTemplates.clear();
   }
 
   public InputStream getFileContentAsStream(final String fileName) {
@@ -289,6 +295,29 @@ public class TranslationContext {
 
   public void addFile(String name, byte[] content) {
     files.addFile(name, content);
+    heatOrchestrationTemplates.remove(name);
+  }
+
+  /**
+   * Gets the parsed content of the given heat file. The file is parsed on the first call only, the template
+   * returned is shared by all the callers and must not be modified. Safe to call from several threads.
+   *
+   * @param fileName the heat file name
+   * @return the heat orchestration template
+   */
+  public HeatOrchestrationTemplate getHeatOrchestrationTemplate(String fileName) {
+    HeatOrchestrationTemplate heatOrchestrationTemplate = heatOrchestrationTemplates.get(fileName);
+    if (heatOrchestrationTemplate != null) {
+      return heatOrchestrationTemplate;
+    }
+    heatOrchestrationTemplate =
+        new YamlUtil().yamlToObject(getFileContentAsStream(fileName), HeatOrchestrationTemplate.class);
+    if (heatOrchestrationTemplate == null) {
+      return null;
+    }
+    HeatOrchestrationTemplate parsedTemplate =
+        heatOrchestrationTemplates.putIfAbsent(fileName, heatOrchestrationTemplate);
+    return parsedTemplate == null ? heatOrchestrationTemplate : parsedTemplate;
   }
 
   public ManifestFile getManifest() {
@@ -49,7 +49,6 @@ import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
 import org.onap.sdc.tosca.datatypes.model.Template;
 import org.onap.sdc.tosca.datatypes.model.TopologyTemplate;
 import org.onap.sdc.tosca.services.ToscaExtensionYamlUtil;
-import org.onap.sdc.tosca.services.YamlUtil;
 import org.openecomp.core.translator.api.HeatToToscaTranslator;
 import org.openecomp.core.translator.datatypes.TranslatorOutput;
 import org.openecomp.core.translator.factory.HeatToToscaTranslatorFactory;
@@ -245,8 +244,8 @@ public class HeatToToscaUtil {
                 if (fileData.getBase() != null && fileData.getBase()) {
                     fileDataCollection.addBaseFiles(fileData);
                 }
-                HeatOrchestrationTemplate heatOrchestrationTemplate = new YamlUtil().yamlToObject(
-                        translationContext.getFileContentAsStream(fileName), HeatOrchestrationTemplate.class);
+                HeatOrchestrationTemplate heatOrchestrationTemplate =
+                        translationContext.getHeatOrchestrationTemplate(fileName);
                 if (MapUtils.isNotEmpty(heatOrchestrationTemplate.getResources())) {
                     referenced.addAll(applyFilterOnFileCollection(heatOrchestrationTemplate, translationContext,
                             fileDataCollection, filteredFiles));
@@ -577,8 +576,8 @@ public class HeatToToscaUtil {
     }
 
     private static boolean isNestedVlanResource(String nestedHeatFileName, TranslationContext translationContext) {
-        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate = new YamlUtil().yamlToObject(
-                translationContext.getFileContentAsStream(nestedHeatFileName), HeatOrchestrationTemplate.class);
+        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate =
+                translationContext.getHeatOrchestrationTemplate(nestedHeatFileName);
         return Objects.nonNull(nestedHeatOrchestrationTemplate.getResources()) && nestedHeatOrchestrationTemplate
                                                                                           .getResources().values()
                                                                                           .stream().anyMatch(
@@ -587,8 +586,8 @@ public class HeatToToscaUtil {
 
     public static Optional<String> getSubInterfaceParentPortNodeTemplateId(TranslateTo subInterfaceTo) {
         String subInterfaceResourceType = getSubInterfaceResourceType(subInterfaceTo.getResource());
-        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate = new YamlUtil().yamlToObject(
-                subInterfaceTo.getContext().getFileContentAsStream(subInterfaceResourceType), HeatOrchestrationTemplate.class);
+        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate =
+                subInterfaceTo.getContext().getHeatOrchestrationTemplate(subInterfaceResourceType);
         if (Objects.isNull(nestedHeatOrchestrationTemplate.getResources())) {
             return Optional.empty();
         }
@@ -676,8 +675,8 @@ public class HeatToToscaUtil {
      */
     public static boolean isNestedVfcResource(Resource resource, TranslationContext context) {
         Optional<String> nestedHeatFileName = HeatToToscaUtil.getNestedHeatFileName(resource);
-        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate = new YamlUtil().yamlToObject(
-                context.getFileContentAsStream(nestedHeatFileName.get()), HeatOrchestrationTemplate.class);
+        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate =
+                context.getHeatOrchestrationTemplate(nestedHeatFileName.get());
         Map<String, Resource> resources = nestedHeatOrchestrationTemplate.getResources();
         return Objects.nonNull(resources) && resources.values().stream()
                      .anyMatch(ConsolidationDataUtil::isComputeResource);
@@ -1427,8 +1426,8 @@ public class HeatToToscaUtil {
             return networkRole;
         }
 
-        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate = new YamlUtil().yamlToObject(
-                translationContext.getFileContentAsStream(nestedHeatFileName.get()), HeatOrchestrationTemplate.class);
+        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate =
+                translationContext.getHeatOrchestrationTemplate(nestedHeatFileName.get());
 
         if (MapUtils.isNotEmpty(nestedHeatOrchestrationTemplate.getResources())) {
             ContrailV2VirtualMachineInterfaceHelper contrailV2VirtualMachineInterfaceHelper =
@@ -19,14 +19,21 @@ package org.openecomp.sdc.translator.services.heattotosca;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
+import org.onap.config.api.ConfigurationManager;
 import org.onap.sdc.tosca.datatypes.model.*;
 import org.onap.sdc.tosca.datatypes.model.heatextend.ParameterDefinitionExt;
 import org.onap.sdc.tosca.services.YamlUtil;
@@ -57,6 +64,7 @@ import org.openecomp.sdc.translator.services.heattotosca.mapping.TranslatorHeatT
 public class TranslationService {
 
     protected static Logger logger = LoggerFactory.getLogger(TranslationService.class);
+    private static ExecutorService sharedExecutor;
 
     /**
      * Gets types to process by translator.
@@ -85,6 +93,7 @@ public class TranslationService {
     public TranslatorOutput translateHeatFiles(TranslationContext translationContext) {
         ServiceTemplate mainServiceTemplate = createMainServiceTemplate(translationContext);
         List<FileData> fileDataList = translationContext.getManifest().getContent().getData();
+        parseHeatFiles(fileDataList, translationContext);
         FileDataCollection fileDataCollection = HeatToToscaUtil.getFileCollectionsByFilter(fileDataList,
                 TranslationService.getTypesToProcessByTranslator(), translationContext);
         FileDataCollection fileDataCollectionHelm = HeatToToscaUtil.getFileCollectionsByHelmFilter(fileDataList,
@@ -120,6 +129,73 @@ public class TranslationService {
         return translatorOutput;
     }
 
+    /**
+     * Parses the heat files of the manifest concurrently ahead of their translation. The files are still translated
+     * one after the other in the manifest order, since they are all translated into the same main service template
+     * and translation context, but the translation then reads the parsed files from the context.
+     */
+    private void parseHeatFiles(List<FileData> fileDataList, TranslationContext translationContext) {
+        ExecutorService executor = getSharedExecutor();
+        Set<String> heatFiles = new LinkedHashSet<>();
+        collectHeatFiles(fileDataList, heatFiles, translationContext);
+        if (executor == null || heatFiles.size() < 2) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        List<Future<?>> results = new ArrayList<>();
+        heatFiles.forEach(heatFile -> results.add(
+                executor.submit(() -> translationContext.getHeatOrchestrationTemplate(heatFile))));
+        for (Future<?> result : results) {
+            try {
+                result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.forEach(future -> future.cancel(true));
+                return;
+            } catch (ExecutionException e) {
+                // the file is parsed again when it is translated, which reports the failure
+                logger.debug("Failed to parse heat file ahead of its translation", e.getCause());
+            }
+        }
+        logger.debug("Parsing {} heat files took {} ms", heatFiles.size(), System.currentTimeMillis() - start);
+    }
+
+    private void collectHeatFiles(List<FileData> fileDataList, Set<String> heatFiles,
+                                  TranslationContext translationContext) {
+        if (fileDataList == null) {
+            return;
+        }
+        for (FileData fileData : fileDataList) {
+            if (getTypesToProcessByTranslator().contains(fileData.getType())
+                    && translationContext.getFiles().containsFile(fileData.getFile())) {
+                heatFiles.add(fileData.getFile());
+            }
+            collectHeatFiles(fileData.getData(), heatFiles, translationContext);
+        }
+    }
+
+    /**
+     * The pool shared by all the translations, or null when parallelTranslationThreads is not set to more than one
+     * thread and the heat files are only parsed when they are translated.
+     */
+    private static synchronized ExecutorService getSharedExecutor() {
+        if (sharedExecutor == null) {
+            Integer threads = ConfigurationManager.lookup()
+                    .getAsIntegerValue(ConfigConstants.TRANSLATOR_NAMESPACE,
+                            ConfigConstants.PARALLEL_TRANSLATION_THREADS_KEY);
+            if (threads == null || threads < 2) {
+                return null;
+            }
+            AtomicInteger threadNumber = new AtomicInteger();
+            sharedExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "heat-translation-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return sharedExecutor;
+    }
+
     private ServiceTemplate createMainServiceTemplate(TranslationContext translationContext) {
         ServiceTemplate mainServiceTemplate = new ServiceTemplate();
         translationContext.getTranslatedServiceTemplates()
@@ -143,8 +219,7 @@ public class TranslationService {
     public void translateHeatFile(ServiceTemplate serviceTemplate, FileData heatFileData,
                                   TranslationContext context) {
         String heatFileName = heatFileData.getFile();
-        HeatOrchestrationTemplate heatOrchestrationTemplate = new YamlUtil()
-                .yamlToObject(context.getFileContentAsStream(heatFileName), HeatOrchestrationTemplate.class);
+        HeatOrchestrationTemplate heatOrchestrationTemplate = context.getHeatOrchestrationTemplate(heatFileName);
 
         translateInputParameters(serviceTemplate, heatOrchestrationTemplate, heatFileData, context,
                 heatFileName);
@@ -94,6 +94,7 @@ import org.openecomp.sdc.tosca.services.ToscaAnalyzerService;
 import org.openecomp.sdc.tosca.services.ToscaConstants;
 import org.openecomp.sdc.tosca.services.ToscaUtil;
 import org.openecomp.sdc.tosca.services.impl.ToscaAnalyzerServiceImpl;
+import org.openecomp.sdc.tosca.services.impl.ToscaTypeHierarchyIndex;
 import org.openecomp.sdc.translator.datatypes.heattotosca.TranslationContext;
 import org.openecomp.sdc.translator.datatypes.heattotosca.unifiedmodel.composition.UnifiedCompositionData;
 import org.openecomp.sdc.translator.datatypes.heattotosca.unifiedmodel.composition.UnifiedCompositionEntity;
@@ -3322,6 +3323,7 @@ public class UnifiedCompositionService {
       NodeType nested = DataModelUtil.getNodeType(globalSubstitutionServiceTemplate,
               origNestedNodeTypeId);
       setNewValuesForNestedNodeType(origNestedNodeTypeId, newNestedNodeTypeId, nested, nodeTypes);
+      ToscaTypeHierarchyIndex.invalidate(globalSubstitutionServiceTemplate);
     } else {
       NodeType nested =
               (NodeType) DataModelUtil.getClonedObject(
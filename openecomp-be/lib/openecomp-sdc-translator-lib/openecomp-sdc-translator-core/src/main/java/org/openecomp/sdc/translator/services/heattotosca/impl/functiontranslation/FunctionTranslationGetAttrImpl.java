@@ -28,7 +28,6 @@ import java.util.Optional;
 import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
-import org.onap.sdc.tosca.services.YamlUtil;
 import org.openecomp.sdc.heat.datatypes.model.HeatOrchestrationTemplate;
 import org.openecomp.sdc.heat.datatypes.model.Resource;
 import org.openecomp.sdc.heat.services.HeatConstants;
@@ -235,8 +234,8 @@ public class FunctionTranslationGetAttrImpl implements FunctionTranslation {
             if (!nestedFile.isPresent()) {
                 return Optional.empty();
             }
-            HeatOrchestrationTemplate nestedHeatOrchestrationTemplate = new YamlUtil()
-                    .yamlToObject(context.getFiles().getFileContentAsStream(nestedFile.get()), HeatOrchestrationTemplate.class);
+            HeatOrchestrationTemplate nestedHeatOrchestrationTemplate =
+                    context.getHeatOrchestrationTemplate(nestedFile.get());
             translatedAttributes.addAll(nestedHeatOrchestrationTemplate.getOutputs().keySet());
             return Optional.of(translatedAttributes);
 
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openecomp.sdc.translator.datatypes.heattotosca;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.openecomp.sdc.heat.datatypes.model.HeatOrchestrationTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+public class TranslationContextTest {
+
+    private static final String HEAT_FILE = "main.yml";
+    private static final String HEAT_CONTENT = "heat_template_version: 2013-05-23\n"
+            + "resources:\n"
+            + "  server:\n"
+            + "    type: OS::Nova::Server\n";
+
+    @Test
+    public void testHeatFileIsParsedOnce() {
+        TranslationContext context = new TranslationContext();
+        context.addFile(HEAT_FILE, HEAT_CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        HeatOrchestrationTemplate heatOrchestrationTemplate = context.getHeatOrchestrationTemplate(HEAT_FILE);
+        Assert.assertNotNull(heatOrchestrationTemplate);
+        Assert.assertTrue(heatOrchestrationTemplate.getResources().containsKey("server"));
+        Assert.assertSame(heatOrchestrationTemplate, context.getHeatOrchestrationTemplate(HEAT_FILE));
+    }
+
+    @Test
+    public void testHeatFileIsParsedAgainWhenReplaced() {
+        TranslationContext context = new TranslationContext();
+        context.addFile(HEAT_FILE, HEAT_CONTENT.getBytes(StandardCharsets.UTF_8));
+        HeatOrchestrationTemplate heatOrchestrationTemplate = context.getHeatOrchestrationTemplate(HEAT_FILE);
+
+        context.addFile(HEAT_FILE, HEAT_CONTENT.replace("server", "volume").getBytes(StandardCharsets.UTF_8));
+        HeatOrchestrationTemplate replacedTemplate = context.getHeatOrchestrationTemplate(HEAT_FILE);
+        Assert.assertNotSame(heatOrchestrationTemplate, replacedTemplate);
+        Assert.assertTrue(replacedTemplate.getResources().containsKey("volume"));
+    }
+}
@@ -36,6 +36,13 @@ public class FileValidationContext {
   }
 
 
+  /**
+   * A context over the same content, without the messages of this one.
+   */
+  FileValidationContext withoutMessages() {
+    return new FileValidationContext(fileName, content);
+  }
+
   MessageContainer getMessageContainer() {
     return this.messageContainer;
   }
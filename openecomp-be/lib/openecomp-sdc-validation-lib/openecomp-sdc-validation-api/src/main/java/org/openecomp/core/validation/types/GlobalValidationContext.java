@@ -27,7 +27,9 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class GlobalValidationContext {
@@ -35,8 +37,17 @@ public class GlobalValidationContext {
   private static final Logger LOGGER = LoggerFactory.getLogger(GlobalValidationContext.class);
   private final Map<String, FileValidationContext> fileContextMap = new HashMap<>();
   private final Map<String, MessageContainer> messageContainerMap = new HashMap<>();
+  private final Map<String, Map<Class<?>, Object>> parsedContentMap;
   private ErrorMessageCode messageCode;
 
+  public GlobalValidationContext() {
+    this(new ConcurrentHashMap<>());
+  }
+
+  private GlobalValidationContext(Map<String, Map<Class<?>, Object>> parsedContentMap) {
+    this.parsedContentMap = parsedContentMap;
+  }
+
   public ErrorMessageCode getMessageCode() {
     return messageCode;
   }
@@ -86,6 +97,39 @@ public class GlobalValidationContext {
 
   public void addFileContext(String fileName, byte[] fileContent) {
     fileContextMap.put(fileName, new FileValidationContext(fileName, fileContent));
+    parsedContentMap.remove(fileName);
+  }
+
+  /**
+   * Gets the file content parsed into the given type. The content is parsed the first time it is asked for and
+   * the parsed model is then shared by all the validators of this context, so callers must not modify it. A
+   * content failing to parse is not kept, every caller gets the parser exception.
+   *
+   * @param fileName the file name
+   * @param type     the type to parse the content into
+   * @param parser   the parser of the content
+   * @param <T>      the parsed type
+   * @return the parsed content, empty if the file has no content
+   */
+  public <T> Optional<T> getParsedContent(String fileName, Class<T> type, Function<InputStream, T> parser) {
+    Map<Class<?>, Object> parsedContents =
+        parsedContentMap.computeIfAbsent(fileName, k -> new ConcurrentHashMap<>());
+    Object parsedContent = parsedContents.get(type);
+    if (parsedContent == null) {
+      Optional<InputStream> fileContent = getFileContent(fileName);
+      if (!fileContent.isPresent()) {
+        return Optional.empty();
+      }
+      parsedContent = parser.apply(fileContent.get());
+      if (parsedContent == null) {
+        return Optional.empty();
+      }
+      Object previousContent = parsedContents.putIfAbsent(type, parsedContent);
+      if (previousContent != null) {
+        parsedContent = previousContent;
+      }
+    }
+    return Optional.of(type.cast(parsedContent));
   }
 
   /**
@@ -107,6 +151,46 @@ public class GlobalValidationContext {
     return contextMessageContainer;
   }
 
+  /**
+   * Creates a context over the same files and parsed contents which keeps its own messages and message code, so a
+   * validator can run on it concurrently with other validators. Its messages are brought back with
+   * {@link #addMessages}.
+   *
+   * @return the new context
+   */
+  public GlobalValidationContext copyFiles() {
+    GlobalValidationContext context = new GlobalValidationContext(parsedContentMap);
+    fileContextMap.forEach((fileName, fileContext) ->
+        context.fileContextMap.put(fileName, fileContext.withoutMessages()));
+    return context;
+  }
+
+  /**
+   * Adds the messages of the given context, in the order they were added to it.
+   *
+   * @param context a context created by {@link #copyFiles}
+   */
+  public void addMessages(GlobalValidationContext context) {
+    context.fileContextMap.forEach((fileName, fileContext) ->
+        addMessages(fileName, fileContext.getMessageContainer()));
+    context.messageContainerMap.forEach(this::addMessages);
+  }
+
+  private void addMessages(String fileName, MessageContainer messages) {
+    if (CollectionUtils.isEmpty(messages.getErrorMessageList())) {
+      return;
+    }
+    MessageContainer messageContainer;
+    if (fileContextMap.containsKey(fileName)) {
+      messageContainer = fileContextMap.get(fileName).getMessageContainer();
+    } else {
+      synchronized (this) {
+        messageContainer = messageContainerMap.computeIfAbsent(fileName, k -> new MessageContainer());
+      }
+    }
+    messages.getErrorMessageList().forEach(messageContainer::addErrorMessage);
+  }
+
   public Map<String, FileValidationContext> getFileContextMap() {
     return fileContextMap;
   }
@@ -35,6 +35,12 @@ public class MessageContainer {
         return errorMessageList;
     }
 
+    void addErrorMessage(ErrorMessage errorMessage) {
+        if (!errorMessageList.contains(errorMessage)) {
+            errorMessageList.add(errorMessage);
+        }
+    }
+
     public MessageBuilder getMessageBuilder() {
         return new MessageBuilder();
     }
@@ -68,10 +74,7 @@ public class MessageContainer {
         }
 
         void create() {
-            ErrorMessage errorMessage = new ErrorMessage(level, message);
-            if (!errorMessageList.contains(errorMessage)) {
-                errorMessageList.add(errorMessage);
-            }
+            addErrorMessage(new ErrorMessage(level, message));
         }
     }
 }
@@ -24,12 +24,16 @@ import org.openecomp.core.validation.ErrorMessageCode;
 import org.openecomp.sdc.datatypes.error.ErrorLevel;
 import org.openecomp.sdc.datatypes.error.ErrorMessage;
 
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 public class GlobalValidationContextTest {
   private static String filename = "testName";
@@ -97,6 +101,69 @@ public class GlobalValidationContextTest {
 
   }
 
+  @Test
+  public void testAddMessagesOfCopy() {
+    GlobalValidationContext globalValidationContext = new GlobalValidationContext();
+    globalValidationContext.addFileContext(yaml1, content.getBytes());
+    globalValidationContext.addMessage(yaml1, ErrorLevel.WARNING, message);
+
+    GlobalValidationContext copy = globalValidationContext.copyFiles();
+    Assert.assertTrue(copy.getFileContent(yaml1).isPresent());
+    Assert.assertTrue(copy.getContextMessageContainers().isEmpty());
+    copy.addMessage(yaml1, ErrorLevel.WARNING, message);
+    copy.addMessage(yaml1, ErrorLevel.ERROR, message);
+    copy.addMessage(filename, ErrorLevel.ERROR, message);
+
+    globalValidationContext.addMessages(copy);
+    Map<String, MessageContainer> messageContainers =
+        globalValidationContext.getContextMessageContainers();
+    Assert.assertEquals(Arrays.asList(
+        new ErrorMessage(ErrorLevel.WARNING, ErrorLevel.WARNING.toString() + ": " + message),
+        new ErrorMessage(ErrorLevel.ERROR, ErrorLevel.ERROR.toString() + ": " + message)),
+        messageContainers.get(yaml1).getErrorMessageList());
+    testIfFileHasErrorMessage(messageContainers, 1);
+  }
+
+  @Test
+  public void testParsedContentIsSharedAndParsedOnce() {
+    GlobalValidationContext globalValidationContext = new GlobalValidationContext();
+    globalValidationContext.addFileContext(yaml1, content.getBytes());
+    AtomicInteger parseCount = new AtomicInteger();
+    Function<InputStream, String> parser = fileContent -> content + parseCount.incrementAndGet();
+
+    Assert.assertEquals(Optional.of(content + 1),
+        globalValidationContext.getParsedContent(yaml1, String.class, parser));
+    Assert.assertEquals(Optional.of(content + 1),
+        globalValidationContext.copyFiles().getParsedContent(yaml1, String.class, parser));
+    Assert.assertFalse(globalValidationContext.getParsedContent(yaml2, String.class, parser).isPresent());
+    Assert.assertEquals(1, parseCount.get());
+
+    globalValidationContext.addFileContext(yaml1, content.getBytes());
+    Assert.assertEquals(Optional.of(content + 2),
+        globalValidationContext.getParsedContent(yaml1, String.class, parser));
+  }
+
+  @Test
+  public void testParsingFailureIsNotKept() {
+    GlobalValidationContext globalValidationContext = new GlobalValidationContext();
+    globalValidationContext.addFileContext(yaml1, content.getBytes());
+    AtomicInteger parseCount = new AtomicInteger();
+    Function<InputStream, String> parser = fileContent -> {
+      parseCount.incrementAndGet();
+      throw new IllegalArgumentException(message);
+    };
+
+    for (int i = 0; i < 2; i++) {
+      try {
+        globalValidationContext.getParsedContent(yaml1, String.class, parser);
+        Assert.fail();
+      } catch (IllegalArgumentException expected) {
+        Assert.assertEquals(message, expected.getMessage());
+      }
+    }
+    Assert.assertEquals(2, parseCount.get());
+  }
+
   private void testGetFilesByFileType(BiPredicate<String, GlobalValidationContext> func,
                                       int expectedFilesNumberToFind,
                                       List<String> expectedFileNames,
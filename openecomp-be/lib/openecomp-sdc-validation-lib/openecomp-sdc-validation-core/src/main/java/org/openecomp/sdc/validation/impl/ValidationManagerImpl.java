@@ -21,38 +21,99 @@
 package org.openecomp.sdc.validation.impl;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.onap.config.api.ConfigurationManager;
 import org.openecomp.core.validation.api.ValidationManager;
 import org.openecomp.core.validation.types.GlobalValidationContext;
 import org.openecomp.core.validation.types.MessageContainer;
 import org.openecomp.sdc.datatypes.error.ErrorMessage;
+import org.openecomp.sdc.logging.api.Logger;
+import org.openecomp.sdc.logging.api.LoggerFactory;
 import org.openecomp.sdc.validation.Validator;
 import org.openecomp.sdc.validation.services.ValidationFactory;
+import org.openecomp.sdc.validation.type.ConfigConstants;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 public class ValidationManagerImpl implements ValidationManager {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(ValidationManagerImpl.class);
+  private static final String PARALLEL_VALIDATION_THREADS = "parallelValidationThreads";
+  private static ExecutorService sharedExecutor;
+
   private GlobalValidationContext globalContext;
   private List<Validator> validators;
+  private ExecutorService executor;
 
   public ValidationManagerImpl() {
     globalContext = new GlobalValidationContext();
     validators = ValidationFactory.getValidators();
+    executor = getSharedExecutor();
+  }
+
+  ValidationManagerImpl(List<Validator> validators, ExecutorService executor) {
+    this.globalContext = new GlobalValidationContext();
+    this.validators = validators;
+    this.executor = executor;
   }
 
   @Override
   public Map<String, List<ErrorMessage>> validate() {
-    for (Validator validator : validators) {
-      if(Objects.nonNull(validator)) {
-        validator.validate(globalContext);
-      }
+    List<Validator> validatorsToRun = validators.stream().filter(Objects::nonNull)
+        .collect(Collectors.toList());
+    if (executor == null || validatorsToRun.size() < 2) {
+      validatorsToRun.forEach(validator -> runValidator(validator, globalContext));
+    } else {
+      validateInParallel(validatorsToRun);
     }
     return convertMessageContainsToErrorMessage(globalContext.getContextMessageContainers());
   }
 
+  /**
+   * Runs every validator on its own copy of the context and adds the messages of the copies in the order of the
+   * validators, so the messages come out the same as when the validators run one after the other.
+   */
+  private void validateInParallel(List<Validator> validatorsToRun) {
+    List<Future<GlobalValidationContext>> results = new ArrayList<>();
+    for (Validator validator : validatorsToRun) {
+      GlobalValidationContext validatorContext = globalContext.copyFiles();
+      results.add(executor.submit(() -> {
+        runValidator(validator, validatorContext);
+        return validatorContext;
+      }));
+    }
+    try {
+      for (Future<GlobalValidationContext> result : results) {
+        globalContext.addMessages(result.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      results.forEach(result -> result.cancel(true));
+      throw new IllegalStateException("Validation was interrupted", e);
+    } catch (ExecutionException e) {
+      results.forEach(result -> result.cancel(true));
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private static void runValidator(Validator validator, GlobalValidationContext context) {
+    long start = System.currentTimeMillis();
+    validator.validate(context);
+    LOGGER.debug("{} took {} ms", validator.getClass().getSimpleName(), System.currentTimeMillis() - start);
+  }
+
   @Override
   public void addFile(String fileName, byte[] fileContent) {
     globalContext.addFileContext(fileName, fileContent);
@@ -72,4 +133,25 @@ public class ValidationManagerImpl implements ValidationManager {
     return errors;
   }
 
+  /**
+   * The pool shared by all the validations, or null when parallelValidationThreads is not set to more than one
+   * thread and the validators run one after the other.
+   */
+  private static synchronized ExecutorService getSharedExecutor() {
+    if (sharedExecutor == null) {
+      Integer threads = ConfigurationManager.lookup()
+          .getAsIntegerValue(ConfigConstants.Namespace, PARALLEL_VALIDATION_THREADS);
+      if (threads == null || threads < 2) {
+        return null;
+      }
+      AtomicInteger threadNumber = new AtomicInteger();
+      sharedExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+        Thread thread = new Thread(runnable, "validation-" + threadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    return sharedExecutor;
+  }
+
 }
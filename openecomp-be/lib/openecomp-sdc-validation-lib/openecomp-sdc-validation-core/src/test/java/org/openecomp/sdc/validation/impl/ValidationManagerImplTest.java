@@ -0,0 +1,92 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.validation.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.datatypes.error.ErrorLevel;
+import org.openecomp.sdc.datatypes.error.ErrorMessage;
+import org.openecomp.sdc.validation.Validator;
+
+class ValidationManagerImplTest {
+
+    private static final String FILE_NAME = "main.yaml";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testParallelValidationKeepsTheValidatorsOrder() {
+        List<Validator> validators = Arrays.asList(
+            messageValidator("first", 50),
+            null,
+            messageValidator("second", 0),
+            messageValidator("third", 20));
+
+        Map<String, List<ErrorMessage>> sequential = validate(new ValidationManagerImpl(validators, null));
+        Map<String, List<ErrorMessage>> parallel = validate(new ValidationManagerImpl(validators, executor));
+
+        assertEquals(3, sequential.get(FILE_NAME).size());
+        assertEquals("ERROR: first", sequential.get(FILE_NAME).get(0).getMessage());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void testParallelValidationFailureIsRethrown() {
+        Validator failingValidator = globalContext -> {
+            throw new IllegalArgumentException("failed");
+        };
+        ValidationManagerImpl validationManager =
+            new ValidationManagerImpl(Arrays.asList(messageValidator("first", 0), failingValidator), executor);
+        validationManager.addFile(FILE_NAME, "content".getBytes());
+
+        assertThrows(IllegalArgumentException.class, validationManager::validate);
+    }
+
+    private Map<String, List<ErrorMessage>> validate(ValidationManagerImpl validationManager) {
+        validationManager.addFile(FILE_NAME, "content".getBytes());
+        return validationManager.validate();
+    }
+
+    private static Validator messageValidator(String message, long delayMs) {
+        return globalContext -> {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            globalContext.getFileContent(FILE_NAME)
+                .ifPresent(content -> globalContext.addMessage(FILE_NAME, ErrorLevel.ERROR, message));
+        };
+    }
+}
@@ -126,13 +126,24 @@ public class ValidationUtil {
     }
   }
 
+  /**
+   * Parses the yaml content of the given file into the given type, once per validation.
+   *
+   * @return the parsed content, empty if the file has no content
+   */
+  public static <T> Optional<T> parseYamlContent(String fileName, Class<T> type,
+                                                 GlobalValidationContext globalContext) {
+    return globalContext.getParsedContent(fileName, type,
+        content -> new YamlUtil().yamlToObject(content, type));
+  }
+
   public static Environment validateEnvContent(String envFileName,
                                          GlobalValidationContext globalContext) {
     Environment envContent;
     try {
-      Optional<InputStream> fileContent = globalContext.getFileContent(envFileName);
-      if (fileContent.isPresent()) {
-        envContent = new YamlUtil().yamlToObject(fileContent.get(), Environment.class);
+      Optional<Environment> parsedContent = parseYamlContent(envFileName, Environment.class, globalContext);
+      if (parsedContent.isPresent()) {
+        envContent = parsedContent.get();
       } else {
         throw new Exception("The file '" + envFileName + "' has no content");
       }
@@ -194,13 +205,8 @@ public class ValidationUtil {
                                                                          GlobalValidationContext globalContext) {
     HeatOrchestrationTemplate heatOrchestrationTemplate;
     try {
-      Optional<InputStream> fileContent = globalContext.getFileContent(fileName);
-      if (fileContent.isPresent()) {
-        heatOrchestrationTemplate =
-            new YamlUtil().yamlToObject(fileContent.get(), HeatOrchestrationTemplate.class);
-      } else {
-        heatOrchestrationTemplate = null;
-      }
+      heatOrchestrationTemplate =
+          parseYamlContent(fileName, HeatOrchestrationTemplate.class, globalContext).orElse(null);
     } catch (Exception exception) {
       globalContext.addMessage(fileName, ErrorLevel.ERROR, ErrorMessagesFormatBuilder
               .getErrorWithParameters(globalContext.getMessageCode(),
@@ -580,18 +580,21 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
 
         Set<String> createdFilesScanned = createFilesScannedSet(filesScanned);
 
+        ToscaTypeHierarchyIndex typeHierarchyIndex = ToscaTypeHierarchyIndex.of(toscaServiceModel);
         for (Map<String, Import> map : imports) {
-            ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
-            Import anImport = toscaExtensionYamlUtil
-                                      .yamlToObject(toscaExtensionYamlUtil.objectToYaml(map.values().iterator().next()),
-                                              Import.class);
-            handleImportWithNoFileEntry(anImport);
-            String importFile = anImport.getFile();
-            ServiceTemplate template = toscaServiceModel.getServiceTemplates()
-                                                        .get(fetchFullFileNameForImport(importFile,
-                                                                serviceTemplate.getMetadata() == null ? null :
-                                                                        serviceTemplate.getMetadata().get("filename"),
-                                                                serviceTemplate, toscaServiceModel));
+            String importFileName = typeHierarchyIndex.getImportFileName(serviceTemplate, map.values().iterator().next(),
+                    importObject -> {
+                        ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
+                        Import anImport = toscaExtensionYamlUtil
+                                                  .yamlToObject(toscaExtensionYamlUtil.objectToYaml(importObject),
+                                                          Import.class);
+                        handleImportWithNoFileEntry(anImport);
+                        return fetchFullFileNameForImport(anImport.getFile(),
+                                serviceTemplate.getMetadata() == null ? null :
+                                        serviceTemplate.getMetadata().get("filename"),
+                                serviceTemplate, toscaServiceModel);
+                    });
+            ServiceTemplate template = toscaServiceModel.getServiceTemplates().get(importFileName);
             if (Objects.isNull(template) || createdFilesScanned
                                                     .contains(ToscaUtil.getServiceTemplateFileName(template))) {
                 continue;
@@ -672,14 +675,17 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
     private boolean isFlatEntity(Map<String, Import> importMap, ToscaFlatData flatData, ServiceTemplate serviceTemplate,
             List<String> filesScanned, ToscaServiceModel toscaModel, ToscaElementTypes elementType, String typeId) {
         boolean found = false;
-        ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
+        ToscaTypeHierarchyIndex typeHierarchyIndex = ToscaTypeHierarchyIndex.of(toscaModel);
         for (Object importObject : importMap.values()) {
-            Import importServiceTemplate = toscaExtensionYamlUtil
-                                                   .yamlToObject(toscaExtensionYamlUtil.objectToYaml(importObject),
-                                                           Import.class);
-            String fileName = fetchFullFileNameForImport(importServiceTemplate.getFile(),
-                    serviceTemplate.getMetadata() == null ? null : serviceTemplate.getMetadata().get("filename"),
-                    serviceTemplate, toscaModel);
+            String fileName = typeHierarchyIndex.getImportFileName(serviceTemplate, importObject, anImport -> {
+                ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
+                Import importServiceTemplate = toscaExtensionYamlUtil
+                                                       .yamlToObject(toscaExtensionYamlUtil.objectToYaml(anImport),
+                                                               Import.class);
+                return fetchFullFileNameForImport(importServiceTemplate.getFile(),
+                        serviceTemplate.getMetadata() == null ? null : serviceTemplate.getMetadata().get("filename"),
+                        serviceTemplate, toscaModel);
+            });
             if (filesScanned.contains(fileName)) {
                 return false;
             } else {
@@ -1070,11 +1076,24 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
                 return true;
             }
 
+            ToscaTypeHierarchyIndex typeHierarchyIndex =
+                    toscaServiceModel == null || CollectionUtils.isEmpty(serviceTemplate.getImports()) ? null
+                            : ToscaTypeHierarchyIndex.of(toscaServiceModel);
+            Boolean typeOf = typeHierarchyIndex == null ? null
+                    : typeHierarchyIndex.getTypeOf(serviceTemplate, getTypesMethodName, objectType, type);
+            if (typeOf != null) {
+                return typeOf;
+            }
+
             Optional<Boolean> typeExistInServiceTemplateHierarchy =
                     isTypeExistInServiceTemplateHierarchy(type, objectType, getTypesMethodName, serviceTemplate,
                             toscaServiceModel, null);
-            return typeExistInServiceTemplateHierarchy.orElseThrow(
+            typeOf = typeExistInServiceTemplateHierarchy.orElseThrow(
                     () -> new CoreException(new ToscaElementTypeNotFoundErrorBuilder(objectType).build()));
+            if (typeHierarchyIndex != null) {
+                typeHierarchyIndex.putTypeOf(serviceTemplate, getTypesMethodName, objectType, type, typeOf);
+            }
+            return typeOf;
 
         } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
             throw new SdcRuntimeException(e);
@@ -0,0 +1,243 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openecomp.sdc.tosca.services.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
+import org.openecomp.sdc.tosca.datatypes.ToscaServiceModel;
+
+/**
+ * Type hierarchy lookups already resolved for a tosca service model.
+ * <p>
+ * Keeps the results of the derived from chains resolved by {@link ToscaAnalyzerServiceImpl#isTypeOf} and the file
+ * names the imports of the service templates were resolved to. Both only depend on the service templates of the
+ * model, their imports and the derived from of their types. The index is dropped when a service template, or its
+ * imports or types maps, is added, removed or replaced, or when one of those changes size, which is checked by
+ * identity and size on every lookup without reading the types. A change made in place, such as a new derived from of
+ * an existing type or a type renamed within its map, must be followed by {@link #invalidate(ServiceTemplate)}.
+ * Lookups made on a service template which is not part of the model are not kept.
+ */
+public final class ToscaTypeHierarchyIndex {
+
+    private static final Map<ToscaServiceModel, ToscaTypeHierarchyIndex> INDEXES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final List<ServiceTemplateSnapshot> snapshots = new ArrayList<>();
+    private final Set<ServiceTemplate> serviceTemplates = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<TypeOfKey, Boolean> typeOfResults = new ConcurrentHashMap<>();
+    private final Map<ImportKey, String> importFileNames = new ConcurrentHashMap<>();
+
+    private ToscaTypeHierarchyIndex(ToscaServiceModel toscaServiceModel) {
+        for (Map.Entry<String, ServiceTemplate> entry : toscaServiceModel.getServiceTemplates().entrySet()) {
+            snapshots.add(new ServiceTemplateSnapshot(entry.getKey(), entry.getValue()));
+            serviceTemplates.add(entry.getValue());
+        }
+    }
+
+    /**
+     * Gets the index of the given model, creating a new one if the model was modified since its index was created.
+     */
+    static ToscaTypeHierarchyIndex of(ToscaServiceModel toscaServiceModel) {
+        synchronized (INDEXES) {
+            ToscaTypeHierarchyIndex index = INDEXES.get(toscaServiceModel);
+            if (index == null || !index.isCurrent(toscaServiceModel)) {
+                index = new ToscaTypeHierarchyIndex(toscaServiceModel);
+                INDEXES.put(toscaServiceModel, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Drops the indexes of the models holding the given service template. To be called after a type of the service
+     * template was modified in place.
+     */
+    public static void invalidate(ServiceTemplate serviceTemplate) {
+        synchronized (INDEXES) {
+            INDEXES.values().removeIf(index -> index.serviceTemplates.contains(serviceTemplate));
+        }
+    }
+
+    private boolean isCurrent(ToscaServiceModel toscaServiceModel) {
+        Map<String, ServiceTemplate> currentServiceTemplates = toscaServiceModel.getServiceTemplates();
+        if (currentServiceTemplates.size() != snapshots.size()) {
+            return false;
+        }
+        for (ServiceTemplateSnapshot snapshot : snapshots) {
+            if (!snapshot.isCurrent(currentServiceTemplates)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    Boolean getTypeOf(ServiceTemplate serviceTemplate, String getTypesMethodName, String type, String typeToMatch) {
+        if (!serviceTemplates.contains(serviceTemplate)) {
+            return null;
+        }
+        return typeOfResults.get(new TypeOfKey(serviceTemplate, getTypesMethodName, type, typeToMatch));
+    }
+
+    void putTypeOf(ServiceTemplate serviceTemplate, String getTypesMethodName, String type, String typeToMatch,
+            boolean typeOf) {
+        if (serviceTemplates.contains(serviceTemplate)) {
+            typeOfResults.put(new TypeOfKey(serviceTemplate, getTypesMethodName, type, typeToMatch), typeOf);
+        }
+    }
+
+    String getImportFileName(ServiceTemplate serviceTemplate, Object importObject,
+            Function<Object, String> importFileNameResolver) {
+        if (!serviceTemplates.contains(serviceTemplate)) {
+            return importFileNameResolver.apply(importObject);
+        }
+        ImportKey key = new ImportKey(serviceTemplate, importObject);
+        String importFileName = importFileNames.get(key);
+        if (importFileName == null) {
+            importFileName = importFileNameResolver.apply(importObject);
+            if (importFileName != null) {
+                importFileNames.put(key, importFileName);
+            }
+        }
+        return importFileName;
+    }
+
+    /**
+     * The identity and size of the imports and types of a service template.
+     */
+    private static final class ServiceTemplateSnapshot {
+
+        private final String name;
+        private final ServiceTemplate serviceTemplate;
+        private final Object[] parts;
+        private final int[] sizes;
+
+        private ServiceTemplateSnapshot(String name, ServiceTemplate serviceTemplate) {
+            this.name = name;
+            this.serviceTemplate = serviceTemplate;
+            this.parts = getParts(serviceTemplate);
+            this.sizes = new int[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                sizes[i] = size(parts[i]);
+            }
+        }
+
+        private boolean isCurrent(Map<String, ServiceTemplate> serviceTemplates) {
+            if (serviceTemplates.get(name) != serviceTemplate) {
+                return false;
+            }
+            Object[] currentParts = getParts(serviceTemplate);
+            for (int i = 0; i < parts.length; i++) {
+                if (currentParts[i] != parts[i] || size(currentParts[i]) != sizes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static Object[] getParts(ServiceTemplate serviceTemplate) {
+            if (serviceTemplate == null) {
+                return new Object[0];
+            }
+            return new Object[] {serviceTemplate.getImports(), serviceTemplate.getInterface_types(),
+                    serviceTemplate.getNode_types(), serviceTemplate.getData_types(),
+                    serviceTemplate.getCapability_types()};
+        }
+
+        private static int size(Object part) {
+            if (part instanceof Map) {
+                return ((Map<?, ?>) part).size();
+            }
+            if (part instanceof Collection) {
+                return ((Collection<?>) part).size();
+            }
+            return part == null ? -1 : 0;
+        }
+    }
+
+    private static final class TypeOfKey {
+
+        private final ServiceTemplate serviceTemplate;
+        private final String getTypesMethodName;
+        private final String type;
+        private final String typeToMatch;
+
+        private TypeOfKey(ServiceTemplate serviceTemplate, String getTypesMethodName, String type,
+                String typeToMatch) {
+            this.serviceTemplate = serviceTemplate;
+            this.getTypesMethodName = getTypesMethodName;
+            this.type = type;
+            this.typeToMatch = typeToMatch;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TypeOfKey typeOfKey = (TypeOfKey) o;
+            return serviceTemplate == typeOfKey.serviceTemplate && getTypesMethodName.equals(
+                    typeOfKey.getTypesMethodName) && Objects.equals(type, typeOfKey.type) && Objects.equals(
+                    typeToMatch, typeOfKey.typeToMatch);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(serviceTemplate), getTypesMethodName, type, typeToMatch);
+        }
+    }
+
+    private static final class ImportKey {
+
+        private final ServiceTemplate serviceTemplate;
+        private final Object importObject;
+
+        private ImportKey(ServiceTemplate serviceTemplate, Object importObject) {
+            this.serviceTemplate = serviceTemplate;
+            this.importObject = importObject;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ImportKey importKey = (ImportKey) o;
+            return serviceTemplate == importKey.serviceTemplate && importObject == importKey.importObject;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(serviceTemplate) + System.identityHashCode(importObject);
+        }
+    }
+}
@@ -962,6 +962,75 @@ public class ToscaAnalyzerServiceImplTest {
                 toscaServiceModelMock));
     }
 
+    @Test
+    public void shouldResolveImportedNdTyAgainAfterItsDerivedFromChanged() {
+        String typeToMatch = ToscaNodeType.CINDER_VOLUME;
+        when(nodeTemplateMock.getType()).thenReturn(typeToMatch);
+        List<Map<String, Import>> imports = new ArrayList<>();
+        Map<String, Import> importMap = new HashMap<>();
+        Import anImport = new Import();
+        anImport.setFile("mainImport");
+        importMap.put("bla bla", anImport);
+        imports.add(importMap);
+        ServiceTemplate mainSt = new ServiceTemplate();
+        mainSt.setImports(imports);
+
+        Map<String, NodeType> stNodeTypes = new HashMap<>();
+        addNodeType(stNodeTypes, ToscaNodeType.NATIVE_COMPUTE, new NodeType());
+        NodeType nodeType = createNodeType(ToscaNodeType.NATIVE_BLOCK_STORAGE);
+        addNodeType(stNodeTypes, typeToMatch, nodeType);
+        ServiceTemplate serviceTemplate = new ServiceTemplate();
+        serviceTemplate.setNode_types(stNodeTypes);
+
+        Map<String, ServiceTemplate> serviceTemplates = new HashMap<>();
+        serviceTemplates.put("testMainServiceTemplate", mainSt);
+        serviceTemplates.put("mainImport", serviceTemplate);
+        when(toscaServiceModelMock.getServiceTemplates()).thenReturn(serviceTemplates);
+
+        assertTrue(toscaAnalyzerService.isTypeOf(nodeTemplateMock, ToscaNodeType.NATIVE_BLOCK_STORAGE, mainSt,
+                toscaServiceModelMock));
+        assertTrue(toscaAnalyzerService.isTypeOf(nodeTemplateMock, ToscaNodeType.NATIVE_BLOCK_STORAGE, mainSt,
+                toscaServiceModelMock));
+
+        nodeType.setDerived_from(ToscaNodeType.NATIVE_COMPUTE);
+        ToscaTypeHierarchyIndex.invalidate(serviceTemplate);
+        assertFalse(toscaAnalyzerService.isTypeOf(nodeTemplateMock, ToscaNodeType.NATIVE_BLOCK_STORAGE, mainSt,
+                toscaServiceModelMock));
+        assertTrue(toscaAnalyzerService.isTypeOf(nodeTemplateMock, ToscaNodeType.NATIVE_COMPUTE, mainSt,
+                toscaServiceModelMock));
+    }
+
+    @Test
+    public void shouldResolveImportedNdTyAddedToTheModelWithoutInvalidation() {
+        String typeToMatch = ToscaNodeType.CINDER_VOLUME;
+        when(nodeTemplateMock.getType()).thenReturn(typeToMatch);
+        List<Map<String, Import>> imports = new ArrayList<>();
+        Map<String, Import> importMap = new HashMap<>();
+        Import anImport = new Import();
+        anImport.setFile("mainImport");
+        importMap.put("bla bla", anImport);
+        imports.add(importMap);
+        ServiceTemplate mainSt = new ServiceTemplate();
+        mainSt.setImports(imports);
+
+        Map<String, NodeType> stNodeTypes = new HashMap<>();
+        addNodeType(stNodeTypes, ToscaNodeType.NATIVE_COMPUTE, new NodeType());
+        ServiceTemplate serviceTemplate = new ServiceTemplate();
+        serviceTemplate.setNode_types(stNodeTypes);
+
+        Map<String, ServiceTemplate> serviceTemplates = new HashMap<>();
+        serviceTemplates.put("testMainServiceTemplate", mainSt);
+        serviceTemplates.put("mainImport", serviceTemplate);
+        when(toscaServiceModelMock.getServiceTemplates()).thenReturn(serviceTemplates);
+
+        assertFalse(toscaAnalyzerService.isTypeOf(nodeTemplateMock, ToscaNodeType.NATIVE_BLOCK_STORAGE, mainSt,
+                toscaServiceModelMock));
+
+        addNodeType(stNodeTypes, typeToMatch, createNodeType(ToscaNodeType.NATIVE_BLOCK_STORAGE));
+        assertTrue(toscaAnalyzerService.isTypeOf(nodeTemplateMock, ToscaNodeType.NATIVE_BLOCK_STORAGE, mainSt,
+                toscaServiceModelMock));
+    }
+
     // not found at all should throw core exception
 
 